@@ -0,0 +1,9 @@
+package com.hireai.ai.dto;
+
+import com.hireai.domain.entity.InterviewQuestion;
+
+public record AnswerBatchItem(
+        Long responseId,
+        InterviewQuestion question,
+        String answerText
+) {}
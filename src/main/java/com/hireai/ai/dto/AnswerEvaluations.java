@@ -0,0 +1,10 @@
+package com.hireai.ai.dto;
+
+import java.util.List;
+
+public record AnswerEvaluations(
+        List<Evaluation> evaluations
+) {
+    public record Evaluation(long answerId, int score, String feedback,
+                             List<String> strengths, List<String> improvements) {}
+}
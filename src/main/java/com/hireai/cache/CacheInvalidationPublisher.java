@@ -0,0 +1,13 @@
+package com.hireai.cache;
+
+/**
+ * Tells other nodes that an entry changed so they drop their L1 copy.
+ */
+@FunctionalInterface
+public interface CacheInvalidationPublisher {
+
+    /**
+     * @param key the changed key, or null when the whole cache was cleared
+     */
+    void publish(String cacheName, Object key);
+}
@@ -0,0 +1,122 @@
+package com.hireai.cache;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Stale-while-revalidate for the caches it is configured for: a hit whose remaining Redis TTL has
+ * dropped below the threshold fraction of the cache's TTL is served as is while a background
+ * thread reloads it. A short Redis lock keeps the nodes from refreshing the same key together,
+ * and a bounded queue drops refreshes rather than piling them up; the entry then just expires.
+ */
+@Slf4j
+public class RefreshAheadPolicy {
+
+    private static final String LOCK_PREFIX = "cache:refresh:";
+    private static final Duration LOCK_TTL = Duration.ofSeconds(30);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, Duration> ttls;
+    private final double threshold;
+    private final Set<String> refreshing = ConcurrentHashMap.newKeySet();
+    private final ThreadPoolExecutor executor;
+
+    /**
+     * @param ttls      Redis TTL of each cache that refreshes ahead; other caches just expire
+     * @param threshold fraction of the TTL left at which a hit triggers a refresh
+     */
+    public RefreshAheadPolicy(RedisTemplate<String, String> redisTemplate, MeterRegistry meterRegistry,
+                              Map<String, Duration> ttls, double threshold, int threads, int queueCapacity) {
+        this.redisTemplate = redisTemplate;
+        this.meterRegistry = meterRegistry;
+        this.ttls = Map.copyOf(ttls);
+        this.threshold = threshold;
+        AtomicInteger counter = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), r -> {
+                    Thread thread = new Thread(r, "cache-refresh-" + counter.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+
+    /**
+     * Expiry of a value written now, or {@code Long.MAX_VALUE} if the cache does not refresh ahead.
+     */
+    public long expiryOfWrite(String cacheName) {
+        Duration ttl = ttls.get(cacheName);
+        return ttl != null ? System.currentTimeMillis() + ttl.toMillis() : Long.MAX_VALUE;
+    }
+
+    /**
+     * Expiry of a value already in Redis, read from its remaining TTL.
+     */
+    public long expiryOfStored(String cacheName, String key) {
+        if (!ttls.containsKey(cacheName)) {
+            return Long.MAX_VALUE;
+        }
+        try {
+            Long remaining = redisTemplate.getExpire(cacheName + "::" + key, TimeUnit.MILLISECONDS);
+            return remaining != null && remaining > 0 ? System.currentTimeMillis() + remaining : Long.MAX_VALUE;
+        } catch (Exception e) {
+            return Long.MAX_VALUE;
+        }
+    }
+
+    public boolean isDue(String cacheName, long expiresAt) {
+        Duration ttl = ttls.get(cacheName);
+        return ttl != null && expiresAt != Long.MAX_VALUE
+                && expiresAt - System.currentTimeMillis() < ttl.toMillis() * threshold;
+    }
+
+    /**
+     * Runs the reload in the background unless this key is already being refreshed here or on
+     * another node.
+     */
+    public void refresh(String cacheName, String key, Reload reload) {
+        String refreshKey = cacheName + "::" + key;
+        if (!refreshing.add(refreshKey)) {
+            return;
+        }
+        try {
+            executor.execute(() -> {
+                try {
+                    Boolean acquired = redisTemplate.opsForValue().setIfAbsent(LOCK_PREFIX + refreshKey, "1", LOCK_TTL);
+                    if (Boolean.TRUE.equals(acquired)) {
+                        reload.run();
+                        meterRegistry.counter("hireai.cache.refresh.ahead", "cache", cacheName, "result", "refreshed").increment();
+                    }
+                } catch (Exception e) {
+                    log.warn("Refresh-ahead of {} failed, entry will expire normally: {}", refreshKey, e.getMessage());
+                    meterRegistry.counter("hireai.cache.refresh.ahead", "cache", cacheName, "result", "failed").increment();
+                } finally {
+                    refreshing.remove(refreshKey);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            refreshing.remove(refreshKey);
+            meterRegistry.counter("hireai.cache.refresh.ahead", "cache", cacheName, "result", "rejected").increment();
+        }
+    }
+
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    @FunctionalInterface
+    public interface Reload {
+        void run() throws Exception;
+    }
+}
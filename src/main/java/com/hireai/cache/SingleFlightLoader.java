@@ -0,0 +1,124 @@
+package com.hireai.cache;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Supplier;
+
+/**
+ * Coalesces concurrent cache misses for the same key into one load. Within a JVM, callers that miss
+ * while a load is running wait for its result. Across nodes, the loading node holds a short Redis
+ * lock; other nodes poll the shared tier until the value appears or the wait runs out, and then
+ * load it themselves so a dead leader only costs one wait.
+ */
+@Slf4j
+public class SingleFlightLoader {
+
+    private static final String LOCK_PREFIX = "cache:flight:";
+
+    private static final RedisScript<Long> UNLOCK_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('del', KEYS[1]) else return 0 end",
+            Long.class);
+
+    private final Map<String, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+    private final RedisTemplate<String, String> redisTemplate;
+    private final MeterRegistry meterRegistry;
+    private final boolean distributed;
+    private final Duration lockTtl;
+    private final long waitMs;
+    private final long pollMs;
+
+    public SingleFlightLoader(RedisTemplate<String, String> redisTemplate, MeterRegistry meterRegistry,
+                              boolean distributed, Duration lockTtl, long waitMs, long pollMs) {
+        this.redisTemplate = redisTemplate;
+        this.meterRegistry = meterRegistry;
+        this.distributed = distributed;
+        this.lockTtl = lockTtl;
+        this.waitMs = waitMs;
+        this.pollMs = pollMs;
+    }
+
+    /**
+     * @param sharedLookup reads the value another node may have stored meanwhile, null if absent
+     * @param loader       computes and stores the value
+     */
+    public Object load(String cacheName, String key, Supplier<Object> sharedLookup,
+                       Callable<Object> loader) throws Exception {
+        String flightKey = cacheName + "::" + key;
+        CompletableFuture<Object> flight = new CompletableFuture<>();
+        CompletableFuture<Object> leader = inFlight.putIfAbsent(flightKey, flight);
+        if (leader != null) {
+            meterRegistry.counter("hireai.cache.coalesced", "cache", cacheName, "scope", "local").increment();
+            try {
+                return leader.get();
+            } catch (ExecutionException e) {
+                if (e.getCause() instanceof Exception cause) {
+                    throw cause;
+                }
+                throw e;
+            }
+        }
+        try {
+            Object value = distributed ? loadClusterWide(cacheName, flightKey, sharedLookup, loader) : loader.call();
+            flight.complete(value);
+            return value;
+        } catch (Exception e) {
+            flight.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(flightKey, flight);
+        }
+    }
+
+    private Object loadClusterWide(String cacheName, String flightKey, Supplier<Object> sharedLookup,
+                                   Callable<Object> loader) throws Exception {
+        String lockKey = LOCK_PREFIX + flightKey;
+        String token = UUID.randomUUID().toString();
+        Boolean acquired;
+        try {
+            acquired = redisTemplate.opsForValue().setIfAbsent(lockKey, token, lockTtl);
+        } catch (Exception e) {
+            log.warn("Single-flight lock unavailable for {}, loading locally: {}", flightKey, e.getMessage());
+            return loader.call();
+        }
+
+        if (Boolean.TRUE.equals(acquired)) {
+            try {
+                Object stored = sharedLookup.get();
+                return stored != null ? stored : loader.call();
+            } finally {
+                try {
+                    redisTemplate.execute(UNLOCK_SCRIPT, List.of(lockKey), token);
+                } catch (Exception e) {
+                    log.warn("Failed to release single-flight lock {}, it will expire: {}", lockKey, e.getMessage());
+                }
+            }
+        }
+
+        long deadline = System.currentTimeMillis() + waitMs;
+        while (System.currentTimeMillis() < deadline) {
+            Thread.sleep(pollMs);
+            Object stored = sharedLookup.get();
+            if (stored != null) {
+                meterRegistry.counter("hireai.cache.coalesced", "cache", cacheName, "scope", "cluster").increment();
+                return stored;
+            }
+            if (!Boolean.TRUE.equals(redisTemplate.hasKey(lockKey))) {
+                break; // the leader finished without storing a value
+            }
+        }
+        meterRegistry.counter("hireai.cache.single.flight.fallthrough", "cache", cacheName).increment();
+        return loader.call();
+    }
+}
@@ -0,0 +1,135 @@
+package com.hireai.cache;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * Binary value serializer for one cache whose value type is known up front. Values are written as
+ * Smile against that type, so no class names are embedded, and deflated when the encoded form is
+ * larger than the threshold. A one-byte header records the encoding; values in any other format
+ * (e.g. entries written by the previous JSON serializer) read as a cache miss and are rewritten.
+ */
+public class SmileCacheSerializer implements RedisSerializer<Object> {
+
+    private static final byte PLAIN = 1;
+    private static final byte DEFLATED = 2;
+
+    private final ObjectMapper smileMapper;
+    private final JavaType valueType;
+    private final int compressThreshold;
+    private final DistributionSummary storedSize;
+    private final DistributionSummary rawSize;
+    private final Timer encodeTimer;
+    private final Timer decodeTimer;
+    private final Counter compressed;
+
+    public SmileCacheSerializer(String cacheName, ObjectMapper smileMapper, JavaType valueType,
+                                int compressThreshold, MeterRegistry meterRegistry) {
+        this.smileMapper = smileMapper;
+        this.valueType = valueType;
+        this.compressThreshold = compressThreshold;
+        this.storedSize = DistributionSummary.builder("hireai.cache.value.size")
+                .baseUnit("bytes").tag("cache", cacheName).tag("stage", "stored").register(meterRegistry);
+        this.rawSize = DistributionSummary.builder("hireai.cache.value.size")
+                .baseUnit("bytes").tag("cache", cacheName).tag("stage", "encoded").register(meterRegistry);
+        this.encodeTimer = meterRegistry.timer("hireai.cache.codec", "cache", cacheName, "op", "encode");
+        this.decodeTimer = meterRegistry.timer("hireai.cache.codec", "cache", cacheName, "op", "decode");
+        this.compressed = meterRegistry.counter("hireai.cache.value.compressed", "cache", cacheName);
+    }
+
+    @Override
+    public byte[] serialize(Object value) throws SerializationException {
+        if (value == null) {
+            return new byte[0];
+        }
+        long start = System.nanoTime();
+        try {
+            byte[] encoded = smileMapper.writerFor(valueType).writeValueAsBytes(value);
+            rawSize.record(encoded.length);
+            byte[] stored = encoded.length > compressThreshold
+                    ? withHeader(DEFLATED, deflate(encoded))
+                    : withHeader(PLAIN, encoded);
+            if (stored[0] == DEFLATED) {
+                compressed.increment();
+            }
+            storedSize.record(stored.length);
+            return stored;
+        } catch (IOException e) {
+            throw new SerializationException("Could not write " + valueType + " as Smile", e);
+        } finally {
+            encodeTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    @Override
+    public Object deserialize(byte[] bytes) throws SerializationException {
+        if (bytes == null || bytes.length == 0 || (bytes[0] != PLAIN && bytes[0] != DEFLATED)) {
+            return null;
+        }
+        long start = System.nanoTime();
+        try {
+            byte[] body = Arrays.copyOfRange(bytes, 1, bytes.length);
+            return smileMapper.readValue(bytes[0] == DEFLATED ? inflate(body) : body, valueType);
+        } catch (IOException | DataFormatException e) {
+            throw new SerializationException("Could not read " + valueType + " from Smile", e);
+        } finally {
+            decodeTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private static byte[] withHeader(byte header, byte[] body) {
+        byte[] out = new byte[body.length + 1];
+        out[0] = header;
+        System.arraycopy(body, 0, out, 1, body.length);
+        return out;
+    }
+
+    private static byte[] deflate(byte[] input) {
+        Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        try {
+            deflater.setInput(input);
+            deflater.finish();
+            ByteArrayOutputStream out = new ByteArrayOutputStream(input.length / 2);
+            byte[] buffer = new byte[4096];
+            while (!deflater.finished()) {
+                out.write(buffer, 0, deflater.deflate(buffer));
+            }
+            return out.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    private static byte[] inflate(byte[] input) throws DataFormatException {
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(input);
+            ByteArrayOutputStream out = new ByteArrayOutputStream(input.length * 3);
+            byte[] buffer = new byte[4096];
+            while (!inflater.finished()) {
+                int n = inflater.inflate(buffer);
+                if (n == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    throw new DataFormatException("Truncated cache value");
+                }
+                out.write(buffer, 0, n);
+            }
+            return out.toByteArray();
+        } finally {
+            inflater.end();
+        }
+    }
+}
@@ -0,0 +1,175 @@
+package com.hireai.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import org.springframework.cache.support.AbstractValueAdaptingCache;
+
+import java.util.concurrent.Callable;
+
+/**
+ * A Caffeine L1 in front of a Redis L2 cache. Reads try L1, then L2 (populating L1 on an L2 hit),
+ * then load, with concurrent loads of one key coalesced by a {@link SingleFlightLoader} and hits
+ * near expiry refreshed in the background per the {@link RefreshAheadPolicy}. Writes and evictions
+ * go to both tiers and are broadcast so other nodes drop their L1 copy; the short L1 TTL bounds
+ * staleness if a broadcast is missed.
+ */
+public class TwoTierCache extends AbstractValueAdaptingCache {
+
+    private final String name;
+    private final Cache<String, LocalEntry> local;
+    private final org.springframework.cache.Cache remote;
+    private final CacheInvalidationPublisher invalidationPublisher;
+    private final SingleFlightLoader singleFlight;
+    private final RefreshAheadPolicy refreshAhead;
+    private final Counter l1Hits;
+    private final Counter l1Misses;
+    private final Counter l2Hits;
+    private final Counter l2Misses;
+
+    public TwoTierCache(String name, Cache<String, LocalEntry> local, org.springframework.cache.Cache remote,
+                        CacheInvalidationPublisher invalidationPublisher, SingleFlightLoader singleFlight,
+                        RefreshAheadPolicy refreshAhead, MeterRegistry meterRegistry) {
+        super(false);
+        this.name = name;
+        this.local = local;
+        this.remote = remote;
+        this.invalidationPublisher = invalidationPublisher;
+        this.singleFlight = singleFlight;
+        this.refreshAhead = refreshAhead;
+        this.l1Hits = meterRegistry.counter("hireai.cache.requests", "cache", name, "tier", "l1", "result", "hit");
+        this.l1Misses = meterRegistry.counter("hireai.cache.requests", "cache", name, "tier", "l1", "result", "miss");
+        this.l2Hits = meterRegistry.counter("hireai.cache.requests", "cache", name, "tier", "l2", "result", "hit");
+        this.l2Misses = meterRegistry.counter("hireai.cache.requests", "cache", name, "tier", "l2", "result", "miss");
+        meterRegistry.gauge("hireai.cache.hit.ratio", Tags.of("cache", name, "tier", "l1"),
+                this, c -> ratio(c.l1Hits, c.l1Misses));
+        meterRegistry.gauge("hireai.cache.hit.ratio", Tags.of("cache", name, "tier", "l2"),
+                this, c -> ratio(c.l2Hits, c.l2Misses));
+        meterRegistry.gauge("hireai.cache.l1.size", Tags.of("cache", name),
+                local, Cache::estimatedSize);
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return local;
+    }
+
+    @Override
+    protected Object lookup(Object key) {
+        LocalEntry entry = lookupEntry(key);
+        return entry != null ? entry.value() : null;
+    }
+
+    /**
+     * Used by {@code @Cacheable(sync = true)}: concurrent misses for the same key share one load,
+     * and a hit close to its Redis expiry is served while the loader refreshes it in the background.
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        LocalEntry cached = lookupEntry(key);
+        if (cached != null) {
+            if (refreshAhead.isDue(name, cached.expiresAt())) {
+                refreshAhead.refresh(name, localKey(key), () -> put(key, valueLoader.call()));
+            }
+            return (T) cached.value();
+        }
+        try {
+            Object value = singleFlight.load(name, localKey(key), () -> {
+                ValueWrapper wrapper = remote.get(key);
+                return wrapper != null ? wrapper.get() : null;
+            }, () -> {
+                T loaded = valueLoader.call();
+                if (loaded != null) {
+                    put(key, loaded);
+                }
+                return loaded;
+            });
+            if (value != null) {
+                local.put(localKey(key), new LocalEntry(value, refreshAhead.expiryOfWrite(name)));
+            }
+            return (T) value;
+        } catch (Exception e) {
+            throw new ValueRetrievalException(key, valueLoader, e);
+        }
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        if (value == null) {
+            evict(key);
+            return;
+        }
+        remote.put(key, value);
+        local.put(localKey(key), new LocalEntry(value, refreshAhead.expiryOfWrite(name)));
+        invalidationPublisher.publish(name, key);
+    }
+
+    @Override
+    public void evict(Object key) {
+        remote.evict(key);
+        local.invalidate(localKey(key));
+        invalidationPublisher.publish(name, key);
+    }
+
+    @Override
+    public void clear() {
+        remote.clear();
+        local.invalidateAll();
+        invalidationPublisher.publish(name, null);
+    }
+
+    /**
+     * Drops an L1 entry (or all of them for a null key) after another node changed it.
+     */
+    void invalidateLocal(String key) {
+        if (key == null) {
+            local.invalidateAll();
+        } else {
+            local.invalidate(key);
+        }
+    }
+
+    /**
+     * L1 keys are strings, like the Redis keys, so a key received in an invalidation message
+     * matches the entry it refers to whatever type the caller used.
+     */
+    private LocalEntry lookupEntry(Object key) {
+        LocalEntry entry = local.getIfPresent(localKey(key));
+        if (entry != null) {
+            l1Hits.increment();
+            return entry;
+        }
+        l1Misses.increment();
+        ValueWrapper wrapper = remote.get(key);
+        if (wrapper == null || wrapper.get() == null) {
+            l2Misses.increment();
+            return null;
+        }
+        l2Hits.increment();
+        entry = new LocalEntry(wrapper.get(), refreshAhead.expiryOfStored(name, localKey(key)));
+        local.put(localKey(key), entry);
+        return entry;
+    }
+
+    private static String localKey(Object key) {
+        return String.valueOf(key);
+    }
+
+    /**
+     * An L1 value with the expiry of its Redis copy, so refresh-ahead can act on L1 hits too.
+     */
+    record LocalEntry(Object value, long expiresAt) {
+    }
+
+    private static double ratio(Counter hits, Counter misses) {
+        double total = hits.count() + misses.count();
+        return total == 0 ? 0 : hits.count() / total;
+    }
+}
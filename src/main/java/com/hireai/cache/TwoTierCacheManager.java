@@ -0,0 +1,95 @@
+package com.hireai.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Wraps every Redis cache in a {@link TwoTierCache} with its own size- and TTL-bounded Caffeine L1,
+ * and keeps the L1s coherent across nodes over a Redis pub/sub channel.
+ */
+@Slf4j
+public class TwoTierCacheManager implements CacheManager, CacheInvalidationPublisher, MessageListener {
+
+    public static final String INVALIDATION_CHANNEL = "cache:invalidation";
+
+    private final RedisCacheManager remoteManager;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final SingleFlightLoader singleFlight;
+    private final RefreshAheadPolicy refreshAhead;
+    private final MeterRegistry meterRegistry;
+    private final long l1MaxSize;
+    private final Duration l1Ttl;
+    private final String nodeId = UUID.randomUUID().toString();
+
+    private final Map<String, TwoTierCache> caches = new ConcurrentHashMap<>();
+
+    public TwoTierCacheManager(RedisCacheManager remoteManager, RedisTemplate<String, String> redisTemplate,
+                               SingleFlightLoader singleFlight, RefreshAheadPolicy refreshAhead,
+                               MeterRegistry meterRegistry,
+                               long l1MaxSize, Duration l1Ttl) {
+        this.remoteManager = remoteManager;
+        this.redisTemplate = redisTemplate;
+        this.singleFlight = singleFlight;
+        this.refreshAhead = refreshAhead;
+        this.meterRegistry = meterRegistry;
+        this.l1MaxSize = l1MaxSize;
+        this.l1Ttl = l1Ttl;
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        TwoTierCache cache = caches.get(name);
+        if (cache != null) {
+            return cache;
+        }
+        Cache remote = remoteManager.getCache(name);
+        if (remote == null) {
+            return null;
+        }
+        return caches.computeIfAbsent(name, n -> new TwoTierCache(n, Caffeine.newBuilder()
+                .maximumSize(l1MaxSize)
+                .expireAfterWrite(l1Ttl)
+                .<String, TwoTierCache.LocalEntry>build(), remote, this, singleFlight, refreshAhead, meterRegistry));
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return remoteManager.getCacheNames();
+    }
+
+    @Override
+    public void publish(String cacheName, Object key) {
+        try {
+            String message = nodeId + "|" + cacheName + "|" + (key != null ? key : "");
+            redisTemplate.convertAndSend(INVALIDATION_CHANNEL, message);
+        } catch (Exception e) {
+            log.warn("Failed to broadcast invalidation of {}::{}: {}", cacheName, key, e.getMessage());
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String[] parts = new String(message.getBody(), StandardCharsets.UTF_8).split("\\|", 3);
+        if (parts.length < 3 || nodeId.equals(parts[0])) {
+            return;
+        }
+        TwoTierCache cache = caches.get(parts[1]);
+        if (cache != null) {
+            cache.invalidateLocal(parts[2].isEmpty() ? null : parts[2]);
+        }
+    }
+}
@@ -1,17 +1,26 @@
 package com.hireai.config;
 
 import org.springframework.amqp.core.*;
+import org.springframework.amqp.rabbit.config.AbstractRabbitListenerContainerFactory;
+import org.springframework.amqp.rabbit.config.DirectRabbitListenerContainerFactory;
 import org.springframework.amqp.rabbit.config.SimpleRabbitListenerContainerFactory;
 import org.springframework.amqp.rabbit.connection.ConnectionFactory;
 import org.springframework.amqp.rabbit.core.RabbitTemplate;
 import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
 import org.springframework.amqp.support.converter.MessageConverter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
 import org.springframework.retry.backoff.ExponentialBackOffPolicy;
 import org.springframework.retry.policy.SimpleRetryPolicy;
 import org.springframework.retry.support.RetryTemplate;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
 @Configuration
 public class RabbitMQConfig {
 
@@ -29,6 +38,15 @@ public class RabbitMQConfig {
     public static final String INTERVIEW_EVALUATE_QUEUE = "interview.evaluate";
     public static final String INTERVIEW_EVALUATE_DLQ = "interview.evaluate.dlq";
     public static final String NOTIFICATION_QUEUE = "notification";
+    public static final String NOTIFICATION_DLQ = "notification.dlq";
+
+    // Work queue -> the DLQ its failures are finally parked in
+    public static final Map<String, String> PARKING_QUEUES = Map.of(
+            RESUME_PARSE_QUEUE, RESUME_PARSE_DLQ,
+            CANDIDATE_SCORE_QUEUE, CANDIDATE_SCORE_DLQ,
+            APPLICATION_SCREEN_QUEUE, APPLICATION_SCREEN_DLQ,
+            INTERVIEW_EVALUATE_QUEUE, INTERVIEW_EVALUATE_DLQ,
+            NOTIFICATION_QUEUE, NOTIFICATION_DLQ);
 
     // Routing keys
     public static final String RESUME_PARSE_KEY = "resume.parse";
@@ -37,6 +55,28 @@ public class RabbitMQConfig {
     public static final String INTERVIEW_EVALUATE_KEY = "interview.evaluate";
     public static final String NOTIFICATION_KEY = "notification.#";
 
+    // Listener container ids, shared by the single and batch variant of each consumer
+    public static final String RESUME_PARSE_LISTENER = "resumeParse";
+    public static final String CANDIDATE_SCORE_LISTENER = "candidateScore";
+    public static final String APPLICATION_SCREEN_LISTENER = "applicationScreen";
+    public static final String INTERVIEW_EVALUATE_LISTENER = "interviewEvaluate";
+    public static final String NOTIFICATION_LISTENER = "notification";
+    public static final String RESUME_PARSE_PARTITION_LISTENER = "resumeParsePartitions";
+    public static final String CANDIDATE_SCORE_PARTITION_LISTENER = "candidateScorePartitions";
+    public static final String APPLICATION_SCREEN_PARTITION_LISTENER = "applicationScreenPartitions";
+
+    // Queues that can be split into consistent-hash partitions (app.messaging.partitioning.enabled)
+    public static final List<String> PARTITIONED_QUEUES = List.of(
+            RESUME_PARSE_QUEUE, CANDIDATE_SCORE_QUEUE, APPLICATION_SCREEN_QUEUE);
+
+    // Queues that retry through delay tiers before parking in their DLQ
+    public static final List<String> RETRYABLE_QUEUES = List.of(
+            RESUME_PARSE_QUEUE, CANDIDATE_SCORE_QUEUE, APPLICATION_SCREEN_QUEUE, INTERVIEW_EVALUATE_QUEUE);
+    public static final String RETRY_ATTEMPT_HEADER = "x-retry-attempt";
+
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreadsEnabled;
+
     // --- Exchanges ---
 
     @Bean
@@ -105,7 +145,16 @@ public class RabbitMQConfig {
 
     @Bean
     public Queue notificationQueue() {
-        return QueueBuilder.durable(NOTIFICATION_QUEUE).build();
+        return QueueBuilder.durable(NOTIFICATION_QUEUE)
+                .withArgument("x-dead-letter-exchange", HIRING_DLX)
+                .withArgument("x-dead-letter-routing-key", NOTIFICATION_QUEUE)
+                .build();
+    }
+
+    // Rejected notification deliveries, and digests that keep failing to send, are parked here
+    @Bean
+    public Queue notificationDlq() {
+        return QueueBuilder.durable(NOTIFICATION_DLQ).build();
     }
 
     // --- Bindings: main exchange -> queues ---
@@ -157,6 +206,89 @@ public class RabbitMQConfig {
         return BindingBuilder.bind(interviewEvaluateDlq()).to(deadLetterExchange()).with(INTERVIEW_EVALUATE_QUEUE);
     }
 
+    @Bean
+    public Binding notificationDlqBinding() {
+        return BindingBuilder.bind(notificationDlq()).to(deadLetterExchange()).with(NOTIFICATION_QUEUE);
+    }
+
+    // --- Retry tiers: <queue>.retry.<delay> -> (TTL expiry) -> <queue> ---
+
+    /**
+     * One delay queue per retryable queue and tier. Messages sit there for the tier's TTL and are
+     * then dead-lettered back to the work queue through the default exchange.
+     */
+    @Bean
+    public Declarables retryTierQueues(@Value("${app.messaging.retry.delays-ms:10000,60000,600000}") long[] delaysMs) {
+        List<Declarable> queues = new ArrayList<>();
+        for (String queue : RETRYABLE_QUEUES) {
+            for (long delayMs : delaysMs) {
+                queues.add(QueueBuilder.durable(retryQueueName(queue, delayMs))
+                        .ttl((int) delayMs)
+                        .deadLetterExchange("")
+                        .deadLetterRoutingKey(queue)
+                        .build());
+            }
+        }
+        return new Declarables(queues);
+    }
+
+    public static String retryQueueName(String queue, long delayMs) {
+        String suffix;
+        if (delayMs % 60_000 == 0) suffix = (delayMs / 60_000) + "m";
+        else if (delayMs % 1000 == 0) suffix = (delayMs / 1000) + "s";
+        else suffix = delayMs + "ms";
+        return queue + ".retry." + suffix;
+    }
+
+    public static String parkingQueueName(String queue) {
+        String dlq = PARKING_QUEUES.get(queue);
+        if (dlq == null) {
+            throw new IllegalArgumentException("No DLQ for queue: " + queue);
+        }
+        return dlq;
+    }
+
+    // --- Partitions: <queue>.partitioned (x-consistent-hash) -> <queue>.p0..pN-1 ---
+
+    /**
+     * Per-queue consistent-hash exchanges and their partition queues. Producers publish with the
+     * partition key (candidateId or jobId) as routing key, so one entity always lands on the same
+     * partition. Single-active-consumer keeps one consumer per partition while ownership moves
+     * between nodes. Retries return through the shared work queue.
+     */
+    @Bean
+    @ConditionalOnProperty(name = "app.messaging.partitioning.enabled", havingValue = "true")
+    public Declarables partitionTopology(@Value("${app.messaging.partitioning.partitions:8}") int partitions) {
+        List<Declarable> declarables = new ArrayList<>();
+        for (String queue : PARTITIONED_QUEUES) {
+            CustomExchange exchange = new CustomExchange(partitionExchangeName(queue), "x-consistent-hash", true, false);
+            declarables.add(exchange);
+            for (String name : partitionQueueNames(queue, partitions)) {
+                Queue partition = QueueBuilder.durable(name)
+                        .deadLetterExchange(HIRING_DLX)
+                        .deadLetterRoutingKey(queue)
+                        .singleActiveConsumer()
+                        .build();
+                declarables.add(partition);
+                // Routing key is the bucket weight for the consistent-hash exchange
+                declarables.add(BindingBuilder.bind(partition).to(exchange).with("1").noargs());
+            }
+        }
+        return new Declarables(declarables);
+    }
+
+    public static String partitionExchangeName(String queue) {
+        return queue + ".partitioned";
+    }
+
+    public static String[] partitionQueueNames(String queue, int partitions) {
+        String[] names = new String[partitions];
+        for (int i = 0; i < partitions; i++) {
+            names[i] = queue + ".p" + i;
+        }
+        return names;
+    }
+
     // --- Message converter & template ---
 
     @Bean
@@ -191,6 +323,79 @@ public class RabbitMQConfig {
         factory.setAcknowledgeMode(AcknowledgeMode.MANUAL);
         factory.setPrefetchCount(5);
         factory.setDefaultRequeueRejected(false);
+        applyListenerExecutor(factory, "rabbit-");
         return factory;
     }
+
+    /**
+     * Container for partition queues: one consumer per queue, so each partition is processed in
+     * order, and queues can be added or removed at runtime as ownership changes.
+     */
+    @Bean
+    public DirectRabbitListenerContainerFactory partitionContainerFactory(ConnectionFactory connectionFactory) {
+        DirectRabbitListenerContainerFactory factory = new DirectRabbitListenerContainerFactory();
+        factory.setConnectionFactory(connectionFactory);
+        factory.setMessageConverter(jsonMessageConverter());
+        factory.setAcknowledgeMode(AcknowledgeMode.MANUAL);
+        factory.setConsumersPerQueue(1);
+        factory.setPrefetchCount(5);
+        factory.setDefaultRequeueRejected(false);
+        applyListenerExecutor(factory, "rabbit-partition-");
+        return factory;
+    }
+
+    /**
+     * Batch container for interview.evaluate: delivers up to batch-size messages, or whatever
+     * arrived within batch-max-wait-ms, to a single listener call. Messages are still acked individually.
+     */
+    @Bean
+    public SimpleRabbitListenerContainerFactory interviewEvalBatchContainerFactory(
+            ConnectionFactory connectionFactory,
+            @Value("${app.messaging.interview-eval.batch-size:10}") int batchSize,
+            @Value("${app.messaging.interview-eval.batch-max-wait-ms:2000}") long batchMaxWaitMs) {
+        return batchContainerFactory(connectionFactory, batchSize, batchMaxWaitMs, "rabbit-eval-batch-");
+    }
+
+    @Bean
+    public SimpleRabbitListenerContainerFactory candidateScoreBatchContainerFactory(
+            ConnectionFactory connectionFactory,
+            @Value("${app.messaging.candidate-score.batch-size:20}") int batchSize,
+            @Value("${app.messaging.candidate-score.batch-max-wait-ms:1000}") long batchMaxWaitMs) {
+        return batchContainerFactory(connectionFactory, batchSize, batchMaxWaitMs, "rabbit-score-batch-");
+    }
+
+    @Bean
+    public SimpleRabbitListenerContainerFactory notificationBatchContainerFactory(
+            ConnectionFactory connectionFactory,
+            @Value("${app.messaging.notification.batch-size:100}") int batchSize,
+            @Value("${app.messaging.notification.batch-max-wait-ms:500}") long batchMaxWaitMs) {
+        return batchContainerFactory(connectionFactory, batchSize, batchMaxWaitMs, "rabbit-notify-batch-");
+    }
+
+    private SimpleRabbitListenerContainerFactory batchContainerFactory(ConnectionFactory connectionFactory,
+                                                                       int batchSize, long batchMaxWaitMs,
+                                                                       String threadNamePrefix) {
+        SimpleRabbitListenerContainerFactory factory = new SimpleRabbitListenerContainerFactory();
+        factory.setConnectionFactory(connectionFactory);
+        factory.setMessageConverter(jsonMessageConverter());
+        factory.setAcknowledgeMode(AcknowledgeMode.MANUAL);
+        factory.setDefaultRequeueRejected(false);
+        factory.setBatchListener(true);
+        factory.setConsumerBatchEnabled(true);
+        factory.setBatchSize(batchSize);
+        factory.setBatchReceiveTimeout(batchMaxWaitMs);
+        factory.setPrefetchCount(batchSize);
+        applyListenerExecutor(factory, threadNamePrefix);
+        return factory;
+    }
+
+    /**
+     * Boot only applies virtual threads to listener factories it builds itself, so
+     * our custom factories opt in explicitly when spring.threads.virtual.enabled is set.
+     */
+    private void applyListenerExecutor(AbstractRabbitListenerContainerFactory<?> factory, String threadNamePrefix) {
+        if (virtualThreadsEnabled) {
+            factory.setTaskExecutor(new VirtualThreadTaskExecutor(threadNamePrefix));
+        }
+    }
 }
@@ -1,9 +1,19 @@
 package com.hireai.config;
 
 import com.fasterxml.jackson.annotation.JsonTypeInfo;
+import com.fasterxml.jackson.databind.JavaType;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.jsontype.impl.LaissezFaireSubTypeValidator;
-import org.springframework.cache.CacheManager;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.hireai.cache.RefreshAheadPolicy;
+import com.hireai.cache.SingleFlightLoader;
+import com.hireai.cache.SmileCacheSerializer;
+import com.hireai.cache.TwoTierCacheManager;
+import com.hireai.domain.dto.response.DashboardStatsResponse;
+import com.hireai.domain.dto.response.JobResponse;
+import com.hireai.domain.dto.response.MatchResultResponse;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -11,18 +21,28 @@ import org.springframework.data.redis.cache.RedisCacheConfiguration;
 import org.springframework.data.redis.cache.RedisCacheManager;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.RedisSerializationContext;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
 import java.time.Duration;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 @Configuration
 @EnableCaching
 public class RedisConfig {
 
+    private static final Map<String, Duration> CACHE_TTLS = Map.of(
+            "dashboardStats", Duration.ofMinutes(5),
+            "topCandidates", Duration.ofMinutes(30),
+            "recommendedJobs", Duration.ofMinutes(30),
+            "jobById", Duration.ofMinutes(15));
+
     @Bean
     public RedisTemplate<String, String> redisTemplate(RedisConnectionFactory connectionFactory) {
         RedisTemplate<String, String> template = new RedisTemplate<>();
@@ -34,8 +54,24 @@ public class RedisConfig {
         return template;
     }
 
+    /**
+     * Caffeine L1 per cache in front of the Redis caches below; L1 TTL stays well under the Redis
+     * TTLs, and changes are broadcast on {@link TwoTierCacheManager#INVALIDATION_CHANNEL}. Misses in
+     * {@code @Cacheable(sync = true)} methods are coalesced per key, across nodes unless disabled.
+     */
     @Bean
-    public CacheManager cacheManager(RedisConnectionFactory connectionFactory) {
+    public TwoTierCacheManager cacheManager(RedisConnectionFactory connectionFactory,
+                                           RedisTemplate<String, String> redisTemplate,
+                                           RefreshAheadPolicy refreshAheadPolicy,
+                                           MeterRegistry meterRegistry,
+                                           @Value("${app.cache.l1.max-size:1000}") long l1MaxSize,
+                                           @Value("${app.cache.l1.ttl-seconds:60}") long l1TtlSeconds,
+                                           @Value("${app.cache.serialization.format:smile}") String format,
+                                           @Value("${app.cache.serialization.compress-threshold-bytes:1024}") int compressThreshold,
+                                           @Value("${app.cache.single-flight.distributed:true}") boolean distributedSingleFlight,
+                                           @Value("${app.cache.single-flight.lock-ttl-ms:10000}") long singleFlightLockTtlMs,
+                                           @Value("${app.cache.single-flight.wait-ms:5000}") long singleFlightWaitMs,
+                                           @Value("${app.cache.single-flight.poll-ms:50}") long singleFlightPollMs) {
         ObjectMapper mapper = new ObjectMapper();
         mapper.findAndRegisterModules(); // auto-discovers JavaTimeModule etc.
         mapper.activateDefaultTyping(
@@ -51,15 +87,63 @@ public class RedisConfig {
                 .disableCachingNullValues()
                 .entryTtl(Duration.ofMinutes(15));
 
+        // Caches with a known value type are stored as untyped Smile (optionally deflated) instead of
+        // JSON carrying class names on every value; "json" keeps the typed JSON format everywhere
+        ObjectMapper smileMapper = new ObjectMapper(new SmileFactory());
+        smileMapper.findAndRegisterModules();
+        boolean smile = "smile".equalsIgnoreCase(format);
+        CacheValueCodec codec = (name, type, config) -> !smile ? config : config.serializeValuesWith(
+                RedisSerializationContext.SerializationPair.fromSerializer(
+                        new SmileCacheSerializer(name, smileMapper, type, compressThreshold, meterRegistry)));
+        JavaType matchList = smileMapper.getTypeFactory().constructCollectionType(List.class, MatchResultResponse.class);
+
         Map<String, RedisCacheConfiguration> cacheConfigs = new HashMap<>();
-        cacheConfigs.put("dashboardStats", defaultConfig.entryTtl(Duration.ofMinutes(5)));
-        cacheConfigs.put("topCandidates", defaultConfig.entryTtl(Duration.ofMinutes(30)));
-        cacheConfigs.put("recommendedJobs", defaultConfig.entryTtl(Duration.ofMinutes(30)));
-        cacheConfigs.put("jobById", defaultConfig.entryTtl(Duration.ofMinutes(15)));
+        cacheConfigs.put("dashboardStats", codec.apply("dashboardStats",
+                smileMapper.constructType(DashboardStatsResponse.class), defaultConfig.entryTtl(CACHE_TTLS.get("dashboardStats"))));
+        cacheConfigs.put("topCandidates", codec.apply("topCandidates", matchList, defaultConfig.entryTtl(CACHE_TTLS.get("topCandidates"))));
+        cacheConfigs.put("recommendedJobs", codec.apply("recommendedJobs", matchList, defaultConfig.entryTtl(CACHE_TTLS.get("recommendedJobs"))));
+        cacheConfigs.put("jobById", codec.apply("jobById",
+                smileMapper.constructType(JobResponse.class), defaultConfig.entryTtl(CACHE_TTLS.get("jobById"))));
 
-        return RedisCacheManager.builder(connectionFactory)
+        RedisCacheManager redisCacheManager = RedisCacheManager.builder(connectionFactory)
                 .cacheDefaults(defaultConfig)
                 .withInitialCacheConfigurations(cacheConfigs)
                 .build();
+        redisCacheManager.afterPropertiesSet();
+
+        SingleFlightLoader singleFlight = new SingleFlightLoader(redisTemplate, meterRegistry, distributedSingleFlight,
+                Duration.ofMillis(singleFlightLockTtlMs), singleFlightWaitMs, singleFlightPollMs);
+
+        return new TwoTierCacheManager(redisCacheManager, redisTemplate, singleFlight, refreshAheadPolicy,
+                meterRegistry, l1MaxSize, Duration.ofSeconds(l1TtlSeconds));
+    }
+
+    /**
+     * Background refresh of hot entries close to expiry, for the configured caches only.
+     */
+    @Bean(destroyMethod = "shutdown")
+    public RefreshAheadPolicy refreshAheadPolicy(RedisTemplate<String, String> redisTemplate,
+                                                 MeterRegistry meterRegistry,
+                                                 @Value("${app.cache.refresh-ahead.caches:}") Set<String> caches,
+                                                 @Value("${app.cache.refresh-ahead.threshold:0.2}") double threshold,
+                                                 @Value("${app.cache.refresh-ahead.threads:2}") int threads,
+                                                 @Value("${app.cache.refresh-ahead.queue-capacity:100}") int queueCapacity) {
+        Map<String, Duration> ttls = new HashMap<>(CACHE_TTLS);
+        ttls.keySet().retainAll(caches);
+        return new RefreshAheadPolicy(redisTemplate, meterRegistry, ttls, threshold, threads, queueCapacity);
+    }
+
+    @FunctionalInterface
+    private interface CacheValueCodec {
+        RedisCacheConfiguration apply(String cacheName, JavaType valueType, RedisCacheConfiguration config);
+    }
+
+    @Bean
+    public RedisMessageListenerContainer cacheInvalidationListenerContainer(RedisConnectionFactory connectionFactory,
+                                                                           TwoTierCacheManager cacheManager) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(cacheManager, new ChannelTopic(TwoTierCacheManager.INVALIDATION_CHANNEL));
+        return container;
     }
 }
@@ -44,7 +44,8 @@ public class SwaggerConfig {
                         new Tag().name("Applications").description("Apply to jobs, track status, recruiter pipeline management"),
                         new Tag().name("Interviews").description("AI-generated interview questions with real-time evaluation"),
                         new Tag().name("Matching").description("Semantic job matching using pgvector cosine similarity + AI explanations"),
-                        new Tag().name("Dashboard").description("Recruiter pipeline view and candidate status dashboard")
+                        new Tag().name("Dashboard").description("Recruiter pipeline view and candidate status dashboard"),
+                        new Tag().name("Admin").description("Dead-letter queue inspection and rate-controlled replay")
                 ));
     }
 }
@@ -0,0 +1,48 @@
+package com.hireai.controller;
+
+import com.hireai.domain.dto.request.DlqReplayRequest;
+import com.hireai.domain.dto.response.ApiResponse;
+import com.hireai.domain.dto.response.DlqReplayResponse;
+import com.hireai.service.DeadLetterReplayService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/v1/admin")
+@RequiredArgsConstructor
+@PreAuthorize("hasRole('ADMIN')")
+@Tag(name = "Admin", description = "Operational tooling")
+public class AdminController {
+
+    private final DeadLetterReplayService deadLetterReplayService;
+
+    @GetMapping("/dlq")
+    @Operation(summary = "Get the depth of every dead-letter queue")
+    public ResponseEntity<ApiResponse<Map<String, Long>>> getDlqDepths() {
+        return ResponseEntity.ok(ApiResponse.ok(deadLetterReplayService.getDepths()));
+    }
+
+    @PostMapping("/dlq/{queue}/replay")
+    @Operation(summary = "Replay parked messages of a queue at a controlled rate")
+    public ResponseEntity<ApiResponse<DlqReplayResponse>> replay(
+            @PathVariable String queue,
+            @Valid @RequestBody DlqReplayRequest request) {
+        DlqReplayResponse response = deadLetterReplayService.startReplay(queue, request);
+        return ResponseEntity.status(HttpStatus.ACCEPTED)
+                .body(ApiResponse.ok("Replay started", response));
+    }
+
+    @GetMapping("/dlq/replays/{id}")
+    @Operation(summary = "Get progress of a DLQ replay")
+    public ResponseEntity<ApiResponse<DlqReplayResponse>> getReplay(@PathVariable String id) {
+        return ResponseEntity.ok(ApiResponse.ok(deadLetterReplayService.getReplay(id)));
+    }
+}
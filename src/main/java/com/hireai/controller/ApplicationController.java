@@ -4,6 +4,7 @@ import com.hireai.domain.dto.request.ApplicationRequest;
 import com.hireai.domain.dto.request.StatusUpdateRequest;
 import com.hireai.domain.dto.response.ApiResponse;
 import com.hireai.domain.dto.response.ApplicationResponse;
+import com.hireai.domain.dto.response.CursorPageResponse;
 import com.hireai.domain.entity.User;
 import com.hireai.security.SecurityUtils;
 import com.hireai.service.ApplicationService;
@@ -19,8 +20,6 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.List;
-
 @RestController
 @RequestMapping("/api/v1/applications")
 @RequiredArgsConstructor
@@ -50,6 +49,18 @@ public class ApplicationController {
         return ResponseEntity.ok(ApiResponse.ok(applicationService.listApplications(status, pageable)));
     }
 
+    @GetMapping("/scroll")
+    @PreAuthorize("hasRole('RECRUITER')")
+    @Operation(summary = "List applications newest first with cursor pagination")
+    public ResponseEntity<ApiResponse<CursorPageResponse<ApplicationResponse>>> scrollApplications(
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "false") boolean includeTotal) {
+        return ResponseEntity.ok(ApiResponse.ok(
+                applicationService.scrollApplications(status, cursor, size, includeTotal)));
+    }
+
     @GetMapping("/{id}")
     @Operation(summary = "Get application details")
     public ResponseEntity<ApiResponse<ApplicationResponse>> getApplication(@PathVariable Long id) {
@@ -70,15 +81,18 @@ public class ApplicationController {
     @GetMapping("/my")
     @PreAuthorize("hasRole('CANDIDATE')")
     @Operation(summary = "Get my applications")
-    public ResponseEntity<ApiResponse<List<ApplicationResponse>>> getMyApplications() {
+    public ResponseEntity<ApiResponse<Page<ApplicationResponse>>> getMyApplications(
+            @PageableDefault(size = 20) Pageable pageable) {
         User user = securityUtils.getCurrentUser();
-        return ResponseEntity.ok(ApiResponse.ok(applicationService.getMyApplications(user)));
+        return ResponseEntity.ok(ApiResponse.ok(applicationService.getMyApplications(user, pageable)));
     }
 
     @GetMapping("/job/{jobId}")
     @PreAuthorize("hasRole('RECRUITER')")
     @Operation(summary = "Get applications for a job")
-    public ResponseEntity<ApiResponse<List<ApplicationResponse>>> getJobApplications(@PathVariable Long jobId) {
-        return ResponseEntity.ok(ApiResponse.ok(applicationService.getJobApplications(jobId)));
+    public ResponseEntity<ApiResponse<Page<ApplicationResponse>>> getJobApplications(
+            @PathVariable Long jobId,
+            @PageableDefault(size = 20) Pageable pageable) {
+        return ResponseEntity.ok(ApiResponse.ok(applicationService.getJobApplications(jobId, pageable)));
     }
 }
@@ -3,17 +3,21 @@ package com.hireai.controller;
 import com.hireai.domain.dto.response.ApiResponse;
 import com.hireai.domain.dto.response.CandidateDashboardResponse;
 import com.hireai.domain.dto.response.DashboardStatsResponse;
+import com.hireai.domain.dto.response.FunnelTrendResponse;
 import com.hireai.domain.dto.response.RecruiterDashboardResponse;
 import com.hireai.domain.entity.User;
 import com.hireai.security.SecurityUtils;
 import com.hireai.service.DashboardService;
+import com.hireai.service.FunnelService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 @RestController
@@ -23,6 +27,7 @@ import org.springframework.web.bind.annotation.RestController;
 public class DashboardController {
 
     private final DashboardService dashboardService;
+    private final FunnelService funnelService;
     private final SecurityUtils securityUtils;
 
     @GetMapping("/stats")
@@ -39,6 +44,27 @@ public class DashboardController {
         return ResponseEntity.ok(ApiResponse.ok(dashboardService.getRecruiterDashboard()));
     }
 
+    @GetMapping("/trends/recruiter")
+    @PreAuthorize("hasRole('RECRUITER')")
+    @Operation(summary = "Get hiring funnel trends across the recruiter's jobs")
+    public ResponseEntity<ApiResponse<FunnelTrendResponse>> getRecruiterTrends(
+            @RequestParam(defaultValue = "DAY") FunnelService.TrendGranularity granularity,
+            @RequestParam(defaultValue = "90") int days) {
+        User user = securityUtils.getCurrentUser();
+        return ResponseEntity.ok(ApiResponse.ok(funnelService.recruiterTrends(user, granularity, days)));
+    }
+
+    @GetMapping("/trends/job/{jobId}")
+    @PreAuthorize("hasRole('RECRUITER')")
+    @Operation(summary = "Get hiring funnel trends for a job")
+    public ResponseEntity<ApiResponse<FunnelTrendResponse>> getJobTrends(
+            @PathVariable Long jobId,
+            @RequestParam(defaultValue = "DAY") FunnelService.TrendGranularity granularity,
+            @RequestParam(defaultValue = "90") int days) {
+        User user = securityUtils.getCurrentUser();
+        return ResponseEntity.ok(ApiResponse.ok(funnelService.jobTrends(jobId, user, granularity, days)));
+    }
+
     @GetMapping("/candidate")
     @PreAuthorize("hasRole('CANDIDATE')")
     @Operation(summary = "Get candidate application status dashboard")
@@ -3,6 +3,7 @@ package com.hireai.controller;
 import com.hireai.domain.dto.request.JobCreateRequest;
 import com.hireai.domain.dto.request.JobUpdateRequest;
 import com.hireai.domain.dto.response.ApiResponse;
+import com.hireai.domain.dto.response.CursorPageResponse;
 import com.hireai.domain.dto.response.JobResponse;
 import com.hireai.domain.enums.JobStatus;
 import com.hireai.security.SecurityUtils;
@@ -46,6 +47,17 @@ public class JobController {
         return ResponseEntity.ok(ApiResponse.ok(jobService.getJobs(status, keyword, pageable)));
     }
 
+    @GetMapping("/scroll")
+    @Operation(summary = "List jobs newest first with cursor pagination")
+    public ResponseEntity<ApiResponse<CursorPageResponse<JobResponse>>> scrollJobs(
+            @RequestParam(required = false) JobStatus status,
+            @RequestParam(required = false) String keyword,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "false") boolean includeTotal) {
+        return ResponseEntity.ok(ApiResponse.ok(jobService.scrollJobs(status, keyword, cursor, size, includeTotal)));
+    }
+
     @GetMapping("/{id}")
     @Operation(summary = "Get job by ID")
     public ResponseEntity<ApiResponse<JobResponse>> getJob(@PathVariable Long id) {
@@ -1,12 +1,16 @@
 package com.hireai.controller;
 
 import com.hireai.domain.dto.response.ApiResponse;
+import com.hireai.domain.dto.response.BulkIngestionResponse;
 import com.hireai.domain.dto.response.ResumeResponse;
 import com.hireai.security.SecurityUtils;
+import com.hireai.service.BulkResumeIngestionService;
 import com.hireai.service.ResumeService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
@@ -14,6 +18,7 @@ import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.io.IOException;
 import java.util.List;
 import java.util.Map;
 
@@ -24,6 +29,7 @@ import java.util.Map;
 public class ResumeController {
 
     private final ResumeService resumeService;
+    private final BulkResumeIngestionService bulkIngestionService;
     private final SecurityUtils securityUtils;
 
     @PostMapping(value = "/upload", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
@@ -35,6 +41,27 @@ public class ResumeController {
                 .body(ApiResponse.ok("Resume uploaded successfully", response));
     }
 
+    @PostMapping("/bulk")
+    @PreAuthorize("hasRole('RECRUITER') or hasRole('ADMIN')")
+    @Operation(summary = "Bulk-ingest a ZIP or tar(.gz) archive of resumes sent as the raw request body")
+    public ResponseEntity<ApiResponse<BulkIngestionResponse>> bulkUpload(
+            HttpServletRequest request,
+            @RequestHeader(value = HttpHeaders.CONTENT_TYPE, required = false) String contentType,
+            @RequestParam(required = false) String format) throws IOException {
+        BulkResumeIngestionService.ArchiveFormat archiveFormat =
+                BulkResumeIngestionService.ArchiveFormat.resolve(format, contentType);
+        BulkIngestionResponse response = bulkIngestionService.ingest(request.getInputStream(), archiveFormat);
+        return ResponseEntity.status(HttpStatus.ACCEPTED)
+                .body(ApiResponse.ok("Archive received, resumes are being processed", response));
+    }
+
+    @GetMapping("/bulk/{id}")
+    @PreAuthorize("hasRole('RECRUITER') or hasRole('ADMIN')")
+    @Operation(summary = "Get progress of a bulk ingestion")
+    public ResponseEntity<ApiResponse<BulkIngestionResponse>> getBulkUpload(@PathVariable String id) {
+        return ResponseEntity.ok(ApiResponse.ok(bulkIngestionService.getJob(id)));
+    }
+
     @GetMapping("/{id}")
     @Operation(summary = "Get resume details by ID")
     public ResponseEntity<ApiResponse<ResumeResponse>> getResume(@PathVariable Long id) {
@@ -0,0 +1,13 @@
+package com.hireai.domain.dto.projection;
+
+import com.hireai.domain.enums.ApplicationStatus;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * The columns an application list shows, read straight from the applications row: associations
+ * come as foreign keys and the screening notes are left out, so a page is one narrow query.
+ */
+public record ApplicationSummary(Long id, Long jobId, Long candidateId, Long resumeId, ApplicationStatus status,
+                                 BigDecimal aiMatchScore, LocalDateTime createdAt, LocalDateTime updatedAt) {}
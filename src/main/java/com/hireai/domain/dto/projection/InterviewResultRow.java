@@ -0,0 +1,14 @@
+package com.hireai.domain.dto.projection;
+
+import com.hireai.domain.enums.InterviewStatus;
+import com.hireai.domain.enums.QuestionCategory;
+
+import java.math.BigDecimal;
+
+/**
+ * One question of an interview result with the interview's own columns repeated on every row and
+ * the question's latest response, if any; the response columns are null for unanswered questions.
+ */
+public record InterviewResultRow(Long interviewId, InterviewStatus interviewStatus, BigDecimal overallScore,
+                                 String aiRecommendation, Long questionId, QuestionCategory category,
+                                 Long responseId, BigDecimal aiScore, String aiFeedback) {}
@@ -0,0 +1,23 @@
+package com.hireai.domain.dto.request;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data @NoArgsConstructor @AllArgsConstructor
+public class DlqReplayRequest {
+
+    @Min(value = 1, message = "maxMessages must be at least 1")
+    private int maxMessages = 100;
+
+    @Min(value = 1, message = "ratePerSecond must be at least 1")
+    @Max(value = 1000, message = "ratePerSecond must be at most 1000")
+    private int ratePerSecond = 10;
+
+    /** Optional payload field to filter on, e.g. "jobId"; replays everything when blank */
+    private String field;
+
+    private String value;
+}
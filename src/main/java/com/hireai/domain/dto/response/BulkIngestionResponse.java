@@ -0,0 +1,25 @@
+package com.hireai.domain.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data @NoArgsConstructor @AllArgsConstructor @Builder
+public class BulkIngestionResponse {
+
+    private String id;
+    private String format;
+    private String status;
+    private long received;
+    private long stored;
+    private long skipped;
+    private long extracted;
+    private long published;
+    private long failed;
+    private String error;
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+}
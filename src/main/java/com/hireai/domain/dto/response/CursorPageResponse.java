@@ -0,0 +1,45 @@
+package com.hireai.domain.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.hireai.util.KeysetCursor;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.function.Function;
+
+@Data @NoArgsConstructor @AllArgsConstructor @Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class CursorPageResponse<T> {
+
+    public static final int MAX_SIZE = 100;
+
+    private List<T> content;
+    private int size;
+    private boolean hasNext;
+    private String nextCursor;
+    private Long totalElements;
+
+    public static int clampSize(int size) {
+        return Math.max(1, Math.min(size, MAX_SIZE));
+    }
+
+    /**
+     * Builds a page from up to {@code size + 1} rows; the extra row only signals that another
+     * page exists. {@code total} is null when the count was skipped.
+     */
+    public static <R, T> CursorPageResponse<T> of(List<R> rows, int size, Function<R, KeysetCursor> cursorOf,
+                                                  Function<R, T> mapper, Long total) {
+        boolean hasNext = rows.size() > size;
+        List<R> page = hasNext ? rows.subList(0, size) : rows;
+        return CursorPageResponse.<T>builder()
+                .content(page.stream().map(mapper).toList())
+                .size(size)
+                .hasNext(hasNext)
+                .nextCursor(hasNext ? cursorOf.apply(page.get(page.size() - 1)).encode() : null)
+                .totalElements(total)
+                .build();
+    }
+}
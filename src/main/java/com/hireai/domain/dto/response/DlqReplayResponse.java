@@ -0,0 +1,22 @@
+package com.hireai.domain.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data @NoArgsConstructor @AllArgsConstructor @Builder(toBuilder = true)
+public class DlqReplayResponse {
+
+    private String id;
+    private String queue;
+    private String status;
+    private long scanned;
+    private long replayed;
+    private long skipped;
+    private String error;
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+}
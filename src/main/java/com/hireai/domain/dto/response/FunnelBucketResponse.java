@@ -0,0 +1,19 @@
+package com.hireai.domain.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+@Data @NoArgsConstructor @AllArgsConstructor @Builder
+public class FunnelBucketResponse {
+
+    private LocalDateTime bucketStart;
+    private Map<String, Long> entered;
+    private Map<String, Long> exited;
+    private Map<String, Double> avgHoursInStage;
+    private Double screeningPassRate;
+}
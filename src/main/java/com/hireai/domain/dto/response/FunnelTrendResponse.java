@@ -0,0 +1,19 @@
+package com.hireai.domain.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Data @NoArgsConstructor @AllArgsConstructor @Builder
+public class FunnelTrendResponse {
+
+    private String scope;
+    private Long scopeId;
+    private String granularity;
+    private LocalDateTime from;
+    private List<FunnelBucketResponse> buckets;
+}
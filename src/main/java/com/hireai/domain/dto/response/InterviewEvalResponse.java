@@ -7,13 +7,17 @@ import lombok.NoArgsConstructor;
 
 import java.math.BigDecimal;
 import java.util.List;
+import java.util.Map;
 
 @Data @NoArgsConstructor @AllArgsConstructor @Builder
 public class InterviewEvalResponse {
 
     private Long interviewId;
+    private String status;
     private BigDecimal overallScore;
     private String recommendation;
+    private long pendingEvaluations;
+    private Map<String, BigDecimal> categoryScores;
     private List<QuestionScore> questionScores;
 
     @Data @NoArgsConstructor @AllArgsConstructor @Builder
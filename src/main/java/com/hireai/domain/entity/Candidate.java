@@ -14,7 +14,8 @@ import java.util.List;
 public class Candidate {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "candidates_seq")
+    @SequenceGenerator(name = "candidates_seq", sequenceName = "candidates_id_seq", allocationSize = 50)
     private Long id;
 
     @OneToOne(fetch = FetchType.LAZY)
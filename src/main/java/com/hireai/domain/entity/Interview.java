@@ -16,7 +16,8 @@ import java.util.List;
 public class Interview {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "interviews_seq")
+    @SequenceGenerator(name = "interviews_seq", sequenceName = "interviews_id_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
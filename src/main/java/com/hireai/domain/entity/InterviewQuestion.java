@@ -12,7 +12,8 @@ import java.util.List;
 public class InterviewQuestion {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "interview_questions_seq")
+    @SequenceGenerator(name = "interview_questions_seq", sequenceName = "interview_questions_id_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -12,7 +12,8 @@ import java.time.LocalDateTime;
 public class InterviewResponse {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "interview_responses_seq")
+    @SequenceGenerator(name = "interview_responses_seq", sequenceName = "interview_responses_id_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -28,4 +29,6 @@ public class InterviewResponse {
     private String aiFeedback;
 
     private LocalDateTime answeredAt;
+
+    private LocalDateTime evaluationFailedAt;
 }
@@ -17,7 +17,8 @@ import java.time.LocalDateTime;
 public class Resume {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "resumes_seq")
+    @SequenceGenerator(name = "resumes_seq", sequenceName = "resumes_id_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -0,0 +1,8 @@
+package com.hireai.exception;
+
+public class InvalidStateTransitionException extends RuntimeException {
+
+    public InvalidStateTransitionException(String message) {
+        super(message);
+    }
+}
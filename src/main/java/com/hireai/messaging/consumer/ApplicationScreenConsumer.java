@@ -11,106 +11,190 @@ import com.hireai.domain.entity.Resume;
 import com.hireai.domain.enums.ApplicationStatus;
 import com.hireai.messaging.event.ApplicationScreenEvent;
 import com.hireai.messaging.event.NotificationEvent;
+import com.hireai.messaging.event.PipelineTrace;
 import com.hireai.messaging.producer.HiringEventProducer;
+import com.hireai.messaging.trace.PipelineLatencyTracker;
 import com.hireai.repository.ApplicationRepository;
 import com.hireai.repository.JobRepository;
 import com.hireai.repository.ResumeRepository;
-import com.hireai.repository.UserRepository;
+import com.hireai.service.DashboardCounterService;
+import com.hireai.service.FunnelService;
+import com.hireai.service.MessageDeduplicationService;
 import com.hireai.service.ResumeAIService;
+import com.hireai.service.ScreeningDependencyService;
 import com.rabbitmq.client.Channel;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.amqp.rabbit.annotation.RabbitListener;
 import org.springframework.amqp.support.AmqpHeaders;
 import org.springframework.messaging.handler.annotation.Header;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
+import java.util.Objects;
 
+/**
+ * Screens an application in three phases: load (read-only transaction), AI screening and scoring
+ * (no transaction, no connection), and a short commit that fails if the application changed meanwhile.
+ */
 @Component
 @RequiredArgsConstructor
 @Slf4j
 public class ApplicationScreenConsumer {
 
+    private static final String CONSUMER = "applicationScreen";
+
     private final ApplicationRepository applicationRepository;
     private final ResumeRepository resumeRepository;
     private final JobRepository jobRepository;
-    private final UserRepository userRepository;
     private final ResumeAIService resumeAIService;
     private final ObjectMapper objectMapper;
     private final HiringEventProducer eventProducer;
-
-    @Transactional
-    @RabbitListener(queues = RabbitMQConfig.APPLICATION_SCREEN_QUEUE, concurrency = "1-3")
+    private final FailedMessageRouter failedMessageRouter;
+    private final MessageDeduplicationService deduplicationService;
+    private final ScreeningDependencyService screeningDependencyService;
+    private final DashboardCounterService counterService;
+    private final FunnelService funnelService;
+    private final ConsumerTransactions transactions;
+    private final MeterRegistry meterRegistry;
+    private final PipelineLatencyTracker latencyTracker;
+
+    /** Everything the prompts and the commit need, detached from the persistence context */
+    private record ScreeningInput(Long applicationId, Long version, Long resumeId, String parsedData,
+                                  Job job, String recruiterEmail) {}
+
+    @RabbitListener(id = RabbitMQConfig.APPLICATION_SCREEN_LISTENER, queues = RabbitMQConfig.APPLICATION_SCREEN_QUEUE,
+            concurrency = "1-3")
+    @RabbitListener(id = RabbitMQConfig.APPLICATION_SCREEN_PARTITION_LISTENER, containerFactory = "partitionContainerFactory",
+            queues = "#{T(com.hireai.config.RabbitMQConfig).partitionQueueNames('application.screen', ${app.messaging.partitioning.partitions:8})}",
+            autoStartup = "false")
     public void handleApplicationScreen(ApplicationScreenEvent event, Channel channel,
-                                         @Header(AmqpHeaders.DELIVERY_TAG) long tag) throws Exception {
+                                         @Header(AmqpHeaders.DELIVERY_TAG) long tag,
+                                         @Header(name = RabbitMQConfig.RETRY_ATTEMPT_HEADER, required = false) Integer attempt) throws Exception {
         log.info("Consuming application screen event: applicationId={}", event.getApplicationId());
+        Timer.Sample stage = latencyTracker.received(event, PipelineLatencyTracker.SCREENED);
+        if (deduplicationService.isDuplicate(RabbitMQConfig.APPLICATION_SCREEN_QUEUE, event)) {
+            channel.basicAck(tag, false);
+            return;
+        }
+        String lockToken = deduplicationService.tryLock(event);
+        if (lockToken == null) {
+            log.info("{} is locked by another consumer, deferring", event.entityKey());
+            failedMessageRouter.defer(RabbitMQConfig.APPLICATION_SCREEN_QUEUE, event, attempt, channel, tag);
+            return;
+        }
         try {
-            Application application = applicationRepository.findById(event.getApplicationId())
-                    .orElseThrow(() -> new RuntimeException("Application not found: " + event.getApplicationId()));
-
-            Resume resume = resumeRepository.findById(event.getResumeId())
-                    .orElseThrow(() -> new RuntimeException("Resume not found: " + event.getResumeId()));
-
-            Job job = jobRepository.findById(event.getJobId())
-                    .orElseThrow(() -> new RuntimeException("Job not found: " + event.getJobId()));
-
-            if (resume.getParsedData() == null) {
-                log.warn("Resume {} not parsed yet, screening with raw text", resume.getId());
+            // Phase 1: load
+            ScreeningInput input = transactions.readOnly(() -> load(event));
+
+            if (input.parsedData() == null) {
+                screeningDependencyService.park(event);
+                // The parse may have finished between the read above and parking
+                if (resumeRepository.findParsedDataById(input.resumeId()).isPresent()) {
+                    screeningDependencyService.release(input.resumeId());
+                }
                 channel.basicAck(tag, false);
                 return;
             }
 
-            ParsedResume parsed = objectMapper.readValue(resume.getParsedData(), ParsedResume.class);
+            // Phase 2: AI screening and scoring, no transaction or connection held
+            ParsedResume parsed = objectMapper.readValue(input.parsedData(), ParsedResume.class);
+            ScreeningResult screening = resumeAIService.screenCandidate(parsed, input.job());
+            CandidateScore score = resumeAIService.scoreCandidate(parsed, input.job());
+
+            // Phase 3: commit
+            ApplicationStatus status = transactions.readWrite(() -> commit(input, screening, score, event.getTrace()));
+            latencyTracker.completed(PipelineLatencyTracker.SCREENED, stage, event.getTrace());
+            latencyTracker.pipelineCompleted(event.getTrace(), status.name());
+            latencyTracker.uploadToScreened(event.getTrace());
+            log.info("Application {} screened: score={}, status={}", event.getApplicationId(), score.score(), status);
+
+            deduplicationService.markProcessed(RabbitMQConfig.APPLICATION_SCREEN_QUEUE, event);
+            channel.basicAck(tag, false);
 
-            // AI screening
-            ScreeningResult screening = resumeAIService.screenCandidate(parsed, job);
+        } catch (BulkheadFullException e) {
+            // Local AI concurrency is saturated: put the message back without spending a retry
+            log.info("AI bulkhead full for application {}, deferring", event.getApplicationId());
+            failedMessageRouter.defer(RabbitMQConfig.APPLICATION_SCREEN_QUEUE, event, attempt, channel, tag);
+        } catch (ObjectOptimisticLockingFailureException e) {
+            // Rescreen against the current state rather than overwrite a concurrent change
+            log.warn("Application {} changed during screening, retrying", event.getApplicationId());
+            meterRegistry.counter("hireai.consumer.commit.conflicts", "consumer", CONSUMER).increment();
+            failedMessageRouter.retryOrPark(RabbitMQConfig.APPLICATION_SCREEN_QUEUE, event, attempt, channel, tag);
+        } catch (Exception e) {
+            log.error("Failed to screen application: applicationId={}", event.getApplicationId(), e);
+            failedMessageRouter.retryOrPark(RabbitMQConfig.APPLICATION_SCREEN_QUEUE, event, attempt, channel, tag);
+        } finally {
+            deduplicationService.unlock(event, lockToken);
+            transactions.finishMessage(CONSUMER);
+        }
+    }
 
-            // AI scoring
-            CandidateScore score = resumeAIService.scoreCandidate(parsed, job);
-            int matchScore = score.score();
+    private ScreeningInput load(ApplicationScreenEvent event) {
+        Application application = applicationRepository.findById(event.getApplicationId())
+                .orElseThrow(() -> new RuntimeException("Application not found: " + event.getApplicationId()));
 
-            // Update application
-            application.setAiMatchScore(BigDecimal.valueOf(matchScore));
+        Resume resume = resumeRepository.findById(event.getResumeId())
+                .orElseThrow(() -> new RuntimeException("Resume not found: " + event.getResumeId()));
 
-            StringBuilder notes = new StringBuilder();
-            notes.append("Score: ").append(matchScore).append("/100\n");
-            notes.append("Qualified: ").append(screening.qualified()).append("\n");
-            if (screening.redFlags() != null && !screening.redFlags().isEmpty()) {
-                notes.append("Red Flags: ").append(String.join(", ", screening.redFlags())).append("\n");
-            }
-            if (screening.missingRequirements() != null && !screening.missingRequirements().isEmpty()) {
-                notes.append("Missing: ").append(String.join(", ", screening.missingRequirements())).append("\n");
-            }
-            notes.append("Reasoning: ").append(score.reasoning());
-            application.setAiScreeningNotes(notes.toString());
-
-            // Auto-update status
-            if (matchScore >= 70) {
-                application.setStatus(ApplicationStatus.SHORTLISTED);
-            } else if (matchScore >= 40) {
-                application.setStatus(ApplicationStatus.SCREENING);
-            } else {
-                application.setStatus(ApplicationStatus.REJECTED);
-            }
+        Job job = jobRepository.findById(event.getJobId())
+                .orElseThrow(() -> new RuntimeException("Job not found: " + event.getJobId()));
 
-            applicationRepository.save(application);
-            log.info("Application {} screened: score={}, status={}", event.getApplicationId(), matchScore, application.getStatus());
+        return new ScreeningInput(application.getId(), application.getVersion(), resume.getId(),
+                resume.getParsedData(), job, job.getRecruiter().getEmail());
+    }
 
-            // Notify recruiter
-            eventProducer.publishNotification(NotificationEvent.builder()
-                    .recipientEmail(job.getRecruiter().getEmail())
-                    .type("APPLICATION_SCREENED")
-                    .subject("New application screened for " + job.getTitle())
-                    .body("Candidate scored " + matchScore + "/100. Status: " + application.getStatus())
-                    .build());
+    private ApplicationStatus commit(ScreeningInput input, ScreeningResult screening, CandidateScore score,
+                                     PipelineTrace trace) {
+        Application application = applicationRepository.findById(input.applicationId())
+                .orElseThrow(() -> new RuntimeException("Application not found: " + input.applicationId()));
+        if (!Objects.equals(application.getVersion(), input.version())) {
+            throw new ObjectOptimisticLockingFailureException(Application.class, input.applicationId());
+        }
 
-            channel.basicAck(tag, false);
+        int matchScore = score.score();
+        application.setAiMatchScore(BigDecimal.valueOf(matchScore));
 
-        } catch (Exception e) {
-            log.error("Failed to screen application: applicationId={}", event.getApplicationId(), e);
-            channel.basicNack(tag, false, false);
+        StringBuilder notes = new StringBuilder();
+        notes.append("Score: ").append(matchScore).append("/100\n");
+        notes.append("Qualified: ").append(screening.qualified()).append("\n");
+        if (screening.redFlags() != null && !screening.redFlags().isEmpty()) {
+            notes.append("Red Flags: ").append(String.join(", ", screening.redFlags())).append("\n");
         }
+        if (screening.missingRequirements() != null && !screening.missingRequirements().isEmpty()) {
+            notes.append("Missing: ").append(String.join(", ", screening.missingRequirements())).append("\n");
+        }
+        notes.append("Reasoning: ").append(score.reasoning());
+        application.setAiScreeningNotes(notes.toString());
+
+        // Auto-update status
+        ApplicationStatus previous = application.getStatus();
+        if (matchScore >= 70) {
+            application.setStatus(ApplicationStatus.SHORTLISTED);
+        } else if (matchScore >= 40) {
+            application.setStatus(ApplicationStatus.SCREENING);
+        } else {
+            application.setStatus(ApplicationStatus.REJECTED);
+        }
+
+        // The version column makes the UPDATE fail if another writer committed after the check above
+        applicationRepository.save(application);
+        counterService.statusChanged(application, previous);
+        funnelService.statusChanged(application, previous);
+
+        // Notify recruiter
+        eventProducer.publishNotification(NotificationEvent.builder()
+                .recipientEmail(input.recruiterEmail())
+                .type("APPLICATION_SCREENED")
+                .subject("New application screened for " + input.job().getTitle())
+                .body("Candidate scored " + matchScore + "/100. Status: " + application.getStatus())
+                .trace(trace != null ? trace.copy() : null)
+                .build());
+
+        return application.getStatus();
     }
 }
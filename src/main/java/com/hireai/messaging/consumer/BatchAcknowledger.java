@@ -0,0 +1,34 @@
+package com.hireai.messaging.consumer;
+
+import com.rabbitmq.client.Channel;
+import org.springframework.amqp.support.AmqpHeaders;
+import org.springframework.messaging.Message;
+
+import java.io.IOException;
+import java.util.Collection;
+
+/**
+ * Settles a consumer batch: failed deliveries are nacked one by one (to the DLQ), then
+ * everything else up to the highest tag is acked with a single multiple-ack.
+ */
+final class BatchAcknowledger {
+
+    private BatchAcknowledger() {
+    }
+
+    static void settle(Channel channel, Collection<Long> succeeded, Collection<Long> failed) throws IOException {
+        for (Long tag : failed) {
+            channel.basicNack(tag, false, false);
+        }
+        // Nacked tags are no longer outstanding, so the multiple-ack only covers successes
+        long highest = succeeded.stream().mapToLong(Long::longValue).max().orElse(-1L);
+        if (highest >= 0) {
+            channel.basicAck(highest, true);
+        }
+    }
+
+    static long deliveryTag(Message<?> message) {
+        Long tag = message.getHeaders().get(AmqpHeaders.DELIVERY_TAG, Long.class);
+        return tag != null ? tag : 0L;
+    }
+}
@@ -0,0 +1,126 @@
+package com.hireai.messaging.consumer;
+
+import com.hireai.config.RabbitMQConfig;
+import com.hireai.messaging.event.CandidateScoreEvent;
+import com.hireai.messaging.trace.PipelineLatencyTracker;
+import com.hireai.service.CandidateScoringService;
+import com.hireai.service.CandidateScoringService.ScoreOutcome;
+import com.hireai.service.MessageDeduplicationService;
+import com.rabbitmq.client.Channel;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.messaging.Message;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Batch alternative to {@link CandidateScoreConsumer}. Scores each event on its own, under the
+ * same processed ledger and candidate lock as the single consumer, then writes all ai_score
+ * updates in one JDBC batch and all cached scores in one Redis pipeline.
+ */
+@Component
+@ConditionalOnProperty(name = "app.messaging.candidate-score.batch-enabled", havingValue = "true")
+@RequiredArgsConstructor
+@Slf4j
+public class CandidateScoreBatchConsumer {
+
+    private final CandidateScoringService scoringService;
+    private final FailedMessageRouter failedMessageRouter;
+    private final MessageDeduplicationService deduplicationService;
+    private final PipelineLatencyTracker latencyTracker;
+
+    @RabbitListener(id = RabbitMQConfig.CANDIDATE_SCORE_LISTENER, queues = RabbitMQConfig.CANDIDATE_SCORE_QUEUE,
+            concurrency = "1-3", containerFactory = "candidateScoreBatchContainerFactory")
+    public void handleCandidateScoreBatch(List<Message<CandidateScoreEvent>> messages, Channel channel) throws Exception {
+        log.info("Consuming candidate score batch: size={}", messages.size());
+
+        List<Long> succeeded = new ArrayList<>();
+        List<Message<CandidateScoreEvent>> failed = new ArrayList<>();
+        Map<Long, ScoreOutcome> outcomes = new LinkedHashMap<>();
+        Map<Long, Message<CandidateScoreEvent>> byTag = new HashMap<>();
+        Map<Long, Timer.Sample> stages = new HashMap<>();
+        Map<Long, String> locks = new HashMap<>();
+
+        try {
+            for (Message<CandidateScoreEvent> message : messages) {
+                CandidateScoreEvent event = message.getPayload();
+                long tag = BatchAcknowledger.deliveryTag(message);
+                byTag.put(tag, message);
+                Timer.Sample stage = latencyTracker.received(event, PipelineLatencyTracker.SCORED);
+                if (deduplicationService.isDuplicate(RabbitMQConfig.CANDIDATE_SCORE_QUEUE, event)) {
+                    succeeded.add(tag);
+                    continue;
+                }
+                String lockToken = deduplicationService.tryLock(event);
+                if (lockToken == null) {
+                    log.info("{} is locked by another consumer, deferring", event.entityKey());
+                    failedMessageRouter.defer(RabbitMQConfig.CANDIDATE_SCORE_QUEUE, message, channel);
+                    continue;
+                }
+                locks.put(tag, lockToken);
+                stages.put(tag, stage);
+                try {
+                    Optional<ScoreOutcome> outcome = scoringService.score(event);
+                    if (outcome.isPresent()) {
+                        outcomes.put(tag, outcome.get());
+                    } else {
+                        succeeded.add(tag);
+                    }
+                } catch (BulkheadFullException e) {
+                    // Local AI concurrency is saturated: put the message back without spending a retry
+                    log.info("AI bulkhead full for candidate {}, deferring", event.getCandidateId());
+                    failedMessageRouter.defer(RabbitMQConfig.CANDIDATE_SCORE_QUEUE, message, channel);
+                } catch (Exception e) {
+                    log.error("Failed to score candidate: candidateId={}", event.getCandidateId(), e);
+                    failed.add(message);
+                }
+            }
+
+            try {
+                scoringService.saveAll(new ArrayList<>(outcomes.values()));
+                succeeded.addAll(outcomes.keySet());
+            } catch (Exception e) {
+                // Isolate the failing message(s) by falling back to one write per outcome
+                log.warn("Bulk score write failed, retrying per message: {}", e.getMessage());
+                outcomes.forEach((tag, outcome) -> {
+                    try {
+                        scoringService.saveAll(List.of(outcome));
+                        succeeded.add(tag);
+                    } catch (Exception ex) {
+                        log.error("Failed to save score for resume {}", outcome.resumeId(), ex);
+                        failed.add(byTag.get(tag));
+                    }
+                });
+            }
+
+            for (Long tag : succeeded) {
+                CandidateScoreEvent event = byTag.get(tag).getPayload();
+                deduplicationService.markProcessed(RabbitMQConfig.CANDIDATE_SCORE_QUEUE, event);
+                Timer.Sample stage = stages.get(tag);
+                if (stage != null) {
+                    // Stage time per message includes waiting for the rest of its batch
+                    latencyTracker.completed(PipelineLatencyTracker.SCORED, stage, event.getTrace());
+                    latencyTracker.pipelineCompleted(event.getTrace(), PipelineLatencyTracker.SCORED);
+                }
+            }
+            for (Message<CandidateScoreEvent> message : failed) {
+                failedMessageRouter.retryOrPark(RabbitMQConfig.CANDIDATE_SCORE_QUEUE, message, channel);
+            }
+            // Failures and deferrals are already settled by the router, so only the successes remain to ack
+            BatchAcknowledger.settle(channel, succeeded, List.of());
+        } finally {
+            locks.forEach((tag, token) -> deduplicationService.unlock(byTag.get(tag).getPayload(), token));
+        }
+        log.info("Candidate score batch settled: acked={}, failed={}", succeeded.size(), failed.size());
+    }
+}
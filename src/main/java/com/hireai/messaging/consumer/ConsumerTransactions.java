@@ -0,0 +1,56 @@
+package com.hireai.messaging.consumer;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+/**
+ * Short load and commit transactions for consumers that make LLM calls in between, so a database
+ * connection is only held while SQL actually runs. The time spent inside these transactions is
+ * summed per message and recorded as {@code hireai.consumer.connection.hold}.
+ */
+@Component
+public class ConsumerTransactions {
+
+    private final TransactionTemplate readOnlyTemplate;
+    private final TransactionTemplate readWriteTemplate;
+    private final MeterRegistry meterRegistry;
+    private final ThreadLocal<long[]> heldNanos = ThreadLocal.withInitial(() -> new long[1]);
+
+    public ConsumerTransactions(PlatformTransactionManager transactionManager, MeterRegistry meterRegistry) {
+        this.readOnlyTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTemplate.setReadOnly(true);
+        this.readWriteTemplate = new TransactionTemplate(transactionManager);
+        this.meterRegistry = meterRegistry;
+    }
+
+    public <T> T readOnly(Supplier<T> work) {
+        return timed(readOnlyTemplate, work);
+    }
+
+    public <T> T readWrite(Supplier<T> work) {
+        return timed(readWriteTemplate, work);
+    }
+
+    /**
+     * Records the connection time accumulated by the current message and resets the counter.
+     */
+    public void finishMessage(String consumer) {
+        long[] held = heldNanos.get();
+        meterRegistry.timer("hireai.consumer.connection.hold", "consumer", consumer).record(Duration.ofNanos(held[0]));
+        held[0] = 0;
+    }
+
+    private <T> T timed(TransactionTemplate template, Supplier<T> work) {
+        long start = System.nanoTime();
+        try {
+            return template.execute(status -> work.get());
+        } finally {
+            heldNanos.get()[0] += System.nanoTime() - start;
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package com.hireai.messaging.consumer;
+
+import com.hireai.config.RabbitMQConfig;
+import com.rabbitmq.client.Channel;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.messaging.Message;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+
+/**
+ * Settles a failed delivery: republishes it to the next retry tier of its queue with an
+ * incremented attempt header, or, once every tier is used up, nacks it into the parking DLQ.
+ */
+@Component
+@Slf4j
+public class FailedMessageRouter {
+
+    private final RabbitTemplate rabbitTemplate;
+    private final MeterRegistry meterRegistry;
+    private final long[] delaysMs;
+
+    public FailedMessageRouter(RabbitTemplate rabbitTemplate, MeterRegistry meterRegistry,
+                               @Value("${app.messaging.retry.delays-ms:10000,60000,600000}") long[] delaysMs) {
+        this.rabbitTemplate = rabbitTemplate;
+        this.meterRegistry = meterRegistry;
+        this.delaysMs = delaysMs;
+    }
+
+    /**
+     * @param attempt value of the {@link RabbitMQConfig#RETRY_ATTEMPT_HEADER} header, null on first delivery
+     * @return true if the message was parked rather than scheduled for another attempt
+     */
+    public boolean retryOrPark(String queue, Object event, Integer attempt, Channel channel, long tag) throws IOException {
+        int previous = attempt != null ? attempt : 0;
+        if (previous >= delaysMs.length) {
+            log.warn("Retries exhausted for {} after {} attempts, parking in {}", queue, previous,
+                    RabbitMQConfig.parkingQueueName(queue));
+            meterRegistry.counter("hireai.messaging.parked", "queue", queue).increment();
+            channel.basicNack(tag, false, false);
+            return true;
+        }
+
+        int next = previous + 1;
+        String retryQueue = RabbitMQConfig.retryQueueName(queue, delaysMs[previous]);
+        try {
+            rabbitTemplate.convertAndSend("", retryQueue, event, message -> {
+                message.getMessageProperties().setHeader(RabbitMQConfig.RETRY_ATTEMPT_HEADER, next);
+                return message;
+            });
+        } catch (Exception e) {
+            log.error("Failed to schedule retry on {}, parking instead", retryQueue, e);
+            channel.basicNack(tag, false, false);
+            return true;
+        }
+        meterRegistry.counter("hireai.messaging.retried", "queue", queue, "attempt", String.valueOf(next)).increment();
+        log.info("Scheduled retry {} of {} for {} via {}", next, delaysMs.length, queue, retryQueue);
+        channel.basicAck(tag, false);
+        return false;
+    }
+
+    /**
+     * Puts back a message that could not start because another consumer holds its entity lock or
+     * the AI bulkhead is full. It waits out the shortest retry tier with its attempt header unchanged,
+     * so contention never uses up retries or parks a valid message.
+     */
+    public void defer(String queue, Object event, Integer attempt, Channel channel, long tag) throws IOException {
+        String retryQueue = RabbitMQConfig.retryQueueName(queue, delaysMs[0]);
+        try {
+            rabbitTemplate.convertAndSend("", retryQueue, event, message -> {
+                if (attempt != null) {
+                    message.getMessageProperties().setHeader(RabbitMQConfig.RETRY_ATTEMPT_HEADER, attempt);
+                }
+                return message;
+            });
+        } catch (Exception e) {
+            // Requeue in place rather than drop or park it
+            log.warn("Failed to defer {} message via {}, requeueing: {}", queue, retryQueue, e.getMessage());
+            channel.basicNack(tag, false, true);
+            return;
+        }
+        meterRegistry.counter("hireai.messaging.deferred", "queue", queue).increment();
+        channel.basicAck(tag, false);
+    }
+
+    /**
+     * Batch-listener variant: takes the payload, attempt header and delivery tag from the message.
+     */
+    public boolean retryOrPark(String queue, Message<?> message, Channel channel) throws IOException {
+        Integer attempt = message.getHeaders().get(RabbitMQConfig.RETRY_ATTEMPT_HEADER, Integer.class);
+        return retryOrPark(queue, message.getPayload(), attempt, channel, BatchAcknowledger.deliveryTag(message));
+    }
+
+    /**
+     * Batch-listener variant of {@link #defer(String, Object, Integer, Channel, long)}.
+     */
+    public void defer(String queue, Message<?> message, Channel channel) throws IOException {
+        Integer attempt = message.getHeaders().get(RabbitMQConfig.RETRY_ATTEMPT_HEADER, Integer.class);
+        defer(queue, message.getPayload(), attempt, channel, BatchAcknowledger.deliveryTag(message));
+    }
+}
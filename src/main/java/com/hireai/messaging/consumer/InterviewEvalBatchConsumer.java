@@ -0,0 +1,309 @@
+package com.hireai.messaging.consumer;
+
+import com.hireai.ai.dto.AnswerBatchItem;
+import com.hireai.ai.dto.AnswerEvaluation;
+import com.hireai.config.RabbitMQConfig;
+import com.hireai.domain.entity.InterviewQuestion;
+import com.hireai.domain.entity.InterviewResponse;
+import com.hireai.domain.entity.Job;
+import com.hireai.messaging.event.InterviewEvalEvent;
+import com.hireai.messaging.trace.PipelineLatencyTracker;
+import com.hireai.repository.InterviewQuestionRepository;
+import com.hireai.repository.InterviewResponseRepository;
+import com.hireai.service.InterviewAIService;
+import com.hireai.service.InterviewAggregationService;
+import com.hireai.service.InterviewService;
+import com.hireai.service.MessageDeduplicationService;
+import com.rabbitmq.client.Channel;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.messaging.Message;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Batch alternative to {@link InterviewEvalConsumer}. Answers in a batch are grouped by job
+ * and evaluated with one prompt per job; each message is still acked or nacked on its own and
+ * goes through the same processed ledger and response lock as in the single consumer.
+ */
+@Component
+@ConditionalOnProperty(name = "app.messaging.interview-eval.batch-enabled", havingValue = "true")
+@RequiredArgsConstructor
+@Slf4j
+public class InterviewEvalBatchConsumer {
+
+    private static final String CONSUMER = "interviewEvaluateBatch";
+
+    private static final String PROCESSED = "processed";
+    private static final String DUPLICATE = "duplicate";
+    private static final String DEFERRED = "deferred";
+    private static final String SKIPPED = "skipped";
+    private static final String FAILURE = "failure";
+
+    private final InterviewQuestionRepository interviewQuestionRepository;
+    private final InterviewResponseRepository interviewResponseRepository;
+    private final InterviewAIService interviewAIService;
+    private final InterviewAggregationService aggregationService;
+    private final InterviewService interviewService;
+    private final MeterRegistry meterRegistry;
+    private final FailedMessageRouter failedMessageRouter;
+    private final MessageDeduplicationService deduplicationService;
+    private final ConsumerTransactions transactions;
+    private final PipelineLatencyTracker latencyTracker;
+
+    /** A message that passed the ledger and holds its response lock */
+    private record Admitted(Message<InterviewEvalEvent> message, long tag, InterviewEvalEvent event,
+                            String lockToken, Timer.Sample stage) {}
+
+    private record PendingAnswer(Admitted admitted, InterviewQuestion question, InterviewResponse response) {
+
+        InterviewEvalEvent event() {
+            return admitted.event();
+        }
+    }
+
+    private record BatchInput(List<InterviewQuestion> questions, List<InterviewResponse> unevaluated) {}
+
+    @RabbitListener(id = RabbitMQConfig.INTERVIEW_EVALUATE_LISTENER, queues = RabbitMQConfig.INTERVIEW_EVALUATE_QUEUE,
+            concurrency = "1-3", containerFactory = "interviewEvalBatchContainerFactory")
+    public void handleInterviewEvalBatch(List<Message<InterviewEvalEvent>> messages, Channel channel) throws Exception {
+        long start = System.nanoTime();
+        log.info("Consuming interview eval batch: size={}", messages.size());
+        meterRegistry.summary("hireai.interview.eval.batch.size").record(messages.size());
+
+        // Messages per outcome, so skipped and duplicate ones are not reported as processed
+        Map<String, Integer> outcomes = new HashMap<>();
+        List<Admitted> admitted = new ArrayList<>();
+        try {
+            admit(messages, channel, outcomes, admitted);
+            List<PendingAnswer> pending = load(admitted, channel, outcomes);
+
+            // Group by job so each prompt shares one job context
+            Map<Long, List<PendingAnswer>> byJob = pending.stream()
+                    .collect(Collectors.groupingBy(p -> p.question().getInterview().getApplication().getJob().getId(),
+                            LinkedHashMap::new, Collectors.toList()));
+
+            for (List<PendingAnswer> group : byJob.values()) {
+                Job job = group.get(0).question().getInterview().getApplication().getJob();
+                Map<Long, AnswerEvaluation> evaluations = evaluateGroup(group, job);
+                for (PendingAnswer answer : group) {
+                    outcomes.merge(complete(answer, evaluations.get(answer.response().getId()), job, channel), 1, Integer::sum);
+                }
+            }
+        } finally {
+            for (Admitted message : admitted) {
+                deduplicationService.unlock(message.event(), message.lockToken());
+            }
+            transactions.finishMessage(CONSUMER);
+        }
+
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+        meterRegistry.timer("hireai.interview.eval.batch.duration").record(elapsed);
+        if (!messages.isEmpty()) {
+            // Amortized per-answer time, comparable with mode=single
+            Duration perAnswer = elapsed.dividedBy(messages.size());
+            outcomes.forEach((outcome, count) -> {
+                for (int i = 0; i < count; i++) {
+                    meterRegistry.timer("hireai.interview.eval.processing", "mode", "batch", "outcome", outcome)
+                            .record(perAnswer);
+                }
+            });
+        }
+    }
+
+    /**
+     * Applies the single consumer's per-message guards: acks events the processed ledger has
+     * already seen and defers those whose response another consumer holds the lock on, including
+     * a second event for the same response within this batch.
+     */
+    private void admit(List<Message<InterviewEvalEvent>> messages, Channel channel, Map<String, Integer> outcomes,
+                       List<Admitted> admitted) throws Exception {
+        for (Message<InterviewEvalEvent> message : messages) {
+            InterviewEvalEvent event = message.getPayload();
+            long tag = BatchAcknowledger.deliveryTag(message);
+            Timer.Sample stage = latencyTracker.received(event, PipelineLatencyTracker.EVALUATED);
+            if (deduplicationService.isDuplicate(RabbitMQConfig.INTERVIEW_EVALUATE_QUEUE, event)) {
+                channel.basicAck(tag, false);
+                outcomes.merge(DUPLICATE, 1, Integer::sum);
+                continue;
+            }
+            String lockToken = deduplicationService.tryLock(event);
+            if (lockToken == null) {
+                log.info("{} is locked by another consumer, deferring", event.entityKey());
+                failedMessageRouter.defer(RabbitMQConfig.INTERVIEW_EVALUATE_QUEUE, message, channel);
+                outcomes.merge(DEFERRED, 1, Integer::sum);
+                continue;
+            }
+            admitted.add(new Admitted(message, tag, event, lockToken, stage));
+        }
+    }
+
+    /**
+     * Resolves questions and unevaluated responses for the admitted messages in one short
+     * read-only transaction. Messages that cannot be resolved are acked (nothing to evaluate) or parked here.
+     */
+    private List<PendingAnswer> load(List<Admitted> admitted, Channel channel, Map<String, Integer> outcomes)
+            throws Exception {
+        List<PendingAnswer> pending = new ArrayList<>();
+        if (admitted.isEmpty()) {
+            return pending;
+        }
+        Map<Long, InterviewQuestion> questions;
+        Map<Long, List<InterviewResponse>> unevaluated;
+        try {
+            Set<Long> questionIds = admitted.stream()
+                    .map(a -> a.event().getQuestionId())
+                    .collect(Collectors.toSet());
+            BatchInput input = transactions.readOnly(() -> new BatchInput(
+                    interviewQuestionRepository.findAllWithJobByIdIn(questionIds),
+                    interviewResponseRepository.findByQuestionIdInAndAiScoreIsNullOrderById(questionIds)));
+            questions = input.questions().stream()
+                    .collect(Collectors.toMap(InterviewQuestion::getId, Function.identity()));
+            unevaluated = input.unevaluated().stream()
+                    .collect(Collectors.groupingBy(r -> r.getQuestion().getId()));
+        } catch (Exception e) {
+            log.error("Failed to load interview eval batch", e);
+            for (Admitted message : admitted) {
+                retryOrPark(message.message(), channel);
+            }
+            outcomes.merge(FAILURE, admitted.size(), Integer::sum);
+            return pending;
+        }
+
+        for (Admitted message : admitted) {
+            InterviewEvalEvent event = message.event();
+            InterviewQuestion question = questions.get(event.getQuestionId());
+            if (question == null) {
+                log.error("Question not found: {}", event.getQuestionId());
+                channel.basicNack(message.tag(), false, false);
+                outcomes.merge(SKIPPED, 1, Integer::sum);
+                continue;
+            }
+            // Events carry their responseId; older ones take the next unevaluated response
+            List<InterviewResponse> candidates = unevaluated.getOrDefault(event.getQuestionId(), new ArrayList<>());
+            InterviewResponse response = candidates.stream()
+                    .filter(r -> event.getResponseId() == null || r.getId().equals(event.getResponseId()))
+                    .findFirst()
+                    .orElse(null);
+            if (response == null) {
+                log.warn("No unevaluated response found for questionId={}, skipping", event.getQuestionId());
+                meterRegistry.counter("hireai.messaging.duplicates", "queue", RabbitMQConfig.INTERVIEW_EVALUATE_QUEUE).increment();
+                settle(event);
+                channel.basicAck(message.tag(), false);
+                outcomes.merge(DUPLICATE, 1, Integer::sum);
+                continue;
+            }
+            candidates.remove(response);
+            pending.add(new PendingAnswer(message, question, response));
+        }
+        return pending;
+    }
+
+    private Map<Long, AnswerEvaluation> evaluateGroup(List<PendingAnswer> group, Job job) {
+        if (group.size() == 1) {
+            return Map.of();
+        }
+        List<AnswerBatchItem> items = group.stream()
+                .map(p -> new AnswerBatchItem(p.response().getId(), p.question(), p.response().getAnswerText()))
+                .toList();
+        try {
+            return interviewAIService.evaluateAnswers(items, job);
+        } catch (Exception e) {
+            // Each answer is then evaluated, deferred or retried on its own
+            log.warn("Batch evaluation of {} answers failed, evaluating individually: {}", items.size(), e.getMessage());
+            return Map.of();
+        }
+    }
+
+    /**
+     * @return the message's outcome tag
+     */
+    private String complete(PendingAnswer answer, AnswerEvaluation eval, Job job, Channel channel) throws Exception {
+        Admitted message = answer.admitted();
+        InterviewEvalEvent event = answer.event();
+        try {
+            AnswerEvaluation evaluation = eval != null ? eval
+                    // Single-answer groups and answers the batch prompt skipped
+                    : interviewAIService.evaluateAnswer(answer.question(), answer.response().getAnswerText(), job);
+
+            int updated = transactions.readWrite(() -> interviewResponseRepository.applyEvaluation(
+                    answer.response().getId(), BigDecimal.valueOf(evaluation.score()), evaluation.feedback()));
+            if (updated == 0) {
+                log.warn("Response {} already evaluated, skipping", answer.response().getId());
+                settle(event);
+                channel.basicAck(message.tag(), false);
+                return DUPLICATE;
+            }
+            if (answer.response().getAnsweredAt() != null) {
+                meterRegistry.timer("hireai.interview.eval.turnaround", "mode", "batch")
+                        .record(Duration.between(answer.response().getAnsweredAt(), LocalDateTime.now()));
+            }
+
+            log.info("Answer evaluated in batch: interviewId={}, questionId={}, score={}",
+                    event.getInterviewId(), event.getQuestionId(), evaluation.score());
+
+            long remaining = aggregationService.recordEvaluation(
+                    event.getInterviewId(), answer.question().getCategory(), evaluation.score());
+            if (remaining <= 0) {
+                interviewService.summarizeIfReady(event.getInterviewId());
+            }
+
+            latencyTracker.completed(PipelineLatencyTracker.EVALUATED, message.stage(), event.getTrace());
+            deduplicationService.markProcessed(RabbitMQConfig.INTERVIEW_EVALUATE_QUEUE, event);
+            channel.basicAck(message.tag(), false);
+            return PROCESSED;
+
+        } catch (BulkheadFullException e) {
+            // Local AI concurrency is saturated: put the message back without spending a retry
+            log.info("AI bulkhead full for response {}, deferring", answer.response().getId());
+            failedMessageRouter.defer(RabbitMQConfig.INTERVIEW_EVALUATE_QUEUE, message.message(), channel);
+            return DEFERRED;
+        } catch (Exception e) {
+            log.error("Failed to evaluate interview answer: interviewId={}, questionId={}",
+                    event.getInterviewId(), event.getQuestionId(), e);
+            retryOrPark(message.message(), channel);
+            return FAILURE;
+        }
+    }
+
+    private void retryOrPark(Message<InterviewEvalEvent> message, Channel channel) throws Exception {
+        if (!failedMessageRouter.retryOrPark(RabbitMQConfig.INTERVIEW_EVALUATE_QUEUE, message, channel)) {
+            return;
+        }
+        InterviewEvalEvent event = message.getPayload();
+        try {
+            if (event.getResponseId() != null) {
+                transactions.readWrite(() -> interviewResponseRepository.markEvaluationFailed(event.getResponseId()));
+            }
+            settle(event);
+        } catch (Exception e) {
+            log.error("Failed to release parked evaluation: interviewId={}, responseId={}",
+                    event.getInterviewId(), event.getResponseId(), e);
+        }
+    }
+
+    /**
+     * An evaluation that ended without a score of its own no longer holds up the summary.
+     */
+    private void settle(InterviewEvalEvent event) {
+        if (aggregationService.settleEvaluation(event.getInterviewId()) <= 0) {
+            interviewService.summarizeIfReady(event.getInterviewId());
+        }
+    }
+}
@@ -2,79 +2,180 @@ package com.hireai.messaging.consumer;
 
 import com.hireai.ai.dto.AnswerEvaluation;
 import com.hireai.config.RabbitMQConfig;
-import com.hireai.domain.entity.Interview;
 import com.hireai.domain.entity.InterviewQuestion;
 import com.hireai.domain.entity.InterviewResponse;
 import com.hireai.domain.entity.Job;
 import com.hireai.messaging.event.InterviewEvalEvent;
+import com.hireai.messaging.trace.PipelineLatencyTracker;
 import com.hireai.repository.InterviewQuestionRepository;
-import com.hireai.repository.InterviewRepository;
 import com.hireai.repository.InterviewResponseRepository;
 import com.hireai.service.InterviewAIService;
+import com.hireai.service.InterviewAggregationService;
+import com.hireai.service.InterviewService;
+import com.hireai.service.MessageDeduplicationService;
 import com.rabbitmq.client.Channel;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.amqp.rabbit.annotation.RabbitListener;
 import org.springframework.amqp.support.AmqpHeaders;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.messaging.handler.annotation.Header;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Component
+@ConditionalOnProperty(name = "app.messaging.interview-eval.batch-enabled", havingValue = "false", matchIfMissing = true)
 @RequiredArgsConstructor
 @Slf4j
 public class InterviewEvalConsumer {
 
-    private final InterviewRepository interviewRepository;
+    private static final String CONSUMER = "interviewEvaluate";
+
     private final InterviewQuestionRepository interviewQuestionRepository;
     private final InterviewResponseRepository interviewResponseRepository;
     private final InterviewAIService interviewAIService;
+    private final InterviewAggregationService aggregationService;
+    private final InterviewService interviewService;
+    private final MeterRegistry meterRegistry;
+    private final FailedMessageRouter failedMessageRouter;
+    private final MessageDeduplicationService deduplicationService;
+    private final ConsumerTransactions transactions;
+    private final PipelineLatencyTracker latencyTracker;
+
+    private record EvalInput(InterviewQuestion question, InterviewResponse response, Job job) {}
 
-    @Transactional
-    @RabbitListener(queues = RabbitMQConfig.INTERVIEW_EVALUATE_QUEUE, concurrency = "1-3")
+    @RabbitListener(id = RabbitMQConfig.INTERVIEW_EVALUATE_LISTENER, queues = RabbitMQConfig.INTERVIEW_EVALUATE_QUEUE,
+            concurrency = "1-3")
     public void handleInterviewEval(InterviewEvalEvent event, Channel channel,
-                                     @Header(AmqpHeaders.DELIVERY_TAG) long tag) throws Exception {
+                                     @Header(AmqpHeaders.DELIVERY_TAG) long tag,
+                                     @Header(name = RabbitMQConfig.RETRY_ATTEMPT_HEADER, required = false) Integer attempt) throws Exception {
         log.info("Consuming interview eval event: interviewId={}, questionId={}", event.getInterviewId(), event.getQuestionId());
+        Timer.Sample stage = latencyTracker.received(event, PipelineLatencyTracker.EVALUATED);
+        if (deduplicationService.isDuplicate(RabbitMQConfig.INTERVIEW_EVALUATE_QUEUE, event)) {
+            channel.basicAck(tag, false);
+            return;
+        }
+        String lockToken = deduplicationService.tryLock(event);
+        if (lockToken == null) {
+            log.info("{} is locked by another consumer, deferring", event.entityKey());
+            failedMessageRouter.defer(RabbitMQConfig.INTERVIEW_EVALUATE_QUEUE, event, attempt, channel, tag);
+            return;
+        }
+        Timer.Sample sample = Timer.start(meterRegistry);
         try {
-            Interview interview = interviewRepository.findById(event.getInterviewId())
-                    .orElseThrow(() -> new RuntimeException("Interview not found: " + event.getInterviewId()));
-
-            InterviewQuestion question = interviewQuestionRepository.findById(event.getQuestionId())
-                    .orElseThrow(() -> new RuntimeException("Question not found: " + event.getQuestionId()));
-
-            Job job = interview.getApplication().getJob();
-
-            // Find the response that was saved (without AI eval yet)
-            List<InterviewResponse> responses = interviewResponseRepository.findByQuestionId(event.getQuestionId());
-            InterviewResponse response = responses.stream()
-                    .filter(r -> r.getAiScore() == null)
-                    .findFirst()
-                    .orElse(null);
-
-            if (response == null) {
+            // Phase 1: load question, job and response in one short read-only transaction
+            EvalInput input = transactions.readOnly(() -> load(event));
+            if (input.response() == null) {
                 log.warn("No unevaluated response found for questionId={}, skipping", event.getQuestionId());
+                meterRegistry.counter("hireai.messaging.duplicates", "queue", RabbitMQConfig.INTERVIEW_EVALUATE_QUEUE).increment();
+                settle(event);
                 channel.basicAck(tag, false);
                 return;
             }
+            InterviewQuestion question = input.question();
+            InterviewResponse response = input.response();
 
-            // AI evaluation
-            AnswerEvaluation eval = interviewAIService.evaluateAnswer(question, response.getAnswerText(), job);
-            response.setAiScore(BigDecimal.valueOf(eval.score()));
-            response.setAiFeedback(eval.feedback());
-            interviewResponseRepository.save(response);
+            // Phase 2: AI evaluation, no transaction or connection held
+            AnswerEvaluation eval = interviewAIService.evaluateAnswer(question, response.getAnswerText(), input.job());
+
+            // Phase 3: guarded update, a no-op if another consumer evaluated the response meanwhile
+            int updated = transactions.readWrite(() -> interviewResponseRepository.applyEvaluation(
+                    response.getId(), BigDecimal.valueOf(eval.score()), eval.feedback()));
+            if (updated == 0) {
+                log.warn("Response {} already evaluated, skipping", response.getId());
+                meterRegistry.counter("hireai.consumer.commit.conflicts", "consumer", CONSUMER).increment();
+                settle(event);
+                channel.basicAck(tag, false);
+                return;
+            }
+            if (response.getAnsweredAt() != null) {
+                meterRegistry.timer("hireai.interview.eval.turnaround", "mode", "single")
+                        .record(Duration.between(response.getAnsweredAt(), LocalDateTime.now()));
+            }
 
             log.info("Answer evaluated async: interviewId={}, questionId={}, score={}",
                     event.getInterviewId(), event.getQuestionId(), eval.score());
 
+            // Fold into running scores; the last evaluation of a completed interview triggers the summary
+            long remaining = aggregationService.recordEvaluation(event.getInterviewId(), question.getCategory(), eval.score());
+            if (remaining <= 0) {
+                interviewService.summarizeIfReady(event.getInterviewId());
+            }
+
+            latencyTracker.completed(PipelineLatencyTracker.EVALUATED, stage, event.getTrace());
+            deduplicationService.markProcessed(RabbitMQConfig.INTERVIEW_EVALUATE_QUEUE, event);
             channel.basicAck(tag, false);
+            sample.stop(meterRegistry.timer("hireai.interview.eval.processing", "mode", "single", "outcome", "success"));
 
+        } catch (BulkheadFullException e) {
+            // Local AI concurrency is saturated: put the message back without spending a retry
+            log.info("AI bulkhead full for response {}, deferring", event.getResponseId());
+            failedMessageRouter.defer(RabbitMQConfig.INTERVIEW_EVALUATE_QUEUE, event, attempt, channel, tag);
+            sample.stop(meterRegistry.timer("hireai.interview.eval.processing", "mode", "single", "outcome", "deferred"));
         } catch (Exception e) {
             log.error("Failed to evaluate interview answer: interviewId={}, questionId={}",
                     event.getInterviewId(), event.getQuestionId(), e);
-            channel.basicNack(tag, false, false);
+            if (failedMessageRouter.retryOrPark(RabbitMQConfig.INTERVIEW_EVALUATE_QUEUE, event, attempt, channel, tag)) {
+                parked(event);
+            }
+            sample.stop(meterRegistry.timer("hireai.interview.eval.processing", "mode", "single", "outcome", "failure"));
+        } finally {
+            deduplicationService.unlock(event, lockToken);
+            transactions.finishMessage(CONSUMER);
+        }
+    }
+
+    /**
+     * An evaluation that ended without a score of its own no longer holds up the summary.
+     */
+    private void settle(InterviewEvalEvent event) {
+        if (aggregationService.settleEvaluation(event.getInterviewId()) <= 0) {
+            interviewService.summarizeIfReady(event.getInterviewId());
+        }
+    }
+
+    private void parked(InterviewEvalEvent event) {
+        try {
+            if (event.getResponseId() != null) {
+                transactions.readWrite(() -> interviewResponseRepository.markEvaluationFailed(event.getResponseId()));
+            }
+            settle(event);
+        } catch (Exception e) {
+            log.error("Failed to release parked evaluation: interviewId={}, responseId={}",
+                    event.getInterviewId(), event.getResponseId(), e);
+        }
+    }
+
+    /**
+     * One joined query for the response, its question and the job; events published before
+     * responseId existed look the question up first and take its first unevaluated response.
+     */
+    private EvalInput load(InterviewEvalEvent event) {
+        if (event.getResponseId() != null) {
+            InterviewResponse response = interviewResponseRepository.findWithJobById(event.getResponseId())
+                    .orElse(null);
+            if (response != null) {
+                InterviewQuestion question = response.getQuestion();
+                return new EvalInput(question, response.getAiScore() == null ? response : null,
+                        question.getInterview().getApplication().getJob());
+            }
         }
+        InterviewQuestion question = interviewQuestionRepository.findAllWithJobByIdIn(List.of(event.getQuestionId()))
+                .stream()
+                .findFirst()
+                .orElseThrow(() -> new RuntimeException("Question not found: " + event.getQuestionId()));
+        InterviewResponse response = event.getResponseId() != null ? null
+                : interviewResponseRepository.findByQuestionId(event.getQuestionId()).stream()
+                        .filter(r -> r.getAiScore() == null)
+                        .findFirst()
+                        .orElse(null);
+        return new EvalInput(question, response, question.getInterview().getApplication().getJob());
     }
 }
@@ -0,0 +1,49 @@
+package com.hireai.messaging.consumer;
+
+import com.hireai.config.RabbitMQConfig;
+import com.hireai.messaging.event.NotificationEvent;
+import com.hireai.messaging.trace.PipelineLatencyTracker;
+import com.hireai.service.NotificationDigestService;
+import com.rabbitmq.client.Channel;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.messaging.Message;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Batch alternative to {@link NotificationConsumer}; settles each batch with one multiple-ack.
+ */
+@Component
+@ConditionalOnProperty(name = "app.messaging.notification.batch-enabled", havingValue = "true")
+@RequiredArgsConstructor
+@Slf4j
+public class NotificationBatchConsumer {
+
+    private final NotificationDigestService digestService;
+    private final PipelineLatencyTracker latencyTracker;
+
+    @RabbitListener(id = RabbitMQConfig.NOTIFICATION_LISTENER, queues = RabbitMQConfig.NOTIFICATION_QUEUE,
+            concurrency = "1-2", containerFactory = "notificationBatchContainerFactory")
+    public void handleNotificationBatch(List<Message<NotificationEvent>> messages, Channel channel) throws Exception {
+        List<Long> succeeded = new ArrayList<>();
+        List<Long> failed = new ArrayList<>();
+        for (Message<NotificationEvent> message : messages) {
+            long tag = BatchAcknowledger.deliveryTag(message);
+            Timer.Sample stage = latencyTracker.received(message.getPayload(), PipelineLatencyTracker.NOTIFIED);
+            try {
+                digestService.submit(message.getPayload(), stage);
+                succeeded.add(tag);
+            } catch (Exception e) {
+                log.error("Failed to send notification to {}", message.getPayload().getRecipientEmail(), e);
+                failed.add(tag);
+            }
+        }
+        BatchAcknowledger.settle(channel, succeeded, failed);
+    }
+}
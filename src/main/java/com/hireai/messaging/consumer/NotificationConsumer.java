@@ -2,23 +2,33 @@ package com.hireai.messaging.consumer;
 
 import com.hireai.config.RabbitMQConfig;
 import com.hireai.messaging.event.NotificationEvent;
+import com.hireai.messaging.trace.PipelineLatencyTracker;
+import com.hireai.service.NotificationDigestService;
 import com.rabbitmq.client.Channel;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.amqp.rabbit.annotation.RabbitListener;
 import org.springframework.amqp.support.AmqpHeaders;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.messaging.handler.annotation.Header;
 import org.springframework.stereotype.Component;
 
 @Component
+@ConditionalOnProperty(name = "app.messaging.notification.batch-enabled", havingValue = "false", matchIfMissing = true)
+@RequiredArgsConstructor
 @Slf4j
 public class NotificationConsumer {
 
-    @RabbitListener(queues = RabbitMQConfig.NOTIFICATION_QUEUE, concurrency = "1-2")
+    private final NotificationDigestService digestService;
+    private final PipelineLatencyTracker latencyTracker;
+
+    @RabbitListener(id = RabbitMQConfig.NOTIFICATION_LISTENER, queues = RabbitMQConfig.NOTIFICATION_QUEUE,
+            concurrency = "1-2")
     public void handleNotification(NotificationEvent event, Channel channel,
                                     @Header(AmqpHeaders.DELIVERY_TAG) long tag) throws Exception {
-        log.info("Notification sent to {}: [{}] {}", event.getRecipientEmail(), event.getType(), event.getSubject());
-        log.info("Notification body: {}", event.getBody());
-        // TODO: integrate JavaMailSender or webhook for real notifications
+        Timer.Sample stage = latencyTracker.received(event, PipelineLatencyTracker.NOTIFIED);
+        digestService.submit(event, stage);
         channel.basicAck(tag, false);
     }
 }
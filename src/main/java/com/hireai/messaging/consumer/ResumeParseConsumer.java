@@ -7,18 +7,25 @@ import com.hireai.config.RabbitMQConfig;
 import com.hireai.domain.entity.Resume;
 import com.hireai.domain.enums.ParseStatus;
 import com.hireai.messaging.event.CandidateScoreEvent;
+import com.hireai.messaging.event.HiringEvent;
+import com.hireai.messaging.event.PipelineTrace;
 import com.hireai.messaging.event.ResumeParseEvent;
 import com.hireai.messaging.producer.HiringEventProducer;
+import com.hireai.messaging.trace.PipelineLatencyTracker;
 import com.hireai.repository.ResumeRepository;
 import com.hireai.repository.VectorSearchRepository;
+import com.hireai.service.MatchCacheIndexService;
+import com.hireai.service.MessageDeduplicationService;
 import com.hireai.service.ResumeAIService;
+import com.hireai.service.ScreeningDependencyService;
 import com.hireai.util.TextExtractor;
 import com.rabbitmq.client.Channel;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.amqp.rabbit.annotation.RabbitListener;
 import org.springframework.amqp.support.AmqpHeaders;
-import org.springframework.cache.CacheManager;
 import org.springframework.messaging.handler.annotation.Header;
 import org.springframework.stereotype.Component;
 
@@ -33,12 +40,34 @@ public class ResumeParseConsumer {
     private final TextExtractor textExtractor;
     private final ObjectMapper objectMapper;
     private final HiringEventProducer eventProducer;
-    private final CacheManager cacheManager;
+    private final MatchCacheIndexService matchCacheIndexService;
+    private final FailedMessageRouter failedMessageRouter;
+    private final MessageDeduplicationService deduplicationService;
+    private final ScreeningDependencyService screeningDependencyService;
+    private final PipelineLatencyTracker latencyTracker;
 
-    @RabbitListener(queues = RabbitMQConfig.RESUME_PARSE_QUEUE, concurrency = "2-5")
+    @RabbitListener(id = RabbitMQConfig.RESUME_PARSE_LISTENER, queues = RabbitMQConfig.RESUME_PARSE_QUEUE,
+            concurrency = "2-5")
+    @RabbitListener(id = RabbitMQConfig.RESUME_PARSE_PARTITION_LISTENER, containerFactory = "partitionContainerFactory",
+            queues = "#{T(com.hireai.config.RabbitMQConfig).partitionQueueNames('resume.parse', ${app.messaging.partitioning.partitions:8})}",
+            autoStartup = "false")
     public void handleResumeParse(ResumeParseEvent event, Channel channel,
-                                   @Header(AmqpHeaders.DELIVERY_TAG) long tag) throws Exception {
+                                   @Header(AmqpHeaders.DELIVERY_TAG) long tag,
+                                   @Header(name = RabbitMQConfig.RETRY_ATTEMPT_HEADER, required = false) Integer attempt) throws Exception {
         log.info("Consuming resume parse event: resumeId={}", event.getResumeId());
+        PipelineTrace trace = event.getTrace();
+        Timer.Sample stage = latencyTracker.received(event, PipelineLatencyTracker.PARSED);
+        if (deduplicationService.isDuplicate(RabbitMQConfig.RESUME_PARSE_QUEUE, event)) {
+            channel.basicAck(tag, false);
+            return;
+        }
+        String lockToken = deduplicationService.tryLock(event);
+        if (lockToken == null) {
+            // Another node is on this entity; check back after the first retry delay
+            log.info("{} is locked by another consumer, deferring", event.entityKey());
+            failedMessageRouter.defer(RabbitMQConfig.RESUME_PARSE_QUEUE, event, attempt, channel, tag);
+            return;
+        }
         try {
             Resume resume = resumeRepository.findById(event.getResumeId())
                     .orElseThrow(() -> new RuntimeException("Resume not found: " + event.getResumeId()));
@@ -51,6 +80,8 @@ public class ResumeParseConsumer {
             if (resume.getRawText() == null || resume.getRawText().isBlank()) {
                 String rawText = textExtractor.extract(resume.getFilePath());
                 resume.setRawText(rawText);
+                latencyTracker.completed(PipelineLatencyTracker.EXTRACTED, stage, trace);
+                stage = latencyTracker.startStage();
             }
 
             // AI parse
@@ -58,27 +89,40 @@ public class ResumeParseConsumer {
             resume.setParsedData(objectMapper.writeValueAsString(parsed));
             resume.setSkills(objectMapper.writeValueAsString(parsed.skills()));
             resume.setExperienceSummary(parsed.summary());
+            latencyTracker.completed(PipelineLatencyTracker.PARSED, stage, trace);
 
             // Generate and store embedding
+            Timer.Sample embeddingStage = latencyTracker.startStage();
             float[] embedding = resumeAIService.generateEmbedding(resume.getRawText());
             vectorSearchRepository.saveResumeEmbedding(resume.getId(), embedding);
+            latencyTracker.completed(PipelineLatencyTracker.EMBEDDED, embeddingStage, trace);
 
             resume.setParseStatus(ParseStatus.COMPLETED);
-            resumeRepository.save(resume);
+            resume = resumeRepository.save(resume);
             log.info("Resume parsed successfully: resumeId={}, skills={}", resume.getId(),
                     parsed.skills() != null ? parsed.skills().size() : 0);
 
-            // Evict match caches since embeddings changed
-            evictMatchCaches();
+            // Evict the match-cache entries the new embedding can change
+            matchCacheIndexService.resumeEmbedded(event.getCandidateId(), resume.getId());
+
+            // Screenings that arrived before the parse can run now
+            screeningDependencyService.release(resume.getId());
 
             // Trigger candidate scoring
             eventProducer.publishCandidateScore(CandidateScoreEvent.builder()
                     .candidateId(event.getCandidateId())
                     .resumeId(event.getResumeId())
+                    .entityVersion(HiringEvent.versionOf(resume.getUpdatedAt()))
+                    .trace(trace != null ? trace.copy() : null)
                     .build());
 
+            deduplicationService.markProcessed(RabbitMQConfig.RESUME_PARSE_QUEUE, event);
             channel.basicAck(tag, false);
 
+        } catch (BulkheadFullException e) {
+            // Local AI concurrency is saturated: put the message back without spending a retry
+            log.info("AI bulkhead full for resume {}, deferring", event.getResumeId());
+            failedMessageRouter.defer(RabbitMQConfig.RESUME_PARSE_QUEUE, event, attempt, channel, tag);
         } catch (Exception e) {
             log.error("Failed to process resume parse event: resumeId={}", event.getResumeId(), e);
             try {
@@ -90,19 +134,15 @@ public class ResumeParseConsumer {
             } catch (Exception ex) {
                 log.error("Failed to update resume status to FAILED", ex);
             }
-            channel.basicNack(tag, false, false); // Send to DLQ
-        }
-    }
-
-    private void evictMatchCaches() {
-        try {
-            var topCandidates = cacheManager.getCache("topCandidates");
-            if (topCandidates != null) topCandidates.clear();
-            var recommendedJobs = cacheManager.getCache("recommendedJobs");
-            if (recommendedJobs != null) recommendedJobs.clear();
-            log.debug("Evicted match caches after resume embedding update");
-        } catch (Exception e) {
-            log.warn("Failed to evict match caches: {}", e.getMessage());
+            if (failedMessageRouter.retryOrPark(RabbitMQConfig.RESUME_PARSE_QUEUE, event, attempt, channel, tag)) {
+                try {
+                    screeningDependencyService.parseFailed(event.getResumeId());
+                } catch (Exception ex) {
+                    log.error("Failed to mark screenings waiting on resume {} failed", event.getResumeId(), ex);
+                }
+            }
+        } finally {
+            deduplicationService.unlock(event, lockToken);
         }
     }
 }
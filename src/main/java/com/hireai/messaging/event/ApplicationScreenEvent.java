@@ -6,9 +6,17 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 
 @Data @NoArgsConstructor @AllArgsConstructor @Builder
-public class ApplicationScreenEvent {
+public class ApplicationScreenEvent implements HiringEvent {
+    private String eventId;
+    private Long entityVersion;
+    private PipelineTrace trace;
     private Long applicationId;
     private Long jobId;
     private Long candidateId;
     private Long resumeId;
+
+    @Override
+    public String entityKey() {
+        return "application:" + applicationId;
+    }
 }
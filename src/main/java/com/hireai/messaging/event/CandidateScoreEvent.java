@@ -6,8 +6,16 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 
 @Data @NoArgsConstructor @AllArgsConstructor @Builder
-public class CandidateScoreEvent {
+public class CandidateScoreEvent implements HiringEvent {
+    private String eventId;
+    private Long entityVersion;
+    private PipelineTrace trace;
     private Long candidateId;
     private Long resumeId;
     private Long jobId;
+
+    @Override
+    public String entityKey() {
+        return "candidate-score:" + resumeId + ":" + jobId;
+    }
 }
@@ -0,0 +1,32 @@
+package com.hireai.messaging.event;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+/**
+ * An event that triggers work on a single entity. The producer stamps a unique {@code eventId};
+ * {@code entityVersion} identifies the entity state the event was raised for, so redeliveries
+ * and repeated publishes for the same state deduplicate to one unit of work.
+ */
+public interface HiringEvent extends TracedEvent {
+
+    String getEventId();
+
+    void setEventId(String eventId);
+
+    Long getEntityVersion();
+
+    void setEntityVersion(Long entityVersion);
+
+    /**
+     * Entity the consumer works on, e.g. {@code resume:42}; used for ledger and lock keys.
+     */
+    String entityKey();
+
+    /**
+     * Entity version derived from its {@code updatedAt} timestamp.
+     */
+    static Long versionOf(LocalDateTime updatedAt) {
+        return updatedAt != null ? updatedAt.toInstant(ZoneOffset.UTC).toEpochMilli() : null;
+    }
+}
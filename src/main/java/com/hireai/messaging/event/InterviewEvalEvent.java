@@ -6,8 +6,17 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 
 @Data @NoArgsConstructor @AllArgsConstructor @Builder
-public class InterviewEvalEvent {
+public class InterviewEvalEvent implements HiringEvent {
+    private String eventId;
+    private Long entityVersion;
+    private PipelineTrace trace;
     private Long interviewId;
     private Long questionId;
+    private Long responseId;
     private String answerText;
+
+    @Override
+    public String entityKey() {
+        return responseId != null ? "interview-response:" + responseId : "interview-question:" + questionId;
+    }
 }
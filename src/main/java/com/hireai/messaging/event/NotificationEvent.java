@@ -6,9 +6,10 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 
 @Data @NoArgsConstructor @AllArgsConstructor @Builder
-public class NotificationEvent {
+public class NotificationEvent implements TracedEvent {
     private String recipientEmail;
     private String type;
     private String subject;
     private String body;
+    private PipelineTrace trace;
 }
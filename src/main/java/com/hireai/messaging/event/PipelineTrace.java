@@ -0,0 +1,38 @@
+package com.hireai.messaging.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Timing carried along a pipeline from event to event: when the pipeline started, when each stage
+ * finished and when the current hop was enqueued (all epoch millis).
+ */
+@Data @NoArgsConstructor @AllArgsConstructor @Builder
+public class PipelineTrace {
+    private String pipeline;
+    private Long originAt;
+    private Long enqueuedAt;
+    @Builder.Default
+    private Map<String, Long> stages = new LinkedHashMap<>();
+
+    public static PipelineTrace start(String pipeline, long originAt) {
+        return PipelineTrace.builder().pipeline(pipeline).originAt(originAt).build();
+    }
+
+    public PipelineTrace stamp(String stage, long at) {
+        stages.put(stage, at);
+        return this;
+    }
+
+    /**
+     * Copy for the next hop, so one event's trace is never mutated through another.
+     */
+    public PipelineTrace copy() {
+        return new PipelineTrace(pipeline, originAt, null, new LinkedHashMap<>(stages));
+    }
+}
@@ -6,8 +6,16 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 
 @Data @NoArgsConstructor @AllArgsConstructor @Builder
-public class ResumeParseEvent {
+public class ResumeParseEvent implements HiringEvent {
+    private String eventId;
+    private Long entityVersion;
+    private PipelineTrace trace;
     private Long resumeId;
     private Long candidateId;
     private String filePath;
+
+    @Override
+    public String entityKey() {
+        return "resume:" + resumeId;
+    }
 }
@@ -0,0 +1,12 @@
+package com.hireai.messaging.event;
+
+/**
+ * An event that carries a {@link PipelineTrace}; the trace is null for events raised outside a
+ * tracked pipeline.
+ */
+public interface TracedEvent {
+
+    PipelineTrace getTrace();
+
+    void setTrace(PipelineTrace trace);
+}
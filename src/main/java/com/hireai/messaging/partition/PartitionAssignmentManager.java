@@ -0,0 +1,174 @@
+package com.hireai.messaging.partition;
+
+import com.hireai.config.RabbitMQConfig;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.rabbit.listener.DirectMessageListenerContainer;
+import org.springframework.amqp.rabbit.listener.RabbitListenerEndpointRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.net.InetAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.CRC32;
+
+/**
+ * Spreads partition queues across the running nodes. Each node heartbeats into a Redis sorted set;
+ * every tick it reads the live members and claims the partitions it wins under rendezvous hashing,
+ * so a node joining or leaving only moves the partitions it gains or loses. Because the same
+ * candidate or job always hashes to the same partition, its resume, embeddings and scores stay
+ * warm in one node's caches.
+ */
+@Component
+@ConditionalOnProperty(name = "app.messaging.partitioning.enabled", havingValue = "true")
+@Slf4j
+public class PartitionAssignmentManager {
+
+    private static final String MEMBERS_KEY = "partition:members";
+
+    private static final Map<String, String> LISTENERS = Map.of(
+            RabbitMQConfig.RESUME_PARSE_PARTITION_LISTENER, RabbitMQConfig.RESUME_PARSE_QUEUE,
+            RabbitMQConfig.CANDIDATE_SCORE_PARTITION_LISTENER, RabbitMQConfig.CANDIDATE_SCORE_QUEUE,
+            RabbitMQConfig.APPLICATION_SCREEN_PARTITION_LISTENER, RabbitMQConfig.APPLICATION_SCREEN_QUEUE);
+
+    private final RabbitListenerEndpointRegistry listenerRegistry;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final MeterRegistry meterRegistry;
+    private final int partitions;
+    private final long memberTimeoutMs;
+    private final String nodeId;
+
+    private final Map<String, Set<String>> owned = new ConcurrentHashMap<>();
+
+    public PartitionAssignmentManager(RabbitListenerEndpointRegistry listenerRegistry,
+                                      RedisTemplate<String, String> redisTemplate,
+                                      MeterRegistry meterRegistry,
+                                      @Value("${app.messaging.partitioning.partitions:8}") int partitions,
+                                      @Value("${app.messaging.partitioning.member-timeout-ms:15000}") long memberTimeoutMs) {
+        this.listenerRegistry = listenerRegistry;
+        this.redisTemplate = redisTemplate;
+        this.meterRegistry = meterRegistry;
+        this.partitions = partitions;
+        this.memberTimeoutMs = memberTimeoutMs;
+        this.nodeId = hostname() + ":" + UUID.randomUUID().toString().substring(0, 8);
+        meterRegistry.gauge("hireai.messaging.partitions.owned", owned,
+                o -> o.values().stream().mapToInt(Set::size).sum());
+    }
+
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    public Map<String, Set<String>> getOwned() {
+        return Map.copyOf(owned);
+    }
+
+    @Scheduled(fixedDelayString = "${app.messaging.partitioning.heartbeat-ms:5000}")
+    public void rebalance() {
+        try {
+            List<String> members = heartbeat();
+            for (Map.Entry<String, String> listener : LISTENERS.entrySet()) {
+                String[] queues = RabbitMQConfig.partitionQueueNames(listener.getValue(), partitions);
+                Set<String> mine = new HashSet<>();
+                for (String queue : queues) {
+                    if (nodeId.equals(ownerOf(queue, members))) {
+                        mine.add(queue);
+                    }
+                }
+                assign(listener.getKey(), mine);
+            }
+        } catch (Exception e) {
+            log.warn("Partition rebalance failed: {}", e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void leave() {
+        try {
+            redisTemplate.opsForZSet().remove(MEMBERS_KEY, nodeId);
+        } catch (Exception e) {
+            log.warn("Failed to leave partition group: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Refreshes this node's heartbeat, drops members that stopped heartbeating and returns the rest.
+     */
+    private List<String> heartbeat() {
+        long now = System.currentTimeMillis();
+        redisTemplate.opsForZSet().add(MEMBERS_KEY, nodeId, now);
+        redisTemplate.opsForZSet().removeRangeByScore(MEMBERS_KEY, 0, now - memberTimeoutMs);
+        Set<String> live = redisTemplate.opsForZSet().rangeByScore(MEMBERS_KEY, now - memberTimeoutMs, Double.MAX_VALUE);
+        return live == null || live.isEmpty() ? List.of(nodeId) : new ArrayList<>(live);
+    }
+
+    /**
+     * Rendezvous (highest random weight) hashing: every node computes the same owner from the same
+     * member list, and removing a member only reassigns the partitions it owned.
+     */
+    static String ownerOf(String partition, List<String> members) {
+        String owner = null;
+        long best = -1;
+        for (String member : members) {
+            CRC32 crc = new CRC32();
+            crc.update((partition + "|" + member).getBytes(StandardCharsets.UTF_8));
+            long weight = crc.getValue();
+            if (weight > best || (weight == best && member.compareTo(owner) < 0)) {
+                best = weight;
+                owner = member;
+            }
+        }
+        return owner;
+    }
+
+    private void assign(String listenerId, Set<String> mine) {
+        if (!(listenerRegistry.getListenerContainer(listenerId) instanceof DirectMessageListenerContainer container)) {
+            return;
+        }
+        Set<String> current = owned.getOrDefault(listenerId, Set.of());
+        if (current.equals(mine) && container.isRunning() == !mine.isEmpty()) {
+            return;
+        }
+
+        if (mine.isEmpty()) {
+            container.stop();
+        } else if (!container.isRunning()) {
+            container.setQueueNames(mine.toArray(String[]::new));
+            container.start();
+        } else {
+            // A running direct container adds and cancels per-queue consumers without a restart
+            String[] added = mine.stream().filter(q -> !current.contains(q)).toArray(String[]::new);
+            String[] removed = current.stream().filter(q -> !mine.contains(q)).toArray(String[]::new);
+            if (removed.length > 0) {
+                container.removeQueueNames(removed);
+            }
+            if (added.length > 0) {
+                container.addQueueNames(added);
+            }
+        }
+        owned.put(listenerId, Set.copyOf(mine));
+        meterRegistry.counter("hireai.messaging.partitions.rebalances", "listener", listenerId).increment();
+        log.info("Node {} owns {} partitions for {}: {}", nodeId, mine.size(), listenerId,
+                Arrays.toString(mine.stream().sorted().toArray()));
+    }
+
+    private static String hostname() {
+        try {
+            return InetAddress.getLocalHost().getHostName();
+        } catch (Exception e) {
+            return "node";
+        }
+    }
+}
@@ -1,41 +1,134 @@
 package com.hireai.messaging.producer;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.hireai.config.RabbitMQConfig;
 import com.hireai.messaging.event.*;
+import com.hireai.repository.OutboxRepository;
+import com.hireai.repository.OutboxRepository.NewOutboxEvent;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Writes hiring events to the transactional outbox. Inside a transaction the row commits or rolls
+ * back with the business change; {@link OutboxRelay} publishes it to RabbitMQ afterwards.
+ */
 @Component
 @RequiredArgsConstructor
 @Slf4j
 public class HiringEventProducer {
 
-    private final RabbitTemplate rabbitTemplate;
+    private final OutboxRepository outboxRepository;
+    private final OutboxRelay outboxRelay;
+    private final ObjectMapper objectMapper;
+
+    @Value("${app.messaging.partitioning.enabled:false}")
+    private boolean partitioningEnabled;
+
+    // The batch score consumer only listens on the shared queue (batching needs the simple
+    // container), so partitioned score messages would sit unconsumed in candidate.score.pN
+    @Value("${app.messaging.candidate-score.batch-enabled:false}")
+    private boolean candidateScoreBatchEnabled;
 
     public void publishResumeParse(ResumeParseEvent event) {
         log.info("Publishing resume parse event: resumeId={}, candidateId={}", event.getResumeId(), event.getCandidateId());
-        rabbitTemplate.convertAndSend(RabbitMQConfig.HIRING_EXCHANGE, RabbitMQConfig.RESUME_PARSE_KEY, event);
+        enqueuePartitioned(RabbitMQConfig.RESUME_PARSE_QUEUE, RabbitMQConfig.RESUME_PARSE_KEY, event, event.getCandidateId());
+    }
+
+    /**
+     * Writes many parse events with one batched insert, for bulk ingestion.
+     */
+    public void publishResumeParses(List<ResumeParseEvent> events) {
+        if (events.isEmpty()) return;
+        log.info("Publishing {} resume parse events", events.size());
+        outboxRepository.insertAll(events.stream()
+                .map(event -> partitioned(RabbitMQConfig.RESUME_PARSE_QUEUE, RabbitMQConfig.RESUME_PARSE_KEY,
+                        event, event.getCandidateId()))
+                .toList());
+        wakeRelay();
     }
 
     public void publishCandidateScore(CandidateScoreEvent event) {
         log.info("Publishing candidate score event: candidateId={}, resumeId={}, jobId={}", event.getCandidateId(), event.getResumeId(), event.getJobId());
-        rabbitTemplate.convertAndSend(RabbitMQConfig.HIRING_EXCHANGE, RabbitMQConfig.CANDIDATE_SCORE_KEY, event);
+        if (candidateScoreBatchEnabled) {
+            enqueue(RabbitMQConfig.HIRING_EXCHANGE, RabbitMQConfig.CANDIDATE_SCORE_KEY, event);
+        } else {
+            enqueuePartitioned(RabbitMQConfig.CANDIDATE_SCORE_QUEUE, RabbitMQConfig.CANDIDATE_SCORE_KEY, event, event.getCandidateId());
+        }
     }
 
     public void publishApplicationScreen(ApplicationScreenEvent event) {
         log.info("Publishing application screen event: applicationId={}, jobId={}", event.getApplicationId(), event.getJobId());
-        rabbitTemplate.convertAndSend(RabbitMQConfig.HIRING_EXCHANGE, RabbitMQConfig.APPLICATION_SCREEN_KEY, event);
+        enqueuePartitioned(RabbitMQConfig.APPLICATION_SCREEN_QUEUE, RabbitMQConfig.APPLICATION_SCREEN_KEY, event, event.getJobId());
     }
 
     public void publishInterviewEval(InterviewEvalEvent event) {
         log.info("Publishing interview eval event: interviewId={}, questionId={}", event.getInterviewId(), event.getQuestionId());
-        rabbitTemplate.convertAndSend(RabbitMQConfig.HIRING_EXCHANGE, RabbitMQConfig.INTERVIEW_EVALUATE_KEY, event);
+        enqueue(RabbitMQConfig.HIRING_EXCHANGE, RabbitMQConfig.INTERVIEW_EVALUATE_KEY, event);
     }
 
     public void publishNotification(NotificationEvent event) {
         log.info("Publishing notification event: type={}, recipient={}", event.getType(), event.getRecipientEmail());
-        rabbitTemplate.convertAndSend(RabbitMQConfig.HIRING_EXCHANGE, "notification.send", event);
+        enqueue(RabbitMQConfig.HIRING_EXCHANGE, "notification.send", event);
+    }
+
+    /**
+     * With partitioning on, routes through the queue's consistent-hash exchange keyed by the
+     * candidate or job, so the same entity always reaches the same partition and node.
+     */
+    private void enqueuePartitioned(String queue, String routingKey, Object event, Long partitionKey) {
+        enqueue(partitioned(queue, routingKey, event, partitionKey));
+    }
+
+    private NewOutboxEvent partitioned(String queue, String routingKey, Object event, Long partitionKey) {
+        if (partitioningEnabled && partitionKey != null) {
+            return toOutboxEvent(RabbitMQConfig.partitionExchangeName(queue), String.valueOf(partitionKey), event);
+        }
+        return toOutboxEvent(RabbitMQConfig.HIRING_EXCHANGE, routingKey, event);
+    }
+
+    private void enqueue(String exchange, String routingKey, Object event) {
+        enqueue(toOutboxEvent(exchange, routingKey, event));
+    }
+
+    private void enqueue(NewOutboxEvent outboxEvent) {
+        outboxRepository.insert(outboxEvent.exchange(), outboxEvent.routingKey(), outboxEvent.eventType(),
+                outboxEvent.payload());
+        wakeRelay();
+    }
+
+    private NewOutboxEvent toOutboxEvent(String exchange, String routingKey, Object event) {
+        if (event instanceof HiringEvent hiringEvent && hiringEvent.getEventId() == null) {
+            hiringEvent.setEventId(UUID.randomUUID().toString());
+        }
+        if (event instanceof TracedEvent traced && traced.getTrace() != null) {
+            traced.getTrace().setEnqueuedAt(System.currentTimeMillis());
+        }
+        try {
+            return new NewOutboxEvent(exchange, routingKey, event.getClass().getName(),
+                    objectMapper.writeValueAsString(event));
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Failed to serialize " + event.getClass().getSimpleName(), e);
+        }
+    }
+
+    private void wakeRelay() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    outboxRelay.wakeUp();
+                }
+            });
+        } else {
+            outboxRelay.wakeUp();
+        }
     }
 }
@@ -0,0 +1,186 @@
+package com.hireai.messaging.producer;
+
+import com.hireai.repository.OutboxRepository;
+import com.hireai.repository.OutboxRepository.OutboxEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageDeliveryMode;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Publishes outbox rows to RabbitMQ in batches and deletes them once the broker has confirmed
+ * the batch. Runs on a fixed poll and is also woken right after a transaction that wrote rows
+ * commits, so the poll interval only bounds latency when a wake-up is lost.
+ *
+ * <p>Rows are claimed first and published with no transaction or row lock held, through a
+ * template without the shared one's blocking retries; a failed batch backs off and rows that
+ * keep failing are parked in the table with {@code failed_at} set.
+ *
+ * <p>The backlog and parked gauges read counters kept by the relay thread instead of counting
+ * the table on every scrape: published and parked rows adjust them as they happen, and they are
+ * recounted from the table at most every {@code count-refresh-ms} to pick up new rows.
+ */
+@Component
+@Slf4j
+public class OutboxRelay {
+
+    private static final String TYPE_ID_HEADER = "__TypeId__";
+
+    private final OutboxRepository outboxRepository;
+    private final RabbitTemplate rabbitTemplate;
+    private final MeterRegistry meterRegistry;
+    private final int batchSize;
+    private final long confirmTimeoutMs;
+    private final int maxAttempts;
+    private final long retryBackoffMs;
+    private final long maxBackoffMs;
+    private final long claimLeaseMs;
+    private final long countRefreshMs;
+
+    private final AtomicLong backlog = new AtomicLong();
+    private final AtomicLong parkedRows = new AtomicLong();
+    private long countedAt;
+    private final AtomicBoolean wakeUpPending = new AtomicBoolean();
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(r -> {
+        Thread thread = new Thread(r, "outbox-relay");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public OutboxRelay(OutboxRepository outboxRepository, RabbitTemplate rabbitTemplate, MeterRegistry meterRegistry,
+                       @Value("${app.messaging.outbox.batch-size:100}") int batchSize,
+                       @Value("${app.messaging.outbox.confirm-timeout-ms:5000}") long confirmTimeoutMs,
+                       @Value("${app.messaging.outbox.max-attempts:10}") int maxAttempts,
+                       @Value("${app.messaging.outbox.retry-backoff-ms:1000}") long retryBackoffMs,
+                       @Value("${app.messaging.outbox.max-backoff-ms:300000}") long maxBackoffMs,
+                       @Value("${app.messaging.outbox.claim-lease-ms:30000}") long claimLeaseMs,
+                       @Value("${app.messaging.outbox.count-refresh-ms:30000}") long countRefreshMs) {
+        this.outboxRepository = outboxRepository;
+        // Same connection factory, but a failed publish fails fast instead of retrying in place
+        this.rabbitTemplate = new RabbitTemplate(rabbitTemplate.getConnectionFactory());
+        this.meterRegistry = meterRegistry;
+        this.batchSize = batchSize;
+        this.confirmTimeoutMs = confirmTimeoutMs;
+        this.maxAttempts = maxAttempts;
+        this.retryBackoffMs = retryBackoffMs;
+        this.maxBackoffMs = maxBackoffMs;
+        this.claimLeaseMs = claimLeaseMs;
+        this.countRefreshMs = countRefreshMs;
+        meterRegistry.gauge("hireai.outbox.backlog", backlog);
+        meterRegistry.gauge("hireai.outbox.parked", parkedRows);
+    }
+
+    /**
+     * Schedules a drain on the relay thread; wake-ups arriving while one is pending are merged.
+     */
+    public void wakeUp() {
+        if (wakeUpPending.compareAndSet(false, true)) {
+            executor.execute(() -> {
+                wakeUpPending.set(false);
+                drain();
+            });
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.messaging.outbox.poll-interval-ms:1000}")
+    public void poll() {
+        drain();
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private synchronized void drain() {
+        try {
+            refreshCounts();
+            int relayed;
+            do {
+                relayed = relayBatch();
+            } while (relayed == batchSize);
+        } catch (Exception e) {
+            log.error("Outbox relay failed", e);
+        }
+    }
+
+    /**
+     * @return number of rows published and deleted, 0 if the batch failed or nothing is due
+     */
+    private int relayBatch() {
+        List<OutboxEvent> events = outboxRepository.claimBatch(batchSize, claimLeaseMs);
+        if (events.isEmpty()) {
+            return 0;
+        }
+        List<Long> ids = events.stream().map(OutboxEvent::id).toList();
+        try {
+            rabbitTemplate.invoke(ops -> {
+                for (OutboxEvent event : events) {
+                    ops.send(event.exchange(), event.routingKey(), toMessage(event));
+                }
+                ops.waitForConfirmsOrDie(confirmTimeoutMs);
+                return null;
+            });
+        } catch (Exception e) {
+            // Rows back off and are retried on a later drain, or parked once out of attempts
+            int parked = outboxRepository.recordFailure(ids, e.getMessage(), retryBackoffMs, maxBackoffMs, maxAttempts);
+            log.warn("Failed to relay {} outbox events ({} parked): {}", events.size(), parked, e.getMessage());
+            meterRegistry.counter("hireai.outbox.failed").increment(events.size());
+            if (parked > 0) {
+                log.error("Parked {} outbox events after {} attempts", parked, maxAttempts);
+                backlog.updateAndGet(n -> Math.max(0, n - parked));
+                parkedRows.addAndGet(parked);
+            }
+            return 0;
+        }
+        outboxRepository.deleteAll(ids);
+        backlog.updateAndGet(n -> Math.max(0, n - events.size()));
+
+        LocalDateTime now = LocalDateTime.now();
+        for (OutboxEvent event : events) {
+            meterRegistry.timer("hireai.outbox.lag", "routingKey", event.routingKey())
+                    .record(Duration.between(event.createdAt(), now));
+        }
+        meterRegistry.counter("hireai.outbox.published").increment(events.size());
+        log.debug("Relayed {} outbox events", events.size());
+        return events.size();
+    }
+
+    /**
+     * Recounts the gauges from the table once they are older than count-refresh-ms; rows inserted
+     * since the last recount only show up in the backlog gauge after the next one.
+     */
+    private void refreshCounts() {
+        long now = System.currentTimeMillis();
+        if (countedAt != 0 && now - countedAt < countRefreshMs) {
+            return;
+        }
+        backlog.set(outboxRepository.count());
+        parkedRows.set(outboxRepository.countParked());
+        countedAt = now;
+    }
+
+    private Message toMessage(OutboxEvent event) {
+        MessageProperties props = new MessageProperties();
+        props.setContentType(MessageProperties.CONTENT_TYPE_JSON);
+        props.setContentEncoding(StandardCharsets.UTF_8.name());
+        props.setDeliveryMode(MessageDeliveryMode.PERSISTENT);
+        props.setHeader(TYPE_ID_HEADER, event.eventType());
+        return new Message(event.payload().getBytes(StandardCharsets.UTF_8), props);
+    }
+}
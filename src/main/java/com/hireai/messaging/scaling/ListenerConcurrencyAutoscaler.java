@@ -0,0 +1,255 @@
+package com.hireai.messaging.scaling;
+
+import com.hireai.config.RabbitMQConfig;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.core.AmqpAdmin;
+import org.springframework.amqp.core.QueueInformation;
+import org.springframework.amqp.rabbit.listener.RabbitListenerEndpointRegistry;
+import org.springframework.amqp.rabbit.listener.SimpleMessageListenerContainer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Resizes listener containers from observed load instead of the fixed concurrency ranges on the
+ * {@code @RabbitListener} annotations. Each tick samples queue depth, how busy the current consumers
+ * were (from the container's {@code spring.rabbitmq.listener} timer) and recent AI call latency,
+ * computes a target per listener and then fits all targets into one global consumer budget,
+ * giving spare capacity to the deepest queues first.
+ */
+@Component
+@Slf4j
+public class ListenerConcurrencyAutoscaler {
+
+    /** aiBound listeners are held at their size while AI calls are slower than the latency threshold */
+    private static final List<ScaledListener> LISTENERS = List.of(
+            new ScaledListener(RabbitMQConfig.RESUME_PARSE_LISTENER, RabbitMQConfig.RESUME_PARSE_QUEUE, true),
+            new ScaledListener(RabbitMQConfig.CANDIDATE_SCORE_LISTENER, RabbitMQConfig.CANDIDATE_SCORE_QUEUE, true),
+            new ScaledListener(RabbitMQConfig.APPLICATION_SCREEN_LISTENER, RabbitMQConfig.APPLICATION_SCREEN_QUEUE, true),
+            new ScaledListener(RabbitMQConfig.INTERVIEW_EVALUATE_LISTENER, RabbitMQConfig.INTERVIEW_EVALUATE_QUEUE, true),
+            new ScaledListener(RabbitMQConfig.NOTIFICATION_LISTENER, RabbitMQConfig.NOTIFICATION_QUEUE, false));
+
+    private record ScaledListener(String id, String queue, boolean aiBound) {}
+
+    public record ScalingDecision(String listenerId, String queue, long depth, int consumers, double utilization,
+                                  int target, int prefetch, String reason, LocalDateTime decidedAt) {}
+
+    private record TimerSnapshot(long count, double totalSeconds) {}
+
+    private final RabbitListenerEndpointRegistry listenerRegistry;
+    private final AmqpAdmin amqpAdmin;
+    private final MeterRegistry meterRegistry;
+    private final boolean enabled;
+    private final long intervalMs;
+    private final int globalMaxConsumers;
+    private final int maxConsumersPerListener;
+    private final int targetBacklogPerConsumer;
+    private final int maxPrefetch;
+    private final long aiLatencyThresholdMs;
+
+    private final Map<String, ScalingDecision> decisions = new ConcurrentHashMap<>();
+    private final Map<String, TimerSnapshot> lastListenerTimes = new ConcurrentHashMap<>();
+    private TimerSnapshot lastAiTimes;
+
+    public ListenerConcurrencyAutoscaler(RabbitListenerEndpointRegistry listenerRegistry, AmqpAdmin amqpAdmin,
+                                         MeterRegistry meterRegistry,
+                                         @Value("${app.messaging.autoscaler.enabled:false}") boolean enabled,
+                                         @Value("${app.messaging.autoscaler.interval-ms:15000}") long intervalMs,
+                                         @Value("${app.messaging.autoscaler.global-max-consumers:20}") int globalMaxConsumers,
+                                         @Value("${app.messaging.autoscaler.max-consumers-per-listener:10}") int maxConsumersPerListener,
+                                         @Value("${app.messaging.autoscaler.target-backlog-per-consumer:20}") int targetBacklogPerConsumer,
+                                         @Value("${app.messaging.autoscaler.max-prefetch:10}") int maxPrefetch,
+                                         @Value("${app.messaging.autoscaler.ai-latency-threshold-ms:8000}") long aiLatencyThresholdMs) {
+        this.listenerRegistry = listenerRegistry;
+        this.amqpAdmin = amqpAdmin;
+        this.meterRegistry = meterRegistry;
+        this.enabled = enabled;
+        this.intervalMs = intervalMs;
+        this.globalMaxConsumers = globalMaxConsumers;
+        this.maxConsumersPerListener = maxConsumersPerListener;
+        this.targetBacklogPerConsumer = targetBacklogPerConsumer;
+        this.maxPrefetch = maxPrefetch;
+        this.aiLatencyThresholdMs = aiLatencyThresholdMs;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public Map<String, ScalingDecision> getDecisions() {
+        return Map.copyOf(decisions);
+    }
+
+    @Scheduled(fixedDelayString = "${app.messaging.autoscaler.interval-ms:15000}",
+            initialDelayString = "${app.messaging.autoscaler.interval-ms:15000}")
+    public void rebalance() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            double aiLatencyMs = sampleAiLatencyMs();
+            boolean aiSlow = aiLatencyMs > aiLatencyThresholdMs;
+
+            Map<ScaledListener, ScalingDecision> proposals = new LinkedHashMap<>();
+            for (ScaledListener listener : LISTENERS) {
+                if (listenerRegistry.getListenerContainer(listener.id()) instanceof SimpleMessageListenerContainer container) {
+                    proposals.put(listener, propose(listener, container, aiSlow));
+                }
+            }
+            for (Map.Entry<ScaledListener, ScalingDecision> entry : fitToBudget(proposals).entrySet()) {
+                apply(entry.getKey(), entry.getValue());
+            }
+        } catch (Exception e) {
+            log.warn("Listener autoscaler tick failed: {}", e.getMessage());
+        }
+    }
+
+    private ScalingDecision propose(ScaledListener listener, SimpleMessageListenerContainer container, boolean aiSlow) {
+        QueueInformation info = amqpAdmin.getQueueInfo(listener.queue());
+        long depth = info != null ? info.getMessageCount() : 0;
+        int consumers = Math.max(1, container.getActiveConsumerCount());
+        double utilization = sampleUtilization(listener, consumers);
+
+        int wanted = (int) Math.min(maxConsumersPerListener, Math.max(1, ceilDiv(depth, targetBacklogPerConsumer)));
+        int target;
+        String reason;
+        if (wanted > consumers && listener.aiBound() && aiSlow) {
+            target = consumers;
+            reason = "hold: AI latency above threshold";
+        } else if (wanted > consumers) {
+            target = wanted;
+            reason = "scale up: backlog";
+        } else if (depth == 0 && utilization < 0.3) {
+            target = Math.max(1, consumers - 1);
+            reason = target < consumers ? "scale down: idle" : "steady";
+        } else if (utilization > 0.8 && depth > 0) {
+            target = Math.min(maxConsumersPerListener, consumers + 1);
+            reason = "scale up: saturated";
+        } else {
+            target = Math.max(wanted, Math.min(consumers, maxConsumersPerListener));
+            reason = "steady";
+        }
+        return new ScalingDecision(listener.id(), listener.queue(), depth, consumers, utilization,
+                target, prefetchFor(depth, target), reason, LocalDateTime.now());
+    }
+
+    /**
+     * Every listener keeps one consumer; the rest of the budget goes to the deepest queues first.
+     */
+    private Map<ScaledListener, ScalingDecision> fitToBudget(Map<ScaledListener, ScalingDecision> proposals) {
+        int requested = proposals.values().stream().mapToInt(ScalingDecision::target).sum();
+        if (requested <= globalMaxConsumers) {
+            return proposals;
+        }
+        int remaining = globalMaxConsumers - proposals.size();
+        List<Map.Entry<ScaledListener, ScalingDecision>> byDepth = new ArrayList<>(proposals.entrySet());
+        byDepth.sort(Comparator.comparingLong((Map.Entry<ScaledListener, ScalingDecision> e) -> e.getValue().depth()).reversed());
+
+        Map<ScaledListener, ScalingDecision> fitted = new LinkedHashMap<>();
+        for (Map.Entry<ScaledListener, ScalingDecision> entry : byDepth) {
+            ScalingDecision d = entry.getValue();
+            int extra = Math.max(0, Math.min(d.target() - 1, remaining));
+            remaining -= extra;
+            int target = 1 + extra;
+            String reason = target < d.target() ? d.reason() + " (capped by global budget)" : d.reason();
+            fitted.put(entry.getKey(), new ScalingDecision(d.listenerId(), d.queue(), d.depth(), d.consumers(),
+                    d.utilization(), target, prefetchFor(d.depth(), target), reason, d.decidedAt()));
+        }
+        return fitted;
+    }
+
+    private void apply(ScaledListener listener, ScalingDecision decision) {
+        if (!(listenerRegistry.getListenerContainer(listener.id()) instanceof SimpleMessageListenerContainer container)) {
+            return;
+        }
+        ScalingDecision previous = decisions.put(listener.id(), decision);
+        registerGauges(listener.id());
+
+        if (previous == null || previous.target() != decision.target()) {
+            // Max before min when growing, min before max when shrinking, so min <= max always holds
+            if (previous == null || decision.target() > previous.target()) {
+                container.setMaxConcurrentConsumers(decision.target());
+                container.setConcurrentConsumers(decision.target());
+            } else {
+                container.setConcurrentConsumers(decision.target());
+                container.setMaxConcurrentConsumers(decision.target());
+            }
+            log.info("Listener {} -> {} consumers ({}; depth={}, utilization={})", listener.id(), decision.target(),
+                    decision.reason(), decision.depth(), String.format("%.2f", decision.utilization()));
+        }
+        // Batch containers need prefetch >= batch size; only single-message listeners are tuned.
+        // The new prefetch applies to consumers started from here on.
+        if (!container.isConsumerBatchEnabled()) {
+            container.setPrefetchCount(decision.prefetch());
+        }
+    }
+
+    /**
+     * Small prefetch when consumers are many relative to the backlog, so deliveries spread across
+     * consumers and nodes instead of piling up behind one slow LLM call.
+     */
+    private int prefetchFor(long depth, int consumers) {
+        return (int) Math.max(1, Math.min(maxPrefetch, ceilDiv(depth, (long) consumers * targetBacklogPerConsumer / 2)));
+    }
+
+    /**
+     * Fraction of the last interval the listener's consumers spent inside the listener.
+     */
+    private double sampleUtilization(ScaledListener listener, int consumers) {
+        TimerSnapshot now = snapshot(meterRegistry.find("spring.rabbitmq.listener").tag("listener.id", listener.id()).timers());
+        TimerSnapshot before = lastListenerTimes.put(listener.id(), now);
+        if (before == null) {
+            return 0;
+        }
+        double busySeconds = now.totalSeconds() - before.totalSeconds();
+        return Math.min(1.0, busySeconds / (intervalMs / 1000.0 * consumers));
+    }
+
+    /**
+     * Mean latency of AI calls through the aiService circuit breaker since the last tick.
+     */
+    private double sampleAiLatencyMs() {
+        TimerSnapshot now = snapshot(meterRegistry.find("resilience4j.circuitbreaker.calls").tag("name", "aiService").timers());
+        TimerSnapshot before = lastAiTimes;
+        lastAiTimes = now;
+        if (before == null || now.count() <= before.count()) {
+            return 0;
+        }
+        return (now.totalSeconds() - before.totalSeconds()) * 1000 / (now.count() - before.count());
+    }
+
+    private TimerSnapshot snapshot(Collection<Timer> timers) {
+        long count = 0;
+        double total = 0;
+        for (Timer timer : timers) {
+            count += timer.count();
+            total += timer.totalTime(TimeUnit.SECONDS);
+        }
+        return new TimerSnapshot(count, total);
+    }
+
+    private void registerGauges(String listenerId) {
+        Tags tags = Tags.of("listener", listenerId);
+        meterRegistry.gauge("hireai.messaging.autoscaler.target", tags, decisions, d -> d.get(listenerId).target());
+        meterRegistry.gauge("hireai.messaging.autoscaler.depth", tags, decisions, d -> d.get(listenerId).depth());
+        meterRegistry.gauge("hireai.messaging.autoscaler.utilization", tags, decisions, d -> d.get(listenerId).utilization());
+        meterRegistry.gauge("hireai.messaging.autoscaler.prefetch", tags, decisions, d -> d.get(listenerId).prefetch());
+    }
+
+    private static long ceilDiv(long a, long b) {
+        return b <= 0 ? a : (a + b - 1) / b;
+    }
+}
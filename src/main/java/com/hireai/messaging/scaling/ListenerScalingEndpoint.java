@@ -0,0 +1,28 @@
+package com.hireai.messaging.scaling;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Exposes the autoscaler's latest decision per listener at /actuator/listenerscaling.
+ */
+@Component
+@Endpoint(id = "listenerscaling")
+@RequiredArgsConstructor
+public class ListenerScalingEndpoint {
+
+    private final ListenerConcurrencyAutoscaler autoscaler;
+
+    @ReadOperation
+    public Map<String, Object> decisions() {
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("enabled", autoscaler.isEnabled());
+        body.put("listeners", autoscaler.getDecisions());
+        return body;
+    }
+}
@@ -0,0 +1,76 @@
+package com.hireai.messaging.trace;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.HistogramSnapshot;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Shows at /actuator/pipelinelatency where pipeline time is spent: queue wait and processing per
+ * stage, and end-to-end latency per pipeline and outcome against its SLO.
+ */
+@Component
+@Endpoint(id = "pipelinelatency")
+@RequiredArgsConstructor
+public class PipelineLatencyEndpoint {
+
+    private final MeterRegistry meterRegistry;
+    private final PipelineLatencyTracker tracker;
+
+    @ReadOperation
+    public Map<String, Object> latency() {
+        Map<String, Object> stages = new LinkedHashMap<>();
+        for (String stage : PipelineLatencyTracker.STAGES) {
+            Map<String, Object> entry = new LinkedHashMap<>();
+            Timer wait = meterRegistry.find(PipelineLatencyTracker.QUEUE_WAIT).tag("stage", stage).timer();
+            Timer processing = meterRegistry.find(PipelineLatencyTracker.STAGE_DURATION).tag("stage", stage).timer();
+            if (wait != null) {
+                entry.put("queueWait", summarize(wait));
+            }
+            if (processing != null) {
+                entry.put("processing", summarize(processing));
+            }
+            if (!entry.isEmpty()) {
+                stages.put(stage, entry);
+            }
+        }
+
+        Map<String, Object> pipelines = new LinkedHashMap<>();
+        for (Timer timer : meterRegistry.find(PipelineLatencyTracker.END_TO_END).timers()) {
+            String pipeline = timer.getId().getTag("pipeline");
+            @SuppressWarnings("unchecked")
+            Map<String, Object> entry = (Map<String, Object>) pipelines.computeIfAbsent(pipeline, p -> {
+                Map<String, Object> m = new LinkedHashMap<>();
+                m.put("sloMs", tracker.getSlo(p) != null ? tracker.getSlo(p).toMillis() : null);
+                m.put("sloBreaches", meterRegistry.counter(PipelineLatencyTracker.SLO_BREACHED, "pipeline", p).count());
+                return m;
+            });
+            entry.put(timer.getId().getTag("outcome"), summarize(timer));
+        }
+
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("stages", stages);
+        body.put("pipelines", pipelines);
+        return body;
+    }
+
+    private Map<String, Object> summarize(Timer timer) {
+        HistogramSnapshot snapshot = timer.takeSnapshot();
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("count", snapshot.count());
+        summary.put("meanMs", Math.round(snapshot.mean(TimeUnit.MILLISECONDS)));
+        for (ValueAtPercentile percentile : snapshot.percentileValues()) {
+            summary.put("p" + Math.round(percentile.percentile() * 100) + "Ms", Math.round(percentile.value(TimeUnit.MILLISECONDS)));
+        }
+        summary.put("maxMs", Math.round(snapshot.max(TimeUnit.MILLISECONDS)));
+        return summary;
+    }
+}
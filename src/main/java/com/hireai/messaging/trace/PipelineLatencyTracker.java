@@ -0,0 +1,155 @@
+package com.hireai.messaging.trace;
+
+import com.hireai.messaging.event.PipelineTrace;
+import com.hireai.messaging.event.TracedEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Records where pipeline time goes. Per stage: how long its event waited in the queue (from the
+ * trace's enqueue stamp, so retry delays count as waiting) and how long the stage itself took.
+ * Per pipeline: origin to completion, with an SLO bucket and a breach counter.
+ *
+ * <p>Pipelines: {@code resume} runs upload, extraction, parse, embedding and scoring;
+ * {@code application} runs from the application being submitted through screening. Upload to
+ * screened is reported on its own, without an SLO, since the resume may predate the application.
+ */
+@Component
+public class PipelineLatencyTracker {
+
+    public static final String RESUME_PIPELINE = "resume";
+    public static final String APPLICATION_PIPELINE = "application";
+
+    public static final String UPLOADED = "uploaded";
+    public static final String EXTRACTED = "extracted";
+    public static final String PARSED = "parsed";
+    public static final String EMBEDDED = "embedded";
+    public static final String SCORED = "scored";
+    public static final String SCREENED = "screened";
+    public static final String NOTIFIED = "notified";
+    // Interview answer evaluation, timed as a stage but not part of either pipeline
+    public static final String EVALUATED = "evaluated";
+
+    public static final List<String> STAGES = List.of(UPLOADED, EXTRACTED, PARSED, EMBEDDED, SCORED, SCREENED, NOTIFIED,
+            EVALUATED);
+
+    static final String QUEUE_WAIT = "hireai.pipeline.queue.wait";
+    static final String STAGE_DURATION = "hireai.pipeline.stage.duration";
+    static final String END_TO_END = "hireai.pipeline.end.to.end";
+    static final String SLO_BREACHED = "hireai.pipeline.slo.breached";
+    static final String UPLOAD_TO_SCREENED = "hireai.pipeline.upload.to.screened";
+
+    private final MeterRegistry meterRegistry;
+    private final Map<String, Duration> slos;
+
+    public PipelineLatencyTracker(MeterRegistry meterRegistry,
+                                  @Value("${app.pipeline.slo.resume-ms:300000}") long resumeSloMs,
+                                  @Value("${app.pipeline.slo.application-ms:900000}") long applicationSloMs) {
+        this.meterRegistry = meterRegistry;
+        this.slos = Map.of(RESUME_PIPELINE, Duration.ofMillis(resumeSloMs),
+                APPLICATION_PIPELINE, Duration.ofMillis(applicationSloMs));
+    }
+
+    public Duration getSlo(String pipeline) {
+        return slos.get(pipeline);
+    }
+
+    /**
+     * Starts a trace at its origin and stamps the origin stage.
+     */
+    public PipelineTrace start(String pipeline, String stage, long originAt) {
+        return PipelineTrace.start(pipeline, originAt).stamp(stage, originAt);
+    }
+
+    /**
+     * Called when a consumer picks up an event: records its queue wait and starts timing the stage.
+     */
+    public Timer.Sample received(TracedEvent event, String stage) {
+        PipelineTrace trace = event.getTrace();
+        if (trace != null && trace.getEnqueuedAt() != null) {
+            long waitedMs = Math.max(0, System.currentTimeMillis() - trace.getEnqueuedAt());
+            timer(QUEUE_WAIT, "stage", stage).record(waitedMs, TimeUnit.MILLISECONDS);
+        }
+        return Timer.start(meterRegistry);
+    }
+
+    /**
+     * Starts timing a stage that follows another one in the same consumer.
+     */
+    public Timer.Sample startStage() {
+        return Timer.start(meterRegistry);
+    }
+
+    /**
+     * Records the stage's processing time and stamps it on the trace, if any.
+     */
+    public void completed(String stage, Timer.Sample sample, PipelineTrace trace) {
+        sample.stop(timer(STAGE_DURATION, "stage", stage));
+        if (trace != null) {
+            trace.stamp(stage, System.currentTimeMillis());
+        }
+    }
+
+    /**
+     * Records a stage that finished after its consumer returned, such as a digested notification,
+     * timed from when the stage started.
+     */
+    public void completed(String stage, long startedAtMs, PipelineTrace trace) {
+        long now = System.currentTimeMillis();
+        timer(STAGE_DURATION, "stage", stage).record(Math.max(0, now - startedAtMs), TimeUnit.MILLISECONDS);
+        if (trace != null) {
+            trace.stamp(stage, now);
+        }
+    }
+
+    /**
+     * Records origin-to-now for the trace's pipeline, tagged with how it ended.
+     */
+    public void pipelineCompleted(PipelineTrace trace, String outcome) {
+        if (trace == null || trace.getOriginAt() == null || trace.getPipeline() == null) {
+            return;
+        }
+        Duration slo = slos.get(trace.getPipeline());
+        long elapsedMs = Math.max(0, System.currentTimeMillis() - trace.getOriginAt());
+        Timer.Builder builder = Timer.builder(END_TO_END)
+                .tags("pipeline", trace.getPipeline(), "outcome", outcome)
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .publishPercentileHistogram();
+        if (slo != null) {
+            builder.serviceLevelObjectives(slo);
+        }
+        builder.register(meterRegistry).record(elapsedMs, TimeUnit.MILLISECONDS);
+        if (slo != null && elapsedMs > slo.toMillis()) {
+            meterRegistry.counter(SLO_BREACHED, "pipeline", trace.getPipeline()).increment();
+        }
+    }
+
+    /**
+     * Records resume upload to now for an application trace, outside the SLO-tracked pipeline.
+     */
+    public void uploadToScreened(PipelineTrace trace) {
+        Long uploadedAt = trace != null && trace.getStages() != null ? trace.getStages().get(UPLOADED) : null;
+        if (uploadedAt == null) {
+            return;
+        }
+        Timer.builder(UPLOAD_TO_SCREENED)
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry)
+                .record(Math.max(0, System.currentTimeMillis() - uploadedAt), TimeUnit.MILLISECONDS);
+    }
+
+    private Timer timer(String name, String tagKey, String tagValue) {
+        return Timer.builder(name)
+                .tag(tagKey, tagValue)
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+}
@@ -1,5 +1,6 @@
 package com.hireai.repository;
 
+import com.hireai.domain.dto.projection.ApplicationSummary;
 import com.hireai.domain.entity.Application;
 import com.hireai.domain.enums.ApplicationStatus;
 import org.springframework.data.domain.Page;
@@ -8,16 +9,19 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 public interface ApplicationRepository extends JpaRepository<Application, Long> {
 
+    String SUMMARY = "SELECT new com.hireai.domain.dto.projection.ApplicationSummary("
+            + "a.id, a.job.id, a.candidate.id, a.resume.id, a.status, a.aiMatchScore, a.createdAt, a.updatedAt) "
+            + "FROM Application a ";
+
     List<Application> findByJobId(Long jobId);
 
     List<Application> findByCandidateId(Long candidateId);
 
-    List<Application> findByCandidateIdOrderByCreatedAtDesc(Long candidateId);
-
     boolean existsByJobIdAndCandidateId(Long jobId, Long candidateId);
 
     @Query("SELECT COUNT(a) FROM Application a WHERE a.status = :status")
@@ -28,9 +32,42 @@ public interface ApplicationRepository extends JpaRepository<Application, Long>
 
     Page<Application> findByStatus(ApplicationStatus status, Pageable pageable);
 
-    @Query("SELECT a FROM Application a ORDER BY a.createdAt DESC")
-    Page<Application> findAllOrderByCreatedAtDesc(Pageable pageable);
+    @Query(value = SUMMARY + "ORDER BY a.createdAt DESC",
+            countQuery = "SELECT COUNT(a) FROM Application a")
+    Page<ApplicationSummary> findSummaries(Pageable pageable);
+
+    @Query(value = SUMMARY + "WHERE a.status = :status ORDER BY a.createdAt DESC",
+            countQuery = "SELECT COUNT(a) FROM Application a WHERE a.status = :status")
+    Page<ApplicationSummary> findSummariesByStatus(@Param("status") ApplicationStatus status, Pageable pageable);
+
+    @Query(value = SUMMARY + "WHERE a.job.id = :jobId ORDER BY a.createdAt DESC",
+            countQuery = "SELECT COUNT(a) FROM Application a WHERE a.job.id = :jobId")
+    Page<ApplicationSummary> findSummariesByJobId(@Param("jobId") Long jobId, Pageable pageable);
+
+    @Query(value = SUMMARY + "WHERE a.candidate.id = :candidateId ORDER BY a.createdAt DESC",
+            countQuery = "SELECT COUNT(a) FROM Application a WHERE a.candidate.id = :candidateId")
+    Page<ApplicationSummary> findSummariesByCandidateId(@Param("candidateId") Long candidateId, Pageable pageable);
+
+    /**
+     * The newest summaries without a count query, for dashboards that show a fixed-size list.
+     */
+    @Query(SUMMARY + "ORDER BY a.createdAt DESC")
+    List<ApplicationSummary> findRecentSummaries(Pageable pageable);
+
+    @Query(SUMMARY + "WHERE a.candidate.id = :candidateId ORDER BY a.createdAt DESC")
+    List<ApplicationSummary> findRecentSummariesByCandidateId(@Param("candidateId") Long candidateId, Pageable pageable);
+
+    /**
+     * Keyset page: the summaries ordered before (createdAt, id), newest first. The row-value
+     * comparison seeks on idx_applications_created, so any page costs the same as the first.
+     */
+    @Query(SUMMARY + "WHERE (a.createdAt, a.id) < (:createdAt, :id) ORDER BY a.createdAt DESC, a.id DESC")
+    List<ApplicationSummary> findSummariesBefore(@Param("createdAt") LocalDateTime createdAt, @Param("id") Long id,
+                                                 Pageable pageable);
 
-    @Query("SELECT a FROM Application a WHERE a.status = :status ORDER BY a.createdAt DESC")
-    Page<Application> findByStatusOrderByCreatedAtDesc(@Param("status") ApplicationStatus status, Pageable pageable);
+    @Query(SUMMARY + "WHERE a.status = :status AND (a.createdAt, a.id) < (:createdAt, :id) " +
+           "ORDER BY a.createdAt DESC, a.id DESC")
+    List<ApplicationSummary> findSummariesByStatusBefore(@Param("status") ApplicationStatus status,
+                                                         @Param("createdAt") LocalDateTime createdAt,
+                                                         @Param("id") Long id, Pageable pageable);
 }
@@ -0,0 +1,125 @@
+package com.hireai.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+@Repository
+@RequiredArgsConstructor
+public class DashboardCounterRepository {
+
+    public enum Scope { GLOBAL, RECRUITER, JOB, CANDIDATE }
+
+    public static final long GLOBAL_ID = 0;
+
+    // Every application change touches a GLOBAL counter, so those are spread over shard rows
+    // (scope_id 0..GLOBAL_SHARDS-1, picked at random per write) and summed on read
+    static final int GLOBAL_SHARDS = 16;
+
+    public record Delta(Scope scope, long scopeId, String metric, long amount) {}
+
+    private static final Comparator<Delta> DELTA_ORDER = Comparator.comparing((Delta d) -> d.scope().name())
+            .thenComparingLong(Delta::scopeId)
+            .thenComparing(Delta::metric);
+
+    // Same aggregates as the V6 backfill
+    private static final String ACTUAL_COUNTS = """
+            SELECT 'GLOBAL' AS scope, 0::BIGINT AS scope_id, status AS metric, count(*) AS value
+            FROM applications WHERE status IS NOT NULL GROUP BY status
+            UNION ALL
+            SELECT 'RECRUITER', j.recruiter_id, a.status, count(*)
+            FROM applications a JOIN jobs j ON j.id = a.job_id
+            WHERE a.status IS NOT NULL AND j.recruiter_id IS NOT NULL
+            GROUP BY j.recruiter_id, a.status
+            UNION ALL
+            SELECT 'JOB', job_id, status, count(*) FROM applications
+            WHERE status IS NOT NULL AND job_id IS NOT NULL GROUP BY job_id, status
+            UNION ALL
+            SELECT 'CANDIDATE', candidate_id, status, count(*) FROM applications
+            WHERE status IS NOT NULL AND candidate_id IS NOT NULL GROUP BY candidate_id, status
+            UNION ALL
+            SELECT 'GLOBAL', 0, 'JOBS', count(*) FROM jobs
+            UNION ALL
+            SELECT 'RECRUITER', recruiter_id, 'JOBS', count(*) FROM jobs WHERE recruiter_id IS NOT NULL GROUP BY recruiter_id
+            UNION ALL
+            SELECT 'GLOBAL', 0, 'CANDIDATES', count(*) FROM candidates
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Applies the deltas in the current transaction, creating counters on first use. GLOBAL
+     * deltas land on a random shard row. Rows are updated in key order so concurrent transitions
+     * lock them in the same order.
+     */
+    public void apply(List<Delta> deltas) {
+        if (deltas.isEmpty()) return;
+        List<Delta> ordered = deltas.stream().map(DashboardCounterRepository::sharded).sorted(DELTA_ORDER).toList();
+        jdbcTemplate.batchUpdate("""
+                INSERT INTO dashboard_counters (scope, scope_id, metric, value) VALUES (?, ?, ?, ?)
+                ON CONFLICT (scope, scope_id, metric) DO UPDATE SET value = dashboard_counters.value + EXCLUDED.value
+                """, ordered, ordered.size(), (ps, d) -> {
+            ps.setString(1, d.scope().name());
+            ps.setLong(2, d.scopeId());
+            ps.setString(3, d.metric());
+            ps.setLong(4, d.amount());
+        });
+    }
+
+    /**
+     * All counters of one scope, keyed by metric; counters never touched are absent. GLOBAL
+     * counters are the sum of their shards.
+     */
+    public Map<String, Long> find(Scope scope, long scopeId) {
+        Map<String, Long> counters = new HashMap<>();
+        if (scope == Scope.GLOBAL) {
+            jdbcTemplate.query("""
+                    SELECT metric, sum(value) AS value FROM dashboard_counters
+                    WHERE scope = 'GLOBAL' GROUP BY metric
+                    """, rs -> {
+                counters.put(rs.getString("metric"), rs.getLong("value"));
+            });
+            return counters;
+        }
+        jdbcTemplate.query("SELECT metric, value FROM dashboard_counters WHERE scope = ? AND scope_id = ?",
+                rs -> {
+                    counters.put(rs.getString("metric"), rs.getLong("value"));
+                }, scope.name(), scopeId);
+        return counters;
+    }
+
+    /**
+     * Differences between the source tables and the counters, as the deltas that would correct
+     * them. One statement reads both sides from the same snapshot without locking anything; since
+     * counters change in the transaction that changes their rows, a drift seen here is real and
+     * can be applied with {@link #apply} while other writes carry on.
+     */
+    public List<Delta> drift() {
+        return jdbcTemplate.query("""
+                WITH actual AS (%s),
+                counted AS (
+                    SELECT scope, CASE WHEN scope = 'GLOBAL' THEN 0 ELSE scope_id END AS scope_id, metric,
+                           sum(value)::BIGINT AS value
+                    FROM dashboard_counters GROUP BY 1, 2, 3
+                )
+                SELECT coalesce(a.scope, c.scope) AS scope, coalesce(a.scope_id, c.scope_id) AS scope_id,
+                       coalesce(a.metric, c.metric) AS metric, coalesce(a.value, 0) - coalesce(c.value, 0) AS drift
+                FROM actual a
+                FULL JOIN counted c ON c.scope = a.scope AND c.scope_id = a.scope_id AND c.metric = a.metric
+                WHERE coalesce(a.value, 0) <> coalesce(c.value, 0)
+                """.formatted(ACTUAL_COUNTS),
+                (rs, i) -> new Delta(Scope.valueOf(rs.getString("scope")), rs.getLong("scope_id"),
+                        rs.getString("metric"), rs.getLong("drift")));
+    }
+
+    private static Delta sharded(Delta delta) {
+        if (delta.scope() != Scope.GLOBAL) return delta;
+        return new Delta(Scope.GLOBAL, ThreadLocalRandom.current().nextInt(GLOBAL_SHARDS), delta.metric(), delta.amount());
+    }
+}
@@ -0,0 +1,71 @@
+package com.hireai.repository;
+
+import com.hireai.domain.dto.response.DlqReplayResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+@RequiredArgsConstructor
+public class DlqReplayRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void insert(DlqReplayResponse replay) {
+        jdbcTemplate.update("INSERT INTO dlq_replays (id, queue, status, started_at) VALUES (?, ?, ?, ?)",
+                replay.getId(), replay.getQueue(), replay.getStatus(), Timestamp.valueOf(replay.getStartedAt()));
+    }
+
+    /**
+     * Writes the replay's status and counters, which also counts as a heartbeat.
+     */
+    public void update(DlqReplayResponse replay) {
+        jdbcTemplate.update("""
+                UPDATE dlq_replays
+                SET status = ?, scanned = ?, replayed = ?, skipped = ?, error = ?, finished_at = ?, heartbeat_at = now()
+                WHERE id = ?
+                """, replay.getStatus(), replay.getScanned(), replay.getReplayed(), replay.getSkipped(),
+                replay.getError(), replay.getFinishedAt() != null ? Timestamp.valueOf(replay.getFinishedAt()) : null,
+                replay.getId());
+    }
+
+    public void heartbeat(Collection<String> ids) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        List<Object[]> args = ids.stream().map(id -> new Object[]{id}).toList();
+        jdbcTemplate.batchUpdate("UPDATE dlq_replays SET heartbeat_at = now() WHERE id = ?", args);
+    }
+
+    /**
+     * Loads a replay, reporting it as INTERRUPTED if it is still QUEUED or RUNNING but has not been
+     * heartbeated for staleAfterMs.
+     */
+    public Optional<DlqReplayResponse> findById(String id, long staleAfterMs) {
+        return jdbcTemplate.query("""
+                SELECT id, queue, scanned, replayed, skipped, error, started_at, finished_at,
+                       CASE WHEN status IN ('QUEUED', 'RUNNING')
+                                 AND heartbeat_at < now() - ? * INTERVAL '1 millisecond'
+                            THEN 'INTERRUPTED' ELSE status END AS status
+                FROM dlq_replays WHERE id = ?
+                """, (rs, rowNum) -> {
+                    Timestamp finishedAt = rs.getTimestamp("finished_at");
+                    return DlqReplayResponse.builder()
+                            .id(rs.getString("id"))
+                            .queue(rs.getString("queue"))
+                            .status(rs.getString("status"))
+                            .scanned(rs.getLong("scanned"))
+                            .replayed(rs.getLong("replayed"))
+                            .skipped(rs.getLong("skipped"))
+                            .error(rs.getString("error"))
+                            .startedAt(rs.getTimestamp("started_at").toLocalDateTime())
+                            .finishedAt(finishedAt != null ? finishedAt.toLocalDateTime() : null)
+                            .build();
+                }, staleAfterMs, id).stream().findFirst();
+    }
+}
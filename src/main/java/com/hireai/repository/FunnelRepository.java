@@ -0,0 +1,153 @@
+package com.hireai.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+
+@Repository
+@RequiredArgsConstructor
+public class FunnelRepository {
+
+    public enum Scope { JOB, RECRUITER }
+
+    public enum Granularity { HOUR, DAY }
+
+    public record Transition(long id, Long jobId, Long recruiterId, String fromStatus, String toStatus,
+                             Long stageSeconds, LocalDateTime occurredAt) {}
+
+    public record RollupKey(Scope scope, long scopeId, Granularity granularity, LocalDateTime bucketStart,
+                            String status) {}
+
+    public record RollupDelta(RollupKey key, long entered, long exited, long stageSecondsTotal, long stageSamples) {}
+
+    public record RollupRow(LocalDateTime bucketStart, String status, long entered, long exited,
+                            long stageSecondsTotal, long stageSamples) {}
+
+    private static final Comparator<RollupDelta> KEY_ORDER = Comparator
+            .comparing((RollupDelta d) -> d.key().scope())
+            .thenComparingLong(d -> d.key().scopeId())
+            .thenComparing(d -> d.key().granularity())
+            .thenComparing(d -> d.key().bucketStart())
+            .thenComparing(d -> d.key().status());
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Appends a transition; the time spent in the previous status is measured from the
+     * application's last recorded transition.
+     */
+    public void recordTransition(long applicationId, Long jobId, Long recruiterId, Long candidateId,
+                                 String fromStatus, String toStatus) {
+        jdbcTemplate.update("""
+                INSERT INTO application_transitions
+                    (application_id, job_id, recruiter_id, candidate_id, from_status, to_status, stage_seconds)
+                VALUES (?, ?, ?, ?, ?, ?,
+                        (SELECT EXTRACT(EPOCH FROM now() - max(occurred_at))::BIGINT
+                         FROM application_transitions WHERE application_id = ?))
+                """, ps -> {
+            ps.setLong(1, applicationId);
+            ps.setObject(2, jobId, Types.BIGINT);
+            ps.setObject(3, recruiterId, Types.BIGINT);
+            ps.setObject(4, candidateId, Types.BIGINT);
+            ps.setString(5, fromStatus);
+            ps.setString(6, toStatus);
+            ps.setLong(7, applicationId);
+        });
+    }
+
+    /**
+     * Locks the oldest transitions not yet rolled up for the current transaction; SKIP LOCKED lets
+     * several workers roll up side by side.
+     */
+    public List<Transition> lockPending(int limit) {
+        return jdbcTemplate.query("""
+                SELECT id, job_id, recruiter_id, from_status, to_status, stage_seconds, occurred_at
+                FROM application_transitions
+                WHERE NOT rolled_up
+                ORDER BY id
+                LIMIT ?
+                FOR UPDATE SKIP LOCKED
+                """,
+                (rs, i) -> new Transition(rs.getLong("id"), rs.getObject("job_id", Long.class),
+                        rs.getObject("recruiter_id", Long.class), rs.getString("from_status"),
+                        rs.getString("to_status"), rs.getObject("stage_seconds", Long.class),
+                        rs.getTimestamp("occurred_at").toLocalDateTime()),
+                limit);
+    }
+
+    public void markRolledUp(List<Long> ids) {
+        if (ids.isEmpty()) return;
+        jdbcTemplate.batchUpdate("UPDATE application_transitions SET rolled_up = TRUE WHERE id = ?",
+                ids, ids.size(), (ps, id) -> ps.setLong(1, id));
+    }
+
+    /**
+     * Adds the deltas to their buckets, in key order so concurrent workers lock rows in the same order.
+     */
+    public void applyRollups(List<RollupDelta> deltas) {
+        if (deltas.isEmpty()) return;
+        List<RollupDelta> ordered = deltas.stream().sorted(KEY_ORDER).toList();
+        jdbcTemplate.batchUpdate("""
+                INSERT INTO funnel_rollups
+                    (scope, scope_id, granularity, bucket_start, status, entered, exited, stage_seconds_total, stage_samples)
+                VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)
+                ON CONFLICT (scope, scope_id, granularity, bucket_start, status) DO UPDATE SET
+                    entered = funnel_rollups.entered + EXCLUDED.entered,
+                    exited = funnel_rollups.exited + EXCLUDED.exited,
+                    stage_seconds_total = funnel_rollups.stage_seconds_total + EXCLUDED.stage_seconds_total,
+                    stage_samples = funnel_rollups.stage_samples + EXCLUDED.stage_samples
+                """, ordered, ordered.size(), (ps, d) -> {
+            ps.setString(1, d.key().scope().name());
+            ps.setLong(2, d.key().scopeId());
+            ps.setString(3, d.key().granularity().name());
+            ps.setTimestamp(4, Timestamp.valueOf(d.key().bucketStart()));
+            ps.setString(5, d.key().status());
+            ps.setLong(6, d.entered());
+            ps.setLong(7, d.exited());
+            ps.setLong(8, d.stageSecondsTotal());
+            ps.setLong(9, d.stageSamples());
+        });
+    }
+
+    /**
+     * One scope's buckets from {@code from} on, oldest first.
+     */
+    public List<RollupRow> findRollups(Scope scope, long scopeId, Granularity granularity, LocalDateTime from) {
+        return jdbcTemplate.query("""
+                SELECT bucket_start, status, entered, exited, stage_seconds_total, stage_samples
+                FROM funnel_rollups
+                WHERE scope = ? AND scope_id = ? AND granularity = ? AND bucket_start >= ?
+                ORDER BY bucket_start
+                """, (rs, i) -> toRow(rs),
+                scope.name(), scopeId, granularity.name(), Timestamp.valueOf(from));
+    }
+
+    /**
+     * One scope's daily buckets from {@code from} on, summed per ISO week, oldest first.
+     */
+    public List<RollupRow> findWeeklyRollups(Scope scope, long scopeId, LocalDateTime from) {
+        return jdbcTemplate.query("""
+                SELECT date_trunc('week', bucket_start) AS bucket_start, status,
+                       sum(entered) AS entered, sum(exited) AS exited,
+                       sum(stage_seconds_total) AS stage_seconds_total, sum(stage_samples) AS stage_samples
+                FROM funnel_rollups
+                WHERE scope = ? AND scope_id = ? AND granularity = 'DAY' AND bucket_start >= ?
+                GROUP BY 1, status
+                ORDER BY 1
+                """, (rs, i) -> toRow(rs),
+                scope.name(), scopeId, Timestamp.valueOf(from));
+    }
+
+    private static RollupRow toRow(ResultSet rs) throws SQLException {
+        return new RollupRow(rs.getTimestamp("bucket_start").toLocalDateTime(), rs.getString("status"), rs.getLong("entered"),
+                rs.getLong("exited"), rs.getLong("stage_seconds_total"), rs.getLong("stage_samples"));
+    }
+}
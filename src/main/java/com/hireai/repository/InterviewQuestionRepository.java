@@ -1,11 +1,39 @@
 package com.hireai.repository;
 
+import com.hireai.domain.dto.projection.InterviewResultRow;
 import com.hireai.domain.entity.InterviewQuestion;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface InterviewQuestionRepository extends JpaRepository<InterviewQuestion, Long> {
 
     List<InterviewQuestion> findByInterviewIdOrderByOrderIndex(Long interviewId);
+
+    @Query("SELECT q FROM InterviewQuestion q " +
+           "JOIN FETCH q.interview i JOIN FETCH i.application a JOIN FETCH a.job " +
+           "WHERE q.id IN :ids")
+    List<InterviewQuestion> findAllWithJobByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Everything an interview result shows in one statement: one row per question, in order, with
+     * its latest response. Empty when the interview has no questions or does not exist.
+     */
+    @Query("SELECT new com.hireai.domain.dto.projection.InterviewResultRow(" +
+           "i.id, i.status, i.overallScore, i.aiRecommendation, q.id, q.category, r.id, r.aiScore, r.aiFeedback) " +
+           "FROM InterviewQuestion q JOIN q.interview i LEFT JOIN q.responses r " +
+           "WHERE i.id = :interviewId AND (r.id IS NULL OR r.id = " +
+           "(SELECT MAX(r2.id) FROM InterviewResponse r2 WHERE r2.question = q)) " +
+           "ORDER BY q.orderIndex")
+    List<InterviewResultRow> findResultRows(@Param("interviewId") Long interviewId);
+
+    /**
+     * An interview's questions with all their responses, newest response first, in one statement.
+     */
+    @Query("SELECT q FROM InterviewQuestion q LEFT JOIN FETCH q.responses r " +
+           "WHERE q.interview.id = :interviewId ORDER BY q.orderIndex, r.id DESC")
+    List<InterviewQuestion> findWithResponsesByInterviewId(@Param("interviewId") Long interviewId);
 }
@@ -1,11 +1,27 @@
 package com.hireai.repository;
 
 import com.hireai.domain.entity.Interview;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
+import java.util.Optional;
 
 public interface InterviewRepository extends JpaRepository<Interview, Long> {
 
     List<Interview> findByApplicationId(Long applicationId);
+
+    @Query("SELECT i FROM Interview i JOIN FETCH i.application a JOIN FETCH a.job WHERE i.id = :id")
+    Optional<Interview> findWithJobById(@Param("id") Long id);
+
+    /**
+     * Loads the interview with a row lock held until the transaction ends, so a status check
+     * and the write that depends on it cannot interleave with a concurrent completion.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT i FROM Interview i WHERE i.id = :id")
+    Optional<Interview> findForUpdateById(@Param("id") Long id);
 }
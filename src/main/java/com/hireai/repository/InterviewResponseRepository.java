@@ -2,10 +2,63 @@ package com.hireai.repository;
 
 import com.hireai.domain.entity.InterviewResponse;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.math.BigDecimal;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 public interface InterviewResponseRepository extends JpaRepository<InterviewResponse, Long> {
 
     List<InterviewResponse> findByQuestionId(Long questionId);
+
+    List<InterviewResponse> findByQuestionIdInAndAiScoreIsNullOrderById(Collection<Long> questionIds);
+
+    /**
+     * A response with its question, interview, application and job, for evaluating it.
+     */
+    @Query("SELECT r FROM InterviewResponse r JOIN FETCH r.question q " +
+           "JOIN FETCH q.interview i JOIN FETCH i.application a JOIN FETCH a.job " +
+           "WHERE r.id = :id")
+    Optional<InterviewResponse> findWithJobById(@Param("id") Long id);
+
+    /**
+     * Writes an AI evaluation only if the response has not been evaluated yet.
+     * Returns 0 when another consumer got there first.
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE InterviewResponse r SET r.aiScore = :score, r.aiFeedback = :feedback " +
+           "WHERE r.id = :id AND r.aiScore IS NULL")
+    int applyEvaluation(@Param("id") Long id, @Param("score") BigDecimal score, @Param("feedback") String feedback);
+
+    /**
+     * Marks a response whose evaluation was parked, so it stops counting as pending.
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE InterviewResponse r SET r.evaluationFailedAt = CURRENT_TIMESTAMP " +
+           "WHERE r.id = :id AND r.aiScore IS NULL AND r.evaluationFailedAt IS NULL")
+    int markEvaluationFailed(@Param("id") Long id);
+
+    /**
+     * Undoes {@link #markEvaluationFailed} for a parked evaluation that was replayed, so the
+     * response counts as pending again until the replay is evaluated.
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE InterviewResponse r SET r.evaluationFailedAt = NULL " +
+           "WHERE r.id = :id AND r.aiScore IS NULL AND r.evaluationFailedAt IS NOT NULL")
+    int clearEvaluationFailed(@Param("id") Long id);
+
+    /**
+     * Evaluations still in flight for an interview: answers with neither a score nor a parked evaluation.
+     */
+    @Query("SELECT count(r) FROM InterviewResponse r JOIN r.question q " +
+           "WHERE q.interview.id = :interviewId AND r.aiScore IS NULL AND r.evaluationFailedAt IS NULL")
+    long countPendingEvaluations(@Param("interviewId") Long interviewId);
 }
@@ -8,6 +8,7 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 public interface JobRepository extends JpaRepository<Job, Long> {
@@ -18,11 +19,26 @@ public interface JobRepository extends JpaRepository<Job, Long> {
 
     List<Job> findByStatusAndRecruiterId(JobStatus status, Long recruiterId);
 
-    @Query("SELECT j FROM Job j WHERE " +
-           "(:status IS NULL OR j.status = :status) AND " +
-           "(:keyword IS NULL OR LOWER(CAST(j.title AS String)) LIKE LOWER(CONCAT('%', CAST(:keyword AS String), '%')) " +
-           "OR LOWER(CAST(j.description AS String)) LIKE LOWER(CONCAT('%', CAST(:keyword AS String), '%')))")
+    String SEARCH_FILTER = "(:status IS NULL OR j.status = :status) AND " +
+            "(:keyword IS NULL OR LOWER(CAST(j.title AS String)) LIKE LOWER(CONCAT('%', CAST(:keyword AS String), '%')) " +
+            "OR LOWER(CAST(j.description AS String)) LIKE LOWER(CONCAT('%', CAST(:keyword AS String), '%')))";
+
+    @Query("SELECT j FROM Job j WHERE " + SEARCH_FILTER)
     Page<Job> searchJobs(@Param("status") JobStatus status,
                          @Param("keyword") String keyword,
                          Pageable pageable);
+
+    /**
+     * Keyset page of {@link #searchJobs}: the matching jobs ordered before (createdAt, id), newest first.
+     */
+    @Query("SELECT j FROM Job j WHERE " + SEARCH_FILTER + " AND (j.createdAt, j.id) < (:createdAt, :id) " +
+           "ORDER BY j.createdAt DESC, j.id DESC")
+    List<Job> searchJobsBefore(@Param("status") JobStatus status,
+                               @Param("keyword") String keyword,
+                               @Param("createdAt") LocalDateTime createdAt,
+                               @Param("id") Long id,
+                               Pageable pageable);
+
+    @Query("SELECT COUNT(j) FROM Job j WHERE " + SEARCH_FILTER)
+    long countJobs(@Param("status") JobStatus status, @Param("keyword") String keyword);
 }
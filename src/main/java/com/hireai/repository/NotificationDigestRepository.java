@@ -0,0 +1,86 @@
+package com.hireai.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.Comparator;
+import java.util.List;
+
+@Repository
+@RequiredArgsConstructor
+public class NotificationDigestRepository {
+
+    public record DigestItem(long id, String payload, int attempts, long createdAtMs) {}
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Adds a notification to its digest.
+     *
+     * @return the number of notifications the digest now holds
+     */
+    public long append(String digestKey, String payload) {
+        jdbcTemplate.update("INSERT INTO notification_digest_items (digest_key, payload) VALUES (?, ?)",
+                digestKey, payload);
+        Long size = jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM notification_digest_items WHERE digest_key = ?", Long.class, digestKey);
+        return size != null ? size : 0;
+    }
+
+    /**
+     * Digests whose oldest notification has waited out the window and that are neither claimed
+     * by a flusher nor backing off after a failed send.
+     */
+    public List<String> findDue(long windowMs, int limit) {
+        return jdbcTemplate.queryForList("""
+                SELECT digest_key FROM notification_digest_items
+                GROUP BY digest_key
+                HAVING min(created_at) <= now() - ? * INTERVAL '1 millisecond'
+                   AND max(next_attempt_at) <= now()
+                LIMIT ?
+                """, String.class, windowMs, limit);
+    }
+
+    /**
+     * Claims a digest's available rows for the lease in one statement, so the send happens
+     * outside any transaction and other flushers skip the rows meanwhile. Rows left behind by a
+     * crashed flusher become available again when the lease runs out.
+     */
+    public List<DigestItem> claim(String digestKey, long leaseMs) {
+        List<DigestItem> items = jdbcTemplate.query("""
+                UPDATE notification_digest_items SET next_attempt_at = now() + ? * INTERVAL '1 millisecond'
+                WHERE id IN (
+                    SELECT id FROM notification_digest_items
+                    WHERE digest_key = ? AND next_attempt_at <= now()
+                    ORDER BY id
+                    FOR UPDATE SKIP LOCKED)
+                RETURNING id, payload, attempts, created_at
+                """,
+                (rs, i) -> new DigestItem(rs.getLong("id"), rs.getString("payload"), rs.getInt("attempts"),
+                        rs.getTimestamp("created_at").getTime()),
+                leaseMs, digestKey);
+        return items.stream().sorted(Comparator.comparingLong(DigestItem::id)).toList();
+    }
+
+    public void deleteAll(List<Long> ids) {
+        if (ids.isEmpty()) return;
+        jdbcTemplate.batchUpdate("DELETE FROM notification_digest_items WHERE id = ?", ids, ids.size(),
+                (ps, id) -> ps.setLong(1, id));
+    }
+
+    /**
+     * Counts a failed send and holds the rows back for the backoff.
+     */
+    public void recordFailure(List<Long> ids, long backoffMs) {
+        if (ids.isEmpty()) return;
+        jdbcTemplate.batchUpdate("""
+                UPDATE notification_digest_items
+                SET attempts = attempts + 1, next_attempt_at = now() + ? * INTERVAL '1 millisecond'
+                WHERE id = ?
+                """, ids, ids.size(), (ps, id) -> {
+                    ps.setLong(1, backoffMs);
+                    ps.setLong(2, id);
+                });
+    }
+}
@@ -0,0 +1,106 @@
+package com.hireai.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+
+@Repository
+@RequiredArgsConstructor
+public class OutboxRepository {
+
+    public record OutboxEvent(long id, String exchange, String routingKey, String eventType,
+                              String payload, LocalDateTime createdAt) {}
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public record NewOutboxEvent(String exchange, String routingKey, String eventType, String payload) {}
+
+    private static final String INSERT =
+            "INSERT INTO outbox_events (exchange, routing_key, event_type, payload) VALUES (?, ?, ?, ?)";
+
+    public void insert(String exchange, String routingKey, String eventType, String payload) {
+        jdbcTemplate.update(INSERT, exchange, routingKey, eventType, payload);
+    }
+
+    public void insertAll(List<NewOutboxEvent> events) {
+        if (events.isEmpty()) return;
+        jdbcTemplate.batchUpdate(INSERT, events, events.size(), (ps, e) -> {
+            ps.setString(1, e.exchange());
+            ps.setString(2, e.routingKey());
+            ps.setString(3, e.eventType());
+            ps.setString(4, e.payload());
+        });
+    }
+
+    /**
+     * Claims the oldest rows that are due for a publish attempt, in one statement: they are held
+     * back for the lease so the publish runs outside any transaction. SKIP LOCKED lets several
+     * relay instances drain the table side by side; rows of a relay that died mid-publish come
+     * back when the lease runs out.
+     */
+    public List<OutboxEvent> claimBatch(int limit, long leaseMs) {
+        List<OutboxEvent> events = jdbcTemplate.query("""
+                UPDATE outbox_events SET next_attempt_at = now() + ? * INTERVAL '1 millisecond'
+                WHERE id IN (
+                    SELECT id FROM outbox_events
+                    WHERE failed_at IS NULL AND next_attempt_at <= now()
+                    ORDER BY id
+                    LIMIT ?
+                    FOR UPDATE SKIP LOCKED)
+                RETURNING id, exchange, routing_key, event_type, payload, created_at
+                """,
+                (rs, i) -> new OutboxEvent(rs.getLong("id"), rs.getString("exchange"), rs.getString("routing_key"),
+                        rs.getString("event_type"), rs.getString("payload"),
+                        rs.getTimestamp("created_at").toLocalDateTime()),
+                leaseMs, limit);
+        return events.stream().sorted(Comparator.comparingLong(OutboxEvent::id)).toList();
+    }
+
+    public void deleteAll(List<Long> ids) {
+        if (ids.isEmpty()) return;
+        jdbcTemplate.batchUpdate("DELETE FROM outbox_events WHERE id = ?", ids, ids.size(),
+                (ps, id) -> ps.setLong(1, id));
+    }
+
+    /**
+     * Counts a failed publish and backs the rows off exponentially from {@code backoffMs}, capped
+     * at {@code maxBackoffMs}; rows reaching {@code maxAttempts} are parked.
+     *
+     * @return number of rows parked by this failure
+     */
+    public int recordFailure(List<Long> ids, String error, long backoffMs, long maxBackoffMs, int maxAttempts) {
+        if (ids.isEmpty()) return 0;
+        jdbcTemplate.batchUpdate("""
+                UPDATE outbox_events
+                SET attempts = attempts + 1,
+                    last_error = ?,
+                    next_attempt_at = now() + LEAST(? * power(2, attempts), ?) * INTERVAL '1 millisecond',
+                    failed_at = CASE WHEN attempts + 1 >= ? THEN now() END
+                WHERE id = ?
+                """, ids, ids.size(), (ps, id) -> {
+                    ps.setString(1, error);
+                    ps.setLong(2, backoffMs);
+                    ps.setLong(3, maxBackoffMs);
+                    ps.setInt(4, maxAttempts);
+                    ps.setLong(5, id);
+                });
+        Integer parked = jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM outbox_events WHERE failed_at IS NOT NULL AND id = ANY(?)", Integer.class,
+                (Object) ids.toArray(Long[]::new));
+        return parked != null ? parked : 0;
+    }
+
+    public long count() {
+        Long count = jdbcTemplate.queryForObject("SELECT count(*) FROM outbox_events WHERE failed_at IS NULL", Long.class);
+        return count != null ? count : 0;
+    }
+
+    public long countParked() {
+        Long count = jdbcTemplate.queryForObject("SELECT count(*) FROM outbox_events WHERE failed_at IS NOT NULL", Long.class);
+        return count != null ? count : 0;
+    }
+}
@@ -3,12 +3,21 @@ package com.hireai.repository;
 import com.hireai.domain.entity.Resume;
 import com.hireai.domain.enums.ParseStatus;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
+import java.util.Optional;
 
 public interface ResumeRepository extends JpaRepository<Resume, Long> {
 
     List<Resume> findByCandidateId(Long candidateId);
 
     List<Resume> findByParseStatus(ParseStatus parseStatus);
+
+    /**
+     * Reads parsed_data straight from the database, bypassing any entity already in the persistence context.
+     */
+    @Query("SELECT r.parsedData FROM Resume r WHERE r.id = :id AND r.parsedData IS NOT NULL")
+    Optional<String> findParsedDataById(@Param("id") Long id);
 }
@@ -0,0 +1,30 @@
+package com.hireai.repository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+@Repository
+@RequiredArgsConstructor
+@Slf4j
+public class ResumeScoreRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Update ai_score for many resumes in one JDBC batch.
+     */
+    public void updateAiScores(Map<Long, BigDecimal> scoresByResumeId) {
+        if (scoresByResumeId.isEmpty()) return;
+        List<Object[]> args = new ArrayList<>(scoresByResumeId.size());
+        scoresByResumeId.forEach((resumeId, score) -> args.add(new Object[]{score, resumeId}));
+        jdbcTemplate.batchUpdate("UPDATE resumes SET ai_score = ?, updated_at = now() WHERE id = ?", args);
+        log.info("Batch updated ai_score for {} resumes", args.size());
+    }
+}
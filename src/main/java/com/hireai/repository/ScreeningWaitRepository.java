@@ -0,0 +1,52 @@
+package com.hireai.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+@RequiredArgsConstructor
+public class ScreeningWaitRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Parks an application's screening on a resume, replacing any earlier wait for the application.
+     */
+    public void park(long applicationId, long resumeId, String payload) {
+        jdbcTemplate.update("""
+                INSERT INTO screening_waits (application_id, resume_id, payload) VALUES (?, ?, ?)
+                ON CONFLICT (application_id) DO UPDATE
+                SET resume_id = EXCLUDED.resume_id, payload = EXCLUDED.payload, failed_at = NULL
+                """, applicationId, resumeId, payload);
+    }
+
+    /**
+     * Removes and returns every screening waiting on the resume. Concurrent callers each get a
+     * disjoint share, since a deleted row is returned only to the transaction that deleted it.
+     */
+    public List<String> takeAll(long resumeId) {
+        return jdbcTemplate.queryForList("DELETE FROM screening_waits WHERE resume_id = ? RETURNING payload",
+                String.class, resumeId);
+    }
+
+    /**
+     * Marks the resume's waiting screenings failed and writes the reason into their applications'
+     * screening notes.
+     *
+     * @return number of applications marked
+     */
+    public int markFailed(long resumeId, String notes) {
+        return jdbcTemplate.update("""
+                WITH failed AS (
+                    UPDATE screening_waits SET failed_at = now()
+                    WHERE resume_id = ? AND failed_at IS NULL
+                    RETURNING application_id
+                )
+                UPDATE applications a SET ai_screening_notes = ?, version = a.version + 1, updated_at = now()
+                FROM failed f WHERE a.id = f.application_id
+                """, resumeId, notes);
+    }
+}
@@ -6,6 +6,8 @@ import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Repository;
 
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
@@ -82,6 +84,57 @@ public class VectorSearchRepository {
         return jdbcTemplate.queryForList(sql, candidateId, topK);
     }
 
+    /**
+     * Similarity of one resume to each of the given jobs, keyed by job id.
+     * Jobs without an embedding are left out.
+     */
+    public Map<Long, Double> resumeSimilarityToJobs(Long resumeId, Collection<Long> jobIds) {
+        if (jobIds.isEmpty()) {
+            return Map.of();
+        }
+        String sql = """
+                SELECT j.id AS job_id,
+                       1 - (j.embedding <=> r.embedding) AS similarity
+                FROM jobs j
+                JOIN resumes r ON r.id = ?
+                WHERE j.id = ANY(?)
+                  AND j.embedding IS NOT NULL
+                  AND r.embedding IS NOT NULL
+                """;
+        Map<Long, Double> similarities = new HashMap<>();
+        jdbcTemplate.query(sql, rs -> {
+            similarities.put(rs.getLong("job_id"), rs.getDouble("similarity"));
+        }, resumeId, jobIds.toArray(Long[]::new));
+        return similarities;
+    }
+
+    /**
+     * Best similarity of one active job to any resume of each of the given candidates, keyed by
+     * candidate id. Candidates without an embedded resume are left out, as is everything when the
+     * job is not active.
+     */
+    public Map<Long, Double> jobSimilarityToCandidates(Long jobId, Collection<Long> candidateIds) {
+        if (candidateIds.isEmpty()) {
+            return Map.of();
+        }
+        String sql = """
+                SELECT r.candidate_id,
+                       MAX(1 - (r.embedding <=> j.embedding)) AS similarity
+                FROM resumes r
+                JOIN jobs j ON j.id = ?
+                WHERE r.candidate_id = ANY(?)
+                  AND r.embedding IS NOT NULL
+                  AND j.embedding IS NOT NULL
+                  AND j.status = 'ACTIVE'
+                GROUP BY r.candidate_id
+                """;
+        Map<Long, Double> similarities = new HashMap<>();
+        jdbcTemplate.query(sql, rs -> {
+            similarities.put(rs.getLong("candidate_id"), rs.getDouble("similarity"));
+        }, jobId, candidateIds.toArray(Long[]::new));
+        return similarities;
+    }
+
     /**
      * Check if a resume has an embedding stored.
      */
@@ -1,6 +1,8 @@
 package com.hireai.service;
 
+import com.hireai.domain.dto.projection.ApplicationSummary;
 import com.hireai.domain.dto.response.ApplicationResponse;
+import com.hireai.domain.dto.response.CursorPageResponse;
 import com.hireai.domain.entity.Application;
 import com.hireai.domain.entity.Candidate;
 import com.hireai.domain.entity.Job;
@@ -11,19 +13,25 @@ import com.hireai.exception.DuplicateResourceException;
 import com.hireai.exception.ResourceNotFoundException;
 import com.hireai.exception.UnauthorizedException;
 import com.hireai.messaging.event.ApplicationScreenEvent;
+import com.hireai.messaging.event.HiringEvent;
+import com.hireai.messaging.event.PipelineTrace;
 import com.hireai.messaging.producer.HiringEventProducer;
+import com.hireai.messaging.trace.PipelineLatencyTracker;
 import com.hireai.repository.ApplicationRepository;
 import com.hireai.repository.CandidateRepository;
 import com.hireai.repository.JobRepository;
 import com.hireai.repository.ResumeRepository;
+import com.hireai.util.KeysetCursor;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.ZoneId;
 import java.util.List;
 
 @Service
@@ -36,6 +44,8 @@ public class ApplicationService {
     private final CandidateRepository candidateRepository;
     private final ResumeRepository resumeRepository;
     private final HiringEventProducer eventProducer;
+    private final DashboardCounterService counterService;
+    private final FunnelService funnelService;
 
     @Transactional
     @CacheEvict(value = "dashboardStats", allEntries = true)
@@ -61,14 +71,24 @@ public class ApplicationService {
                 .build();
 
         Application saved = applicationRepository.save(application);
+        counterService.applicationCreated(saved);
+        funnelService.applicationCreated(saved);
         log.info("Application created: id={}, jobId={}, candidateId={}", saved.getId(), jobId, candidate.getId());
 
-        // Publish async screening event
+        // Publish async screening event; the application pipeline (and its SLO) is measured from
+        // now, the upload stamp only feeds the separate upload-to-screened latency
+        long appliedAt = System.currentTimeMillis();
+        long resumeUploadedAt = resume.getCreatedAt() != null
+                ? resume.getCreatedAt().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli()
+                : appliedAt;
         eventProducer.publishApplicationScreen(ApplicationScreenEvent.builder()
                 .applicationId(saved.getId())
                 .jobId(jobId)
                 .candidateId(candidate.getId())
                 .resumeId(resumeId)
+                .entityVersion(HiringEvent.versionOf(saved.getUpdatedAt()))
+                .trace(PipelineTrace.start(PipelineLatencyTracker.APPLICATION_PIPELINE, appliedAt)
+                        .stamp(PipelineLatencyTracker.UPLOADED, resumeUploadedAt))
                 .build());
 
         return toResponse(saved);
@@ -85,27 +105,49 @@ public class ApplicationService {
     public Page<ApplicationResponse> listApplications(String status, Pageable pageable) {
         if (status != null && !status.isBlank()) {
             ApplicationStatus appStatus = ApplicationStatus.valueOf(status.toUpperCase());
-            return applicationRepository.findByStatusOrderByCreatedAtDesc(appStatus, pageable)
-                    .map(this::toResponse);
+            return applicationRepository.findSummariesByStatus(appStatus, pageable)
+                    .map(ApplicationService::toResponse);
         }
-        return applicationRepository.findAllOrderByCreatedAtDesc(pageable)
-                .map(this::toResponse);
+        return applicationRepository.findSummaries(pageable)
+                .map(ApplicationService::toResponse);
     }
 
+    /**
+     * Keyset variant of {@link #listApplications}: one indexed seek per page however deep the
+     * cursor, and the total only when asked for.
+     */
     @Transactional(readOnly = true)
-    public List<ApplicationResponse> getMyApplications(User user) {
+    public CursorPageResponse<ApplicationResponse> scrollApplications(String status, String cursor, int size,
+                                                                      boolean includeTotal) {
+        KeysetCursor position = KeysetCursor.decode(cursor);
+        int pageSize = CursorPageResponse.clampSize(size);
+        PageRequest limit = PageRequest.of(0, pageSize + 1);
+        List<ApplicationSummary> rows;
+        Long total = null;
+        if (status != null && !status.isBlank()) {
+            ApplicationStatus appStatus = ApplicationStatus.valueOf(status.toUpperCase());
+            rows = applicationRepository.findSummariesByStatusBefore(appStatus, position.createdAt(), position.id(), limit);
+            if (includeTotal) total = applicationRepository.countByStatus(appStatus);
+        } else {
+            rows = applicationRepository.findSummariesBefore(position.createdAt(), position.id(), limit);
+            if (includeTotal) total = applicationRepository.count();
+        }
+        return CursorPageResponse.of(rows, pageSize, s -> new KeysetCursor(s.createdAt(), s.id()),
+                ApplicationService::toResponse, total);
+    }
+
+    @Transactional(readOnly = true)
+    public Page<ApplicationResponse> getMyApplications(User user, Pageable pageable) {
         Candidate candidate = candidateRepository.findByUserId(user.getId())
                 .orElseThrow(() -> new ResourceNotFoundException("Candidate profile not found"));
-        return applicationRepository.findByCandidateIdOrderByCreatedAtDesc(candidate.getId()).stream()
-                .map(this::toResponse)
-                .toList();
+        return applicationRepository.findSummariesByCandidateId(candidate.getId(), pageable)
+                .map(ApplicationService::toResponse);
     }
 
     @Transactional(readOnly = true)
-    public List<ApplicationResponse> getJobApplications(Long jobId) {
-        return applicationRepository.findByJobId(jobId).stream()
-                .map(this::toResponse)
-                .toList();
+    public Page<ApplicationResponse> getJobApplications(Long jobId, Pageable pageable) {
+        return applicationRepository.findSummariesByJobId(jobId, pageable)
+                .map(ApplicationService::toResponse);
     }
 
     @Transactional
@@ -121,8 +163,11 @@ public class ApplicationService {
         }
 
         ApplicationStatus status = ApplicationStatus.valueOf(newStatus.toUpperCase());
+        ApplicationStatus previous = application.getStatus();
         application.setStatus(status);
         Application saved = applicationRepository.save(application);
+        counterService.statusChanged(saved, previous);
+        funnelService.statusChanged(saved, previous);
         log.info("Application status updated: id={}, newStatus={}", id, status);
         return toResponse(saved);
     }
@@ -140,4 +185,20 @@ public class ApplicationService {
                 .updatedAt(app.getUpdatedAt())
                 .build();
     }
+
+    /**
+     * List views carry no screening notes; they are on the application detail.
+     */
+    static ApplicationResponse toResponse(ApplicationSummary summary) {
+        return ApplicationResponse.builder()
+                .id(summary.id())
+                .jobId(summary.jobId())
+                .candidateId(summary.candidateId())
+                .resumeId(summary.resumeId())
+                .status(summary.status().name())
+                .aiMatchScore(summary.aiMatchScore())
+                .createdAt(summary.createdAt())
+                .updatedAt(summary.updatedAt())
+                .build();
+    }
 }
@@ -28,6 +28,7 @@ public class AuthService {
 
     private final UserRepository userRepository;
     private final CandidateRepository candidateRepository;
+    private final DashboardCounterService counterService;
     private final PasswordEncoder passwordEncoder;
     private final JwtTokenProvider jwtTokenProvider;
     private final AuthenticationManager authenticationManager;
@@ -50,6 +51,7 @@ public class AuthService {
 
         if (user.getRole() == UserRole.CANDIDATE) {
             candidateRepository.save(Candidate.builder().user(user).build());
+            counterService.candidatesCreated(1);
         }
 
         UserDetails userDetails = userDetailsService.loadUserByUsername(user.getEmail());
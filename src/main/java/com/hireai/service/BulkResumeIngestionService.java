@@ -0,0 +1,407 @@
+package com.hireai.service;
+
+import com.hireai.config.RabbitMQConfig;
+import com.hireai.domain.dto.response.BulkIngestionResponse;
+import com.hireai.domain.entity.Candidate;
+import com.hireai.domain.entity.Resume;
+import com.hireai.domain.enums.ParseStatus;
+import com.hireai.exception.FileStorageException;
+import com.hireai.exception.ResourceNotFoundException;
+import com.hireai.messaging.event.HiringEvent;
+import com.hireai.messaging.event.PipelineTrace;
+import com.hireai.messaging.event.ResumeParseEvent;
+import com.hireai.messaging.producer.HiringEventProducer;
+import com.hireai.messaging.trace.PipelineLatencyTracker;
+import com.hireai.repository.CandidateRepository;
+import com.hireai.repository.ResumeRepository;
+import com.hireai.util.FileStorageUtil;
+import com.hireai.util.TextExtractor;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.compress.archivers.ArchiveEntry;
+import org.apache.commons.compress.archivers.ArchiveInputStream;
+import org.apache.commons.compress.archivers.tar.TarArchiveInputStream;
+import org.apache.commons.compress.archivers.zip.ZipArchiveInputStream;
+import org.springframework.amqp.core.AmqpAdmin;
+import org.springframework.amqp.core.QueueInformation;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * Ingests archives of resumes sent by agencies. The request thread streams entries straight to
+ * storage, one at a time, so the archive is never buffered. Text extraction and persistence then
+ * run in batches on a bounded pool: each batch waits until resume.parse has room, extracts in
+ * parallel and saves its resumes and parse events in one transaction. Progress lives in Redis so
+ * any node can answer a status poll.
+ */
+@Service
+@Slf4j
+public class BulkResumeIngestionService {
+
+    private static final String KEY_PREFIX = "ingestion:";
+    private static final Duration TTL = Duration.ofDays(7);
+
+    public enum ArchiveFormat {
+        ZIP, TAR, TGZ;
+
+        public static ArchiveFormat resolve(String format, String contentType) {
+            if (format != null && !format.isBlank()) {
+                try {
+                    return valueOf(format.trim().toUpperCase());
+                } catch (IllegalArgumentException e) {
+                    throw new FileStorageException("Unsupported archive format: " + format);
+                }
+            }
+            String type = contentType != null ? contentType.toLowerCase() : "";
+            if (type.contains("zip")) {
+                return ZIP;
+            }
+            if (type.contains("gzip") || type.contains("x-gtar")) {
+                return TGZ;
+            }
+            if (type.contains("x-tar")) {
+                return TAR;
+            }
+            throw new FileStorageException("Send a ZIP or tar archive, or set the format parameter");
+        }
+    }
+
+    private record StoredEntry(String fileName, String filePath, long storedAt) {}
+
+    private record Extracted(StoredEntry entry, String rawText, PipelineTrace trace) {}
+
+    private final ResumeRepository resumeRepository;
+    private final CandidateRepository candidateRepository;
+    private final DashboardCounterService counterService;
+    private final FileStorageUtil fileStorageUtil;
+    private final TextExtractor textExtractor;
+    private final HiringEventProducer eventProducer;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final AmqpAdmin amqpAdmin;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+    private final PipelineLatencyTracker latencyTracker;
+    private final int maxEntries;
+    private final int batchSize;
+    private final long maxParseQueueDepth;
+    private final long throttleBackoffMs;
+    private final boolean partitioningEnabled;
+    private final int partitions;
+
+    private final ExecutorService dispatcher;
+    private final ExecutorService extractionPool;
+
+    public BulkResumeIngestionService(ResumeRepository resumeRepository, CandidateRepository candidateRepository,
+                                      DashboardCounterService counterService, FileStorageUtil fileStorageUtil,
+                                      TextExtractor textExtractor,
+                                      HiringEventProducer eventProducer, RedisTemplate<String, String> redisTemplate,
+                                      AmqpAdmin amqpAdmin, PlatformTransactionManager transactionManager,
+                                      MeterRegistry meterRegistry, PipelineLatencyTracker latencyTracker,
+                                      @Value("${app.ingestion.max-entries:10000}") int maxEntries,
+                                      @Value("${app.ingestion.batch-size:50}") int batchSize,
+                                      @Value("${app.ingestion.extraction-threads:4}") int extractionThreads,
+                                      @Value("${app.ingestion.max-concurrent-jobs:2}") int maxConcurrentJobs,
+                                      @Value("${app.ingestion.max-parse-queue-depth:500}") long maxParseQueueDepth,
+                                      @Value("${app.ingestion.throttle-backoff-ms:2000}") long throttleBackoffMs,
+                                      @Value("${app.messaging.partitioning.enabled:false}") boolean partitioningEnabled,
+                                      @Value("${app.messaging.partitioning.partitions:8}") int partitions) {
+        this.resumeRepository = resumeRepository;
+        this.candidateRepository = candidateRepository;
+        this.counterService = counterService;
+        this.fileStorageUtil = fileStorageUtil;
+        this.textExtractor = textExtractor;
+        this.eventProducer = eventProducer;
+        this.redisTemplate = redisTemplate;
+        this.amqpAdmin = amqpAdmin;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.meterRegistry = meterRegistry;
+        this.latencyTracker = latencyTracker;
+        this.maxEntries = maxEntries;
+        this.batchSize = batchSize;
+        this.maxParseQueueDepth = maxParseQueueDepth;
+        this.throttleBackoffMs = throttleBackoffMs;
+        this.partitioningEnabled = partitioningEnabled;
+        this.partitions = partitions;
+        this.dispatcher = Executors.newFixedThreadPool(maxConcurrentJobs, daemonThreads("bulk-ingest-"));
+        this.extractionPool = Executors.newFixedThreadPool(extractionThreads, daemonThreads("bulk-extract-"));
+    }
+
+    /**
+     * Reads the archive to its end, storing every PDF/DOCX entry, then hands the stored files to
+     * the background pipeline and returns the job for polling.
+     */
+    public BulkIngestionResponse ingest(InputStream body, ArchiveFormat format) {
+        String id = UUID.randomUUID().toString();
+        String key = key(id);
+        Map<String, String> initial = new HashMap<>();
+        initial.put("format", format.name());
+        initial.put("status", "RECEIVING");
+        initial.put("startedAt", LocalDateTime.now().toString());
+        redisTemplate.opsForHash().putAll(key, initial);
+        redisTemplate.expire(key, TTL);
+        log.info("Bulk ingestion {} receiving {} archive", id, format);
+
+        List<StoredEntry> stored = new ArrayList<>();
+        try (ArchiveInputStream<? extends ArchiveEntry> archive = open(body, format)) {
+            ArchiveEntry entry;
+            while ((entry = archive.getNextEntry()) != null) {
+                if (entry.isDirectory()) {
+                    continue;
+                }
+                increment(id, "received", 1);
+                if (stored.size() >= maxEntries) {
+                    redisTemplate.opsForHash().put(key, "error", "Archive truncated after " + maxEntries + " resumes");
+                    break;
+                }
+                String fileName = baseName(entry.getName());
+                if (fileName.startsWith(".") || entry.getName().contains("__MACOSX/") || !archive.canReadEntryData(entry)) {
+                    increment(id, "skipped", 1);
+                    continue;
+                }
+                try {
+                    stored.add(new StoredEntry(fileName, fileStorageUtil.storeStream(fileName, archive), System.currentTimeMillis()));
+                    increment(id, "stored", 1);
+                } catch (FileStorageException e) {
+                    log.debug("Bulk ingestion {} skipped {}: {}", id, entry.getName(), e.getMessage());
+                    increment(id, "skipped", 1);
+                }
+            }
+        } catch (IOException e) {
+            finish(id, "FAILED", "Failed to read archive: " + e.getMessage());
+            throw new FileStorageException("Failed to read " + format + " archive", e);
+        }
+
+        redisTemplate.opsForHash().put(key, "status", "QUEUED");
+        dispatcher.submit(() -> process(id, stored));
+        log.info("Bulk ingestion {} stored {} resumes", id, stored.size());
+        return getJob(id);
+    }
+
+    public BulkIngestionResponse getJob(String id) {
+        Map<Object, Object> fields = redisTemplate.opsForHash().entries(key(id));
+        if (fields == null || fields.isEmpty()) {
+            throw new ResourceNotFoundException("Ingestion job not found: " + id);
+        }
+        return BulkIngestionResponse.builder()
+                .id(id)
+                .format((String) fields.get("format"))
+                .status((String) fields.get("status"))
+                .received(count(fields, "received"))
+                .stored(count(fields, "stored"))
+                .skipped(count(fields, "skipped"))
+                .extracted(count(fields, "extracted"))
+                .published(count(fields, "published"))
+                .failed(count(fields, "failed"))
+                .error((String) fields.get("error"))
+                .startedAt(time(fields, "startedAt"))
+                .finishedAt(time(fields, "finishedAt"))
+                .build();
+    }
+
+    @PreDestroy
+    void shutdown() {
+        dispatcher.shutdownNow();
+        extractionPool.shutdownNow();
+    }
+
+    private void process(String id, List<StoredEntry> stored) {
+        redisTemplate.opsForHash().put(key(id), "status", "PROCESSING");
+        try {
+            for (int from = 0; from < stored.size(); from += batchSize) {
+                awaitParseCapacity(id);
+                List<Extracted> batch = extractBatch(id, stored.subList(from, Math.min(from + batchSize, stored.size())));
+                if (!batch.isEmpty()) {
+                    transactionTemplate.executeWithoutResult(status -> persistAndPublish(batch));
+                    increment(id, "published", batch.size());
+                    meterRegistry.counter("hireai.ingestion.published").increment(batch.size());
+                }
+            }
+            finish(id, "COMPLETED", null);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            finish(id, "CANCELLED", null);
+        } catch (Exception e) {
+            log.error("Bulk ingestion {} failed", id, e);
+            finish(id, "FAILED", e.getMessage());
+        }
+    }
+
+    private List<Extracted> extractBatch(String id, List<StoredEntry> entries) throws InterruptedException {
+        List<Future<Extracted>> futures = new ArrayList<>(entries.size());
+        for (StoredEntry entry : entries) {
+            futures.add(extractionPool.submit(() -> extract(entry)));
+        }
+        List<Extracted> extracted = new ArrayList<>(entries.size());
+        for (Future<Extracted> future : futures) {
+            try {
+                extracted.add(future.get());
+            } catch (ExecutionException e) {
+                log.warn("Bulk ingestion {}: text extraction failed: {}", id, e.getCause().getMessage());
+                increment(id, "failed", 1);
+                meterRegistry.counter("hireai.ingestion.failed").increment();
+            }
+        }
+        increment(id, "extracted", extracted.size());
+        return extracted;
+    }
+
+    private Extracted extract(StoredEntry entry) {
+        Timer.Sample extraction = latencyTracker.startStage();
+        String rawText = textExtractor.extract(entry.filePath());
+        PipelineTrace trace = latencyTracker.start(PipelineLatencyTracker.RESUME_PIPELINE,
+                PipelineLatencyTracker.UPLOADED, entry.storedAt());
+        latencyTracker.completed(PipelineLatencyTracker.EXTRACTED, extraction, trace);
+        return new Extracted(entry, rawText, trace);
+    }
+
+    /**
+     * One transaction per batch: candidates, resumes and outbox rows each go out as one batched
+     * insert, and the relay publishes the events as one confirmed batch. Agency resumes get a
+     * candidate without a user account.
+     */
+    private void persistAndPublish(List<Extracted> batch) {
+        List<Candidate> candidates = candidateRepository.saveAll(
+                batch.stream().map(extracted -> Candidate.builder().build()).toList());
+        List<Resume> resumes = new ArrayList<>(batch.size());
+        for (int i = 0; i < batch.size(); i++) {
+            Extracted extracted = batch.get(i);
+            resumes.add(Resume.builder()
+                    .candidate(candidates.get(i))
+                    .fileName(extracted.entry().fileName())
+                    .filePath(extracted.entry().filePath())
+                    .rawText(extracted.rawText())
+                    .parseStatus(ParseStatus.PENDING)
+                    .build());
+        }
+        List<Resume> saved = resumeRepository.saveAll(resumes);
+
+        List<ResumeParseEvent> events = new ArrayList<>(saved.size());
+        for (int i = 0; i < saved.size(); i++) {
+            Resume resume = saved.get(i);
+            events.add(ResumeParseEvent.builder()
+                    .resumeId(resume.getId())
+                    .candidateId(resume.getCandidate().getId())
+                    .filePath(resume.getFilePath())
+                    .entityVersion(HiringEvent.versionOf(resume.getUpdatedAt()))
+                    .trace(batch.get(i).trace())
+                    .build());
+        }
+        eventProducer.publishResumeParses(events);
+        counterService.candidatesCreated(batch.size());
+    }
+
+    /**
+     * Holds the next batch while resume.parse (and its partitions) hold more than the configured
+     * depth, so a large archive cannot bury interactive uploads behind thousands of AI parses.
+     */
+    private void awaitParseCapacity(String id) throws InterruptedException {
+        boolean throttled = false;
+        long depth;
+        while ((depth = parseQueueDepth()) >= maxParseQueueDepth) {
+            if (!throttled) {
+                log.info("Bulk ingestion {} throttled: resume.parse depth {} >= {}", id, depth, maxParseQueueDepth);
+                redisTemplate.opsForHash().put(key(id), "status", "THROTTLED");
+                meterRegistry.counter("hireai.ingestion.throttled").increment();
+                throttled = true;
+            }
+            Thread.sleep(throttleBackoffMs);
+        }
+        if (throttled) {
+            redisTemplate.opsForHash().put(key(id), "status", "PROCESSING");
+        }
+    }
+
+    private long parseQueueDepth() {
+        long depth = depth(RabbitMQConfig.RESUME_PARSE_QUEUE);
+        if (partitioningEnabled) {
+            for (String partition : RabbitMQConfig.partitionQueueNames(RabbitMQConfig.RESUME_PARSE_QUEUE, partitions)) {
+                depth += depth(partition);
+            }
+        }
+        return depth;
+    }
+
+    private long depth(String queue) {
+        QueueInformation info = amqpAdmin.getQueueInfo(queue);
+        return info != null ? info.getMessageCount() : 0;
+    }
+
+    private ArchiveInputStream<? extends ArchiveEntry> open(InputStream body, ArchiveFormat format) throws IOException {
+        InputStream in = new BufferedInputStream(body);
+        return switch (format) {
+            case ZIP -> new ZipArchiveInputStream(in);
+            case TAR -> new TarArchiveInputStream(in);
+            case TGZ -> new TarArchiveInputStream(new GZIPInputStream(in));
+        };
+    }
+
+    private void finish(String id, String status, String error) {
+        Map<String, String> fields = new HashMap<>();
+        fields.put("status", status);
+        fields.put("finishedAt", LocalDateTime.now().toString());
+        if (error != null) {
+            fields.put("error", error);
+        }
+        redisTemplate.opsForHash().putAll(key(id), fields);
+        BulkIngestionResponse job = getJob(id);
+        log.info("Bulk ingestion {} {}: received={}, stored={}, skipped={}, published={}, failed={}", id, status,
+                job.getReceived(), job.getStored(), job.getSkipped(), job.getPublished(), job.getFailed());
+    }
+
+    private void increment(String id, String field, long delta) {
+        if (delta > 0) {
+            redisTemplate.opsForHash().increment(key(id), field, delta);
+        }
+    }
+
+    private static String baseName(String entryName) {
+        String name = entryName.replace('\\', '/');
+        return name.substring(name.lastIndexOf('/') + 1);
+    }
+
+    private static long count(Map<Object, Object> fields, String field) {
+        Object value = fields.get(field);
+        return value != null ? Long.parseLong(value.toString()) : 0;
+    }
+
+    private static LocalDateTime time(Map<Object, Object> fields, String field) {
+        Object value = fields.get(field);
+        return value != null ? LocalDateTime.parse(value.toString()) : null;
+    }
+
+    private static String key(String id) {
+        return KEY_PREFIX + id;
+    }
+
+    private static ThreadFactory daemonThreads(String prefix) {
+        AtomicInteger counter = new AtomicInteger();
+        return r -> {
+            Thread thread = new Thread(r, prefix + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
@@ -0,0 +1,111 @@
+package com.hireai.service;
+
+import com.hireai.domain.entity.Job;
+import com.hireai.domain.enums.JobStatus;
+import com.hireai.repository.JobRepository;
+import com.hireai.repository.VectorSearchRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Fills {@code jobById} and {@code topCandidates} for every active job once the application is up,
+ * so the first requests after a deploy hit the cache. Runs on one node at a time, in the
+ * background, paced to a fixed number of jobs per second to keep the load on Postgres flat.
+ */
+@Service
+@Slf4j
+public class CacheWarmupService {
+
+    private static final String LOCK_KEY = "cache:warmup";
+    private static final Duration LOCK_TTL = Duration.ofMinutes(10);
+
+    private final JobRepository jobRepository;
+    private final VectorSearchRepository vectorSearchRepository;
+    private final JobService jobService;
+    private final JobMatchService jobMatchService;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final MeterRegistry meterRegistry;
+    private final boolean enabled;
+    private final double jobsPerSecond;
+    private final int topCandidatesLimit;
+
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(r -> {
+        Thread thread = new Thread(r, "cache-warmup");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public CacheWarmupService(JobRepository jobRepository, VectorSearchRepository vectorSearchRepository,
+                              JobService jobService, JobMatchService jobMatchService,
+                              RedisTemplate<String, String> redisTemplate, MeterRegistry meterRegistry,
+                              @Value("${app.cache.warmup.enabled:true}") boolean enabled,
+                              @Value("${app.cache.warmup.jobs-per-second:5}") double jobsPerSecond,
+                              @Value("${app.cache.warmup.top-candidates-limit:10}") int topCandidatesLimit) {
+        this.jobRepository = jobRepository;
+        this.vectorSearchRepository = vectorSearchRepository;
+        this.jobService = jobService;
+        this.jobMatchService = jobMatchService;
+        this.redisTemplate = redisTemplate;
+        this.meterRegistry = meterRegistry;
+        this.enabled = enabled;
+        this.jobsPerSecond = jobsPerSecond;
+        this.topCandidatesLimit = topCandidatesLimit;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onReady() {
+        if (enabled) {
+            executor.execute(this::warmUp);
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    void warmUp() {
+        try {
+            Boolean acquired = redisTemplate.opsForValue().setIfAbsent(LOCK_KEY, "1", LOCK_TTL);
+            if (!Boolean.TRUE.equals(acquired)) {
+                log.info("Cache warmup already running or recently done on another node, skipping");
+                return;
+            }
+            List<Long> jobIds = jobRepository.findByStatus(JobStatus.ACTIVE).stream().map(Job::getId).toList();
+            long pauseMs = (long) (1000 / jobsPerSecond);
+            long start = System.currentTimeMillis();
+            int warmed = 0;
+            for (Long jobId : jobIds) {
+                try {
+                    jobService.getJobById(jobId);
+                    meterRegistry.counter("hireai.cache.warmup.entries", "cache", "jobById").increment();
+                    if (vectorSearchRepository.hasJobEmbedding(jobId)) {
+                        jobMatchService.getTopCandidatesForJob(jobId, topCandidatesLimit);
+                        meterRegistry.counter("hireai.cache.warmup.entries", "cache", "topCandidates").increment();
+                    }
+                    warmed++;
+                } catch (Exception e) {
+                    log.warn("Cache warmup failed for job {}: {}", jobId, e.getMessage());
+                }
+                Thread.sleep(pauseMs);
+            }
+            log.info("Cache warmup done: {} of {} active jobs in {} ms", warmed, jobIds.size(),
+                    System.currentTimeMillis() - start);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            log.warn("Cache warmup aborted: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package com.hireai.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hireai.ai.dto.CandidateScore;
+import com.hireai.ai.dto.ParsedResume;
+import com.hireai.domain.entity.Job;
+import com.hireai.domain.entity.Resume;
+import com.hireai.domain.enums.JobStatus;
+import com.hireai.messaging.event.CandidateScoreEvent;
+import com.hireai.repository.JobRepository;
+import com.hireai.repository.ResumeRepository;
+import com.hireai.repository.ResumeScoreRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Scores a candidate's resume against jobs. Scoring and persisting are split so the
+ * candidate.score consumers can write the results of a whole batch at once.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class CandidateScoringService {
+
+    private static final Duration SCORE_TTL = Duration.ofHours(24);
+
+    private final ResumeRepository resumeRepository;
+    private final JobRepository jobRepository;
+    private final ResumeScoreRepository resumeScoreRepository;
+    private final ResumeAIService resumeAIService;
+    private final ObjectMapper objectMapper;
+    private final RedisTemplate<String, String> redisTemplate;
+
+    /**
+     * Result of scoring one event: the resume's new ai_score and the per-job scores to cache.
+     */
+    public record ScoreOutcome(Long resumeId, int score, Map<String, String> cachedScores) {}
+
+    /**
+     * Runs the AI scoring for an event without writing anything.
+     * Empty if the resume has not been parsed yet.
+     */
+    public Optional<ScoreOutcome> score(CandidateScoreEvent event) throws Exception {
+        Resume resume = resumeRepository.findById(event.getResumeId())
+                .orElseThrow(() -> new RuntimeException("Resume not found: " + event.getResumeId()));
+
+        if (resume.getParsedData() == null) {
+            log.warn("Resume {} not yet parsed, skipping scoring", event.getResumeId());
+            return Optional.empty();
+        }
+
+        ParsedResume parsed = objectMapper.readValue(resume.getParsedData(), ParsedResume.class);
+        Map<String, String> cachedScores = new LinkedHashMap<>();
+
+        if (event.getJobId() != null) {
+            // Score against specific job
+            Job job = jobRepository.findById(event.getJobId())
+                    .orElseThrow(() -> new RuntimeException("Job not found: " + event.getJobId()));
+            CandidateScore score = resumeAIService.scoreCandidate(parsed, job);
+            cachedScores.put(cacheKey(event.getCandidateId(), job.getId()), String.valueOf(score.score()));
+            log.info("Candidate {} scored {} for job {}", event.getCandidateId(), score.score(), event.getJobId());
+            return Optional.of(new ScoreOutcome(resume.getId(), score.score(), cachedScores));
+        }
+
+        // Score against top active jobs
+        List<Job> topJobs = jobRepository.findByStatus(JobStatus.ACTIVE).stream().limit(5).toList();
+
+        int bestScore = 0;
+        for (Job job : topJobs) {
+            CandidateScore score = resumeAIService.scoreCandidate(parsed, job);
+            cachedScores.put(cacheKey(event.getCandidateId(), job.getId()), String.valueOf(score.score()));
+            if (score.score() > bestScore) bestScore = score.score();
+            log.info("Candidate {} scored {} for job {} ('{}')",
+                    event.getCandidateId(), score.score(), job.getId(), job.getTitle());
+        }
+        return Optional.of(new ScoreOutcome(resume.getId(), bestScore, cachedScores));
+    }
+
+    /**
+     * Persists outcomes with one JDBC batch for ai_score and one Redis pipeline for the cached scores.
+     */
+    public void saveAll(List<ScoreOutcome> outcomes) {
+        if (outcomes.isEmpty()) return;
+
+        Map<Long, BigDecimal> scores = new LinkedHashMap<>();
+        Map<String, String> cached = new LinkedHashMap<>();
+        for (ScoreOutcome outcome : outcomes) {
+            scores.put(outcome.resumeId(), BigDecimal.valueOf(outcome.score()));
+            cached.putAll(outcome.cachedScores());
+        }
+        resumeScoreRepository.updateAiScores(scores);
+
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            cached.forEach((key, value) -> setWithTtl(connection, key, value));
+            return null;
+        });
+    }
+
+    private void setWithTtl(RedisConnection connection, String key, String value) {
+        connection.stringCommands().setEx(key.getBytes(StandardCharsets.UTF_8),
+                SCORE_TTL.toSeconds(), value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private String cacheKey(Long candidateId, Long jobId) {
+        return "score:candidate:" + candidateId + ":job:" + jobId;
+    }
+}
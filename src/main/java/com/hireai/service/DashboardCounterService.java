@@ -0,0 +1,145 @@
+package com.hireai.service;
+
+import com.hireai.domain.entity.Application;
+import com.hireai.domain.entity.Job;
+import com.hireai.domain.enums.ApplicationStatus;
+import com.hireai.repository.DashboardCounterRepository;
+import com.hireai.repository.DashboardCounterRepository.Delta;
+import com.hireai.repository.DashboardCounterRepository.Scope;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Application counts per status, maintained on every insert and status change instead of being
+ * counted at read time, so a dashboard reads one scope's counters with a single indexed query.
+ * Callers update counters inside the transaction that changes the application, so a rollback
+ * takes the increment with it; a scheduled reconciliation corrects any drift from writes that
+ * bypass this service.
+ */
+@Service
+@Slf4j
+public class DashboardCounterService {
+
+    public static final String JOBS = "JOBS";
+    public static final String CANDIDATES = "CANDIDATES";
+
+    private static final String RECONCILE_LOCK_KEY = "dashboard:counters:reconcile";
+
+    private final DashboardCounterRepository counterRepository;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+    private final long reconcileIntervalMs;
+
+    public DashboardCounterService(DashboardCounterRepository counterRepository,
+                                   RedisTemplate<String, String> redisTemplate,
+                                   PlatformTransactionManager transactionManager, MeterRegistry meterRegistry,
+                                   @Value("${app.dashboard.counters.reconcile-interval-ms:3600000}") long reconcileIntervalMs) {
+        this.counterRepository = counterRepository;
+        this.redisTemplate = redisTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.meterRegistry = meterRegistry;
+        this.reconcileIntervalMs = reconcileIntervalMs;
+    }
+
+    public void applicationCreated(Application application) {
+        counterRepository.apply(applicationDeltas(application, application.getStatus(), 1));
+    }
+
+    public void statusChanged(Application application, ApplicationStatus previous) {
+        if (previous == application.getStatus()) return;
+        List<Delta> deltas = new ArrayList<>(applicationDeltas(application, previous, -1));
+        deltas.addAll(applicationDeltas(application, application.getStatus(), 1));
+        counterRepository.apply(deltas);
+    }
+
+    public void jobCreated(Job job) {
+        List<Delta> deltas = new ArrayList<>();
+        deltas.add(new Delta(Scope.GLOBAL, DashboardCounterRepository.GLOBAL_ID, JOBS, 1));
+        if (job.getRecruiter() != null) {
+            deltas.add(new Delta(Scope.RECRUITER, job.getRecruiter().getId(), JOBS, 1));
+        }
+        counterRepository.apply(deltas);
+    }
+
+    public void candidatesCreated(int count) {
+        if (count == 0) return;
+        counterRepository.apply(List.of(new Delta(Scope.GLOBAL, DashboardCounterRepository.GLOBAL_ID, CANDIDATES, count)));
+    }
+
+    /**
+     * Every counter of one scope in a single read, keyed by metric.
+     */
+    public Map<String, Long> counters(Scope scope, long scopeId) {
+        return counterRepository.find(scope, scopeId);
+    }
+
+    /**
+     * The application counts among a scope's counters for every status, in enum order, with zero
+     * for missing ones.
+     */
+    public static Map<String, Long> statusCounts(Map<String, Long> counters) {
+        Map<String, Long> byStatus = new LinkedHashMap<>();
+        for (ApplicationStatus status : ApplicationStatus.values()) {
+            byStatus.put(status.name(), counters.getOrDefault(status.name(), 0L));
+        }
+        return byStatus;
+    }
+
+    @Scheduled(fixedDelayString = "${app.dashboard.counters.reconcile-interval-ms:3600000}",
+            initialDelayString = "${app.dashboard.counters.reconcile-interval-ms:3600000}")
+    public void reconcile() {
+        try {
+            // One node per interval; the lock is left to expire so the others skip this round
+            Boolean acquired = redisTemplate.opsForValue().setIfAbsent(RECONCILE_LOCK_KEY, "1",
+                    Duration.ofMillis(reconcileIntervalMs / 2));
+            if (!Boolean.TRUE.equals(acquired)) return;
+            long start = System.currentTimeMillis();
+            // Drift is read from one snapshot and applied as ordinary deltas, so writers are never
+            // blocked and increments committed in between stay on top of the correction
+            List<Delta> drift = counterRepository.drift();
+            if (!drift.isEmpty()) {
+                transactionTemplate.executeWithoutResult(status -> counterRepository.apply(drift));
+            }
+            meterRegistry.counter("hireai.dashboard.counters.corrected").increment(drift.size());
+            if (!drift.isEmpty()) {
+                log.warn("Dashboard counter reconciliation corrected {} counters in {} ms",
+                        drift.size(), System.currentTimeMillis() - start);
+            } else {
+                log.info("Dashboard counters reconciled in {} ms, no drift", System.currentTimeMillis() - start);
+            }
+        } catch (Exception e) {
+            log.error("Dashboard counter reconciliation failed", e);
+        }
+    }
+
+    private static List<Delta> applicationDeltas(Application application, ApplicationStatus status, long amount) {
+        if (status == null) return List.of();
+        String metric = status.name();
+        List<Delta> deltas = new ArrayList<>(4);
+        deltas.add(new Delta(Scope.GLOBAL, DashboardCounterRepository.GLOBAL_ID, metric, amount));
+        Job job = application.getJob();
+        if (job != null) {
+            deltas.add(new Delta(Scope.JOB, job.getId(), metric, amount));
+            if (job.getRecruiter() != null) {
+                deltas.add(new Delta(Scope.RECRUITER, job.getRecruiter().getId(), metric, amount));
+            }
+        }
+        if (application.getCandidate() != null) {
+            deltas.add(new Delta(Scope.CANDIDATE, application.getCandidate().getId(), metric, amount));
+        }
+        return deltas;
+    }
+}
@@ -4,14 +4,13 @@ import com.hireai.domain.dto.response.ApplicationResponse;
 import com.hireai.domain.dto.response.CandidateDashboardResponse;
 import com.hireai.domain.dto.response.DashboardStatsResponse;
 import com.hireai.domain.dto.response.RecruiterDashboardResponse;
-import com.hireai.domain.entity.Application;
 import com.hireai.domain.entity.Candidate;
 import com.hireai.domain.entity.User;
-import com.hireai.domain.enums.ApplicationStatus;
 import com.hireai.exception.ResourceNotFoundException;
 import com.hireai.repository.ApplicationRepository;
 import com.hireai.repository.CandidateRepository;
-import com.hireai.repository.JobRepository;
+import com.hireai.repository.DashboardCounterRepository;
+import com.hireai.repository.DashboardCounterRepository.Scope;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.cache.annotation.Cacheable;
@@ -19,7 +18,6 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -28,54 +26,41 @@ import java.util.Map;
 @Slf4j
 public class DashboardService {
 
-    private final JobRepository jobRepository;
+    private static final int RECENT_APPLICATIONS = 10;
+
     private final CandidateRepository candidateRepository;
     private final ApplicationRepository applicationRepository;
+    private final DashboardCounterService counterService;
 
-    @Cacheable(value = "dashboardStats")
+    @Cacheable(value = "dashboardStats", sync = true)
     public DashboardStatsResponse getStats() {
         log.info("Computing dashboard stats (cache miss)");
 
-        long totalJobs = jobRepository.count();
-        long totalCandidates = candidateRepository.count();
-        long totalApplications = applicationRepository.count();
-
-        Map<String, Long> pipeline = new LinkedHashMap<>();
-        pipeline.put("APPLIED", applicationRepository.countByStatus(ApplicationStatus.APPLIED));
-        pipeline.put("SCREENING", applicationRepository.countByStatus(ApplicationStatus.SCREENING));
-        pipeline.put("SHORTLISTED", applicationRepository.countByStatus(ApplicationStatus.SHORTLISTED));
-        pipeline.put("INTERVIEW", applicationRepository.countByStatus(ApplicationStatus.INTERVIEW));
-        pipeline.put("OFFERED", applicationRepository.countByStatus(ApplicationStatus.OFFERED));
-        pipeline.put("REJECTED", applicationRepository.countByStatus(ApplicationStatus.REJECTED));
+        Map<String, Long> counters = counterService.counters(Scope.GLOBAL, DashboardCounterRepository.GLOBAL_ID);
+        Map<String, Long> pipeline = DashboardCounterService.statusCounts(counters);
 
         return DashboardStatsResponse.builder()
-                .totalJobs(totalJobs)
-                .totalCandidates(totalCandidates)
-                .totalApplications(totalApplications)
+                .totalJobs(counters.getOrDefault(DashboardCounterService.JOBS, 0L))
+                .totalCandidates(counters.getOrDefault(DashboardCounterService.CANDIDATES, 0L))
+                .totalApplications(total(pipeline))
                 .pipelineCounts(pipeline)
                 .build();
     }
 
     @Transactional(readOnly = true)
     public RecruiterDashboardResponse getRecruiterDashboard() {
-        long totalJobs = jobRepository.count();
-        long totalCandidates = candidateRepository.count();
-        long totalApplications = applicationRepository.count();
-
-        Map<String, Long> pipeline = new LinkedHashMap<>();
-        for (ApplicationStatus status : ApplicationStatus.values()) {
-            pipeline.put(status.name(), applicationRepository.countByStatus(status));
-        }
+        Map<String, Long> counters = counterService.counters(Scope.GLOBAL, DashboardCounterRepository.GLOBAL_ID);
+        Map<String, Long> pipeline = DashboardCounterService.statusCounts(counters);
 
         List<ApplicationResponse> recentApplications = applicationRepository
-                .findAllOrderByCreatedAtDesc(PageRequest.of(0, 10))
-                .map(this::toResponse)
-                .getContent();
+                .findRecentSummaries(PageRequest.of(0, RECENT_APPLICATIONS)).stream()
+                .map(ApplicationService::toResponse)
+                .toList();
 
         return RecruiterDashboardResponse.builder()
-                .totalJobs(totalJobs)
-                .totalApplications(totalApplications)
-                .totalCandidates(totalCandidates)
+                .totalJobs(counters.getOrDefault(DashboardCounterService.JOBS, 0L))
+                .totalApplications(total(pipeline))
+                .totalCandidates(counters.getOrDefault(DashboardCounterService.CANDIDATES, 0L))
                 .pipelineCounts(pipeline)
                 .recentApplications(recentApplications)
                 .build();
@@ -86,37 +71,23 @@ public class DashboardService {
         Candidate candidate = candidateRepository.findByUserId(user.getId())
                 .orElseThrow(() -> new ResourceNotFoundException("Candidate profile not found"));
 
-        List<Application> applications = applicationRepository
-                .findByCandidateIdOrderByCreatedAtDesc(candidate.getId());
-
-        Map<String, Long> statusCounts = new LinkedHashMap<>();
-        for (ApplicationStatus status : ApplicationStatus.values()) {
-            statusCounts.put(status.name(),
-                    applicationRepository.countByCandidateIdAndStatus(candidate.getId(), status));
-        }
+        Map<String, Long> statusCounts = DashboardCounterService.statusCounts(
+                counterService.counters(Scope.CANDIDATE, candidate.getId()));
 
-        List<ApplicationResponse> appResponses = applications.stream()
-                .map(this::toResponse)
+        // The newest applications only; the full history is paged through /applications/my
+        List<ApplicationResponse> appResponses = applicationRepository
+                .findRecentSummariesByCandidateId(candidate.getId(), PageRequest.of(0, RECENT_APPLICATIONS)).stream()
+                .map(ApplicationService::toResponse)
                 .toList();
 
         return CandidateDashboardResponse.builder()
-                .totalApplications(applications.size())
+                .totalApplications(total(statusCounts))
                 .statusCounts(statusCounts)
                 .applications(appResponses)
                 .build();
     }
 
-    private ApplicationResponse toResponse(Application app) {
-        return ApplicationResponse.builder()
-                .id(app.getId())
-                .jobId(app.getJob().getId())
-                .candidateId(app.getCandidate().getId())
-                .resumeId(app.getResume() != null ? app.getResume().getId() : null)
-                .status(app.getStatus().name())
-                .aiMatchScore(app.getAiMatchScore())
-                .aiScreeningNotes(app.getAiScreeningNotes())
-                .createdAt(app.getCreatedAt())
-                .updatedAt(app.getUpdatedAt())
-                .build();
+    private static long total(Map<String, Long> statusCounts) {
+        return statusCounts.values().stream().mapToLong(Long::longValue).sum();
     }
 }
@@ -0,0 +1,255 @@
+package com.hireai.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hireai.config.RabbitMQConfig;
+import com.hireai.domain.dto.request.DlqReplayRequest;
+import com.hireai.domain.dto.response.DlqReplayResponse;
+import com.hireai.exception.ResourceNotFoundException;
+import com.hireai.repository.DlqReplayRepository;
+import com.hireai.repository.InterviewResponseRepository;
+import com.rabbitmq.client.AMQP;
+import com.rabbitmq.client.Channel;
+import com.rabbitmq.client.GetResponse;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.core.AmqpAdmin;
+import org.springframework.amqp.core.QueueInformation;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Moves parked messages from a DLQ back onto their work queue at a fixed rate, optionally
+ * only those whose JSON payload has a given field value. Non-matching messages are rotated
+ * to the tail of the DLQ, and each run scans at most the depth the DLQ had when it started.
+ * Progress is persisted in dlq_replays; replays running on this node are kept in memory and
+ * heartbeated so that a replay whose node died reads back as INTERRUPTED. The in-memory entry is
+ * an immutable snapshot that the replay thread replaces as it progresses, never mutates.
+ */
+@Service
+@Slf4j
+public class DeadLetterReplayService {
+
+    // Counters are written to the database every this many scanned messages and on every status change
+    private static final int PROGRESS_FLUSH_INTERVAL = 50;
+
+    private final RabbitTemplate rabbitTemplate;
+    private final AmqpAdmin amqpAdmin;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+    private final DlqReplayRepository replayRepository;
+    private final InterviewResponseRepository interviewResponseRepository;
+    private final InterviewAggregationService aggregationService;
+    private final long confirmTimeoutMs;
+    private final long staleAfterMs;
+
+    // Unfinished replays of this node, served live and heartbeated
+    private final Map<String, DlqReplayResponse> replays = new ConcurrentHashMap<>();
+    // One replay at a time so concurrent runs cannot rotate each other's messages
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(r -> {
+        Thread thread = new Thread(r, "dlq-replay");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public DeadLetterReplayService(RabbitTemplate rabbitTemplate, AmqpAdmin amqpAdmin, ObjectMapper objectMapper,
+                                   MeterRegistry meterRegistry, DlqReplayRepository replayRepository,
+                                   InterviewResponseRepository interviewResponseRepository,
+                                   InterviewAggregationService aggregationService,
+                                   @Value("${app.messaging.replay.confirm-timeout-ms:5000}") long confirmTimeoutMs,
+                                   @Value("${app.messaging.replay.stale-after-ms:120000}") long staleAfterMs) {
+        this.rabbitTemplate = rabbitTemplate;
+        this.amqpAdmin = amqpAdmin;
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+        this.replayRepository = replayRepository;
+        this.interviewResponseRepository = interviewResponseRepository;
+        this.aggregationService = aggregationService;
+        this.confirmTimeoutMs = confirmTimeoutMs;
+        this.staleAfterMs = staleAfterMs;
+    }
+
+    public Map<String, Long> getDepths() {
+        Map<String, Long> depths = new LinkedHashMap<>();
+        for (String queue : RabbitMQConfig.RETRYABLE_QUEUES) {
+            depths.put(RabbitMQConfig.parkingQueueName(queue), depth(RabbitMQConfig.parkingQueueName(queue)));
+        }
+        return depths;
+    }
+
+    public DlqReplayResponse startReplay(String queue, DlqReplayRequest request) {
+        if (!RabbitMQConfig.RETRYABLE_QUEUES.contains(queue)) {
+            throw new ResourceNotFoundException("Replayable queue not found: " + queue);
+        }
+        DlqReplayResponse replay = DlqReplayResponse.builder()
+                .id(UUID.randomUUID().toString())
+                .queue(queue)
+                .status("QUEUED")
+                .startedAt(LocalDateTime.now())
+                .build();
+        replayRepository.insert(replay);
+        replays.put(replay.getId(), replay);
+        executor.submit(() -> run(replay, request));
+        log.info("DLQ replay {} queued for {}: max={}, rate={}/s, filter={}={}", replay.getId(), queue,
+                request.getMaxMessages(), request.getRatePerSecond(), request.getField(), request.getValue());
+        return replay;
+    }
+
+    public DlqReplayResponse getReplay(String id) {
+        DlqReplayResponse replay = replays.get(id);
+        if (replay != null) {
+            return replay;
+        }
+        return replayRepository.findById(id, staleAfterMs)
+                .orElseThrow(() -> new ResourceNotFoundException("Replay not found: " + id));
+    }
+
+    @Scheduled(fixedDelayString = "${app.messaging.replay.heartbeat-ms:30000}")
+    void heartbeat() {
+        replayRepository.heartbeat(replays.keySet());
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private void run(DlqReplayResponse queued, DlqReplayRequest request) {
+        String queue = queued.getQueue();
+        String dlq = RabbitMQConfig.parkingQueueName(queue);
+        long pauseMs = 1000L / request.getRatePerSecond();
+        long scanned = 0;
+        long replayed = 0;
+        long skipped = 0;
+        DlqReplayResponse replay = publish(queued.toBuilder().status("RUNNING"));
+        try {
+            replayRepository.update(replay);
+            long depth = depth(dlq);
+            while (scanned < depth && replayed < request.getMaxMessages()) {
+                Boolean moved = rabbitTemplate.execute(channel -> moveOne(channel, dlq, queue, request));
+                if (moved == null) {
+                    break; // DLQ drained
+                }
+                scanned++;
+                if (moved) {
+                    replayed++;
+                    meterRegistry.counter("hireai.messaging.replayed", "queue", queue).increment();
+                } else {
+                    skipped++;
+                }
+                replay = publish(replay.toBuilder().scanned(scanned).replayed(replayed).skipped(skipped));
+                if (scanned % PROGRESS_FLUSH_INTERVAL == 0) {
+                    replayRepository.update(replay);
+                }
+                if (moved) {
+                    Thread.sleep(pauseMs);
+                }
+            }
+            replay = replay.toBuilder().status("COMPLETED").build();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            replay = replay.toBuilder().status("CANCELLED").build();
+        } catch (Exception e) {
+            log.error("DLQ replay {} failed", replay.getId(), e);
+            replay = replay.toBuilder().status("FAILED").error(e.getMessage()).build();
+        } finally {
+            replay = replay.toBuilder().finishedAt(LocalDateTime.now()).build();
+            try {
+                replayRepository.update(replay);
+            } catch (Exception e) {
+                log.error("Failed to persist DLQ replay {}; it will read back as INTERRUPTED", replay.getId(), e);
+            }
+            replays.remove(replay.getId());
+            log.info("DLQ replay {} {}: scanned={}, replayed={}, skipped={}", replay.getId(), replay.getStatus(),
+                    replay.getScanned(), replay.getReplayed(), replay.getSkipped());
+        }
+    }
+
+    /**
+     * Replaces the live entry of a running replay with a new snapshot.
+     */
+    private DlqReplayResponse publish(DlqReplayResponse.DlqReplayResponseBuilder snapshot) {
+        DlqReplayResponse replay = snapshot.build();
+        replays.put(replay.getId(), replay);
+        return replay;
+    }
+
+    /**
+     * Takes the head of the DLQ and republishes it either to the work queue (with a fresh retry
+     * budget) or back to the DLQ tail, acking the original only once the broker has confirmed the
+     * copy. A nack or confirm timeout closes the channel, which returns the original to the DLQ.
+     * A replayed interview evaluation no longer counts as failed once its copy is confirmed.
+     *
+     * @return true if replayed, false if rotated, null if the DLQ was empty
+     */
+    private Boolean moveOne(Channel channel, String dlq, String queue, DlqReplayRequest request)
+            throws IOException, InterruptedException, TimeoutException {
+        GetResponse response = channel.basicGet(dlq, false);
+        if (response == null) {
+            return null;
+        }
+        AMQP.BasicProperties props = response.getProps();
+        boolean matches = matches(response.getBody(), request.getField(), request.getValue());
+        if (matches) {
+            Map<String, Object> headers = props.getHeaders() != null ? new HashMap<>(props.getHeaders()) : new HashMap<>();
+            headers.remove(RabbitMQConfig.RETRY_ATTEMPT_HEADER);
+            headers.remove("x-death");
+            channel.basicPublish("", queue, props.builder().headers(headers).build(), response.getBody());
+        } else {
+            channel.basicPublish("", dlq, props, response.getBody());
+        }
+        // The template's channels are in confirm mode (publisher-confirm-type: simple)
+        channel.waitForConfirmsOrDie(confirmTimeoutMs);
+        if (matches && RabbitMQConfig.INTERVIEW_EVALUATE_QUEUE.equals(queue)) {
+            evaluationRequeued(response.getBody());
+        }
+        channel.basicAck(response.getEnvelope().getDeliveryTag(), false);
+        return matches;
+    }
+
+    /**
+     * Clears the failed mark the evaluation consumer set when it parked the answer, so the
+     * answer holds up the interview summary again until the replay has been evaluated.
+     */
+    private void evaluationRequeued(byte[] body) throws IOException {
+        JsonNode event = objectMapper.readTree(body);
+        JsonNode responseId = event.get("responseId");
+        if (responseId == null || responseId.isNull()) {
+            return;
+        }
+        if (interviewResponseRepository.clearEvaluationFailed(responseId.asLong()) > 0 && event.hasNonNull("interviewId")) {
+            aggregationService.recount(event.get("interviewId").asLong());
+        }
+    }
+
+    private boolean matches(byte[] body, String field, String value) {
+        if (field == null || field.isBlank()) {
+            return true;
+        }
+        try {
+            JsonNode node = objectMapper.readTree(body).get(field);
+            return node != null && node.asText().equals(value);
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    private long depth(String queue) {
+        QueueInformation info = amqpAdmin.getQueueInfo(queue);
+        return info != null ? info.getMessageCount() : 0;
+    }
+}
@@ -0,0 +1,207 @@
+package com.hireai.service;
+
+import com.hireai.domain.dto.response.FunnelBucketResponse;
+import com.hireai.domain.dto.response.FunnelTrendResponse;
+import com.hireai.domain.entity.Application;
+import com.hireai.domain.entity.Job;
+import com.hireai.domain.entity.User;
+import com.hireai.domain.enums.ApplicationStatus;
+import com.hireai.exception.ResourceNotFoundException;
+import com.hireai.exception.UnauthorizedException;
+import com.hireai.repository.FunnelRepository;
+import com.hireai.repository.FunnelRepository.Granularity;
+import com.hireai.repository.FunnelRepository.RollupDelta;
+import com.hireai.repository.FunnelRepository.RollupKey;
+import com.hireai.repository.FunnelRepository.RollupRow;
+import com.hireai.repository.FunnelRepository.Scope;
+import com.hireai.repository.FunnelRepository.Transition;
+import com.hireai.repository.JobRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Hiring funnel trends. Every application status change is appended to a transition stream in
+ * the transaction that makes it; a background worker folds new transitions into hourly and daily
+ * rollups per job and per recruiter, so a trend query reads at most a few hundred pre-aggregated
+ * rows however large the applications table grows. Weekly trends are summed from daily rows.
+ */
+@Service
+@Slf4j
+public class FunnelService {
+
+    public enum TrendGranularity { HOUR, DAY, WEEK }
+
+    private static final int MAX_DAYS = 366;
+    private static final int MAX_HOURLY_DAYS = 14;
+
+    private final FunnelRepository funnelRepository;
+    private final JobRepository jobRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+    private final int batchSize;
+
+    public FunnelService(FunnelRepository funnelRepository, JobRepository jobRepository,
+                         PlatformTransactionManager transactionManager, MeterRegistry meterRegistry,
+                         @Value("${app.dashboard.funnel.rollup-batch-size:500}") int batchSize) {
+        this.funnelRepository = funnelRepository;
+        this.jobRepository = jobRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.meterRegistry = meterRegistry;
+        this.batchSize = batchSize;
+    }
+
+    public void applicationCreated(Application application) {
+        record(application, null);
+    }
+
+    public void statusChanged(Application application, ApplicationStatus previous) {
+        if (previous != application.getStatus()) {
+            record(application, previous);
+        }
+    }
+
+    private void record(Application application, ApplicationStatus previous) {
+        if (application.getStatus() == null) return;
+        Job job = application.getJob();
+        funnelRepository.recordTransition(application.getId(),
+                job != null ? job.getId() : null,
+                job != null && job.getRecruiter() != null ? job.getRecruiter().getId() : null,
+                application.getCandidate() != null ? application.getCandidate().getId() : null,
+                previous != null ? previous.name() : null,
+                application.getStatus().name());
+    }
+
+    /**
+     * Folds pending transitions into the rollups, one locked batch per transaction, until none are left.
+     */
+    @Scheduled(fixedDelayString = "${app.dashboard.funnel.rollup-interval-ms:10000}")
+    public void rollUp() {
+        try {
+            Integer rolled;
+            do {
+                rolled = transactionTemplate.execute(status -> rollUpBatch());
+            } while (rolled != null && rolled == batchSize);
+        } catch (Exception e) {
+            log.error("Funnel rollup failed", e);
+        }
+    }
+
+    private int rollUpBatch() {
+        List<Transition> batch = funnelRepository.lockPending(batchSize);
+        if (batch.isEmpty()) return 0;
+
+        Map<RollupKey, long[]> sums = new HashMap<>();
+        for (Transition t : batch) {
+            for (Granularity granularity : Granularity.values()) {
+                LocalDateTime bucket = t.occurredAt().truncatedTo(
+                        granularity == Granularity.HOUR ? ChronoUnit.HOURS : ChronoUnit.DAYS);
+                addTransition(sums, Scope.JOB, t.jobId(), granularity, bucket, t);
+                addTransition(sums, Scope.RECRUITER, t.recruiterId(), granularity, bucket, t);
+            }
+        }
+
+        List<RollupDelta> deltas = new ArrayList<>(sums.size());
+        sums.forEach((key, v) -> deltas.add(new RollupDelta(key, v[0], v[1], v[2], v[3])));
+        funnelRepository.applyRollups(deltas);
+        funnelRepository.markRolledUp(batch.stream().map(Transition::id).toList());
+        meterRegistry.counter("hireai.funnel.transitions.rolled.up").increment(batch.size());
+        return batch.size();
+    }
+
+    /**
+     * Sums are [entered, exited, stage seconds, stage samples].
+     */
+    private static void addTransition(Map<RollupKey, long[]> sums, Scope scope, Long scopeId,
+                                      Granularity granularity, LocalDateTime bucket, Transition t) {
+        if (scopeId == null) return;
+        sums.computeIfAbsent(new RollupKey(scope, scopeId, granularity, bucket, t.toStatus()), k -> new long[4])[0]++;
+        if (t.fromStatus() != null) {
+            long[] exited = sums.computeIfAbsent(
+                    new RollupKey(scope, scopeId, granularity, bucket, t.fromStatus()), k -> new long[4]);
+            exited[1]++;
+            if (t.stageSeconds() != null) {
+                exited[2] += t.stageSeconds();
+                exited[3]++;
+            }
+        }
+    }
+
+    public FunnelTrendResponse recruiterTrends(User recruiter, TrendGranularity granularity, int days) {
+        return trends(Scope.RECRUITER, recruiter.getId(), granularity, days);
+    }
+
+    @Transactional(readOnly = true)
+    public FunnelTrendResponse jobTrends(Long jobId, User recruiter, TrendGranularity granularity, int days) {
+        Job job = jobRepository.findById(jobId)
+                .orElseThrow(() -> new ResourceNotFoundException("Job", jobId));
+        if (!job.getRecruiter().getId().equals(recruiter.getId())) {
+            throw new UnauthorizedException("You don't own this job");
+        }
+        return trends(Scope.JOB, jobId, granularity, days);
+    }
+
+    private FunnelTrendResponse trends(Scope scope, long scopeId, TrendGranularity granularity, int days) {
+        int window = Math.max(1, Math.min(days, granularity == TrendGranularity.HOUR ? MAX_HOURLY_DAYS : MAX_DAYS));
+        LocalDateTime from = LocalDate.now().minusDays(window - 1L).atStartOfDay();
+        List<RollupRow> rows = switch (granularity) {
+            case HOUR -> funnelRepository.findRollups(scope, scopeId, Granularity.HOUR, from);
+            case DAY -> funnelRepository.findRollups(scope, scopeId, Granularity.DAY, from);
+            case WEEK -> funnelRepository.findWeeklyRollups(scope, scopeId, from);
+        };
+
+        Map<LocalDateTime, List<RollupRow>> byBucket = new LinkedHashMap<>();
+        rows.forEach(row -> byBucket.computeIfAbsent(row.bucketStart(), b -> new ArrayList<>()).add(row));
+
+        List<FunnelBucketResponse> buckets = new ArrayList<>(byBucket.size());
+        byBucket.forEach((bucketStart, bucketRows) -> buckets.add(toBucket(bucketStart, bucketRows)));
+
+        return FunnelTrendResponse.builder()
+                .scope(scope.name())
+                .scopeId(scopeId)
+                .granularity(granularity.name())
+                .from(from)
+                .buckets(buckets)
+                .build();
+    }
+
+    /**
+     * Screening pass rate is the share of the bucket's shortlist-or-reject decisions that were
+     * shortlists.
+     */
+    private static FunnelBucketResponse toBucket(LocalDateTime bucketStart, List<RollupRow> rows) {
+        Map<String, Long> entered = new LinkedHashMap<>();
+        Map<String, Long> exited = new LinkedHashMap<>();
+        Map<String, Double> avgHours = new LinkedHashMap<>();
+        for (RollupRow row : rows) {
+            entered.put(row.status(), row.entered());
+            exited.put(row.status(), row.exited());
+            if (row.stageSamples() > 0) {
+                avgHours.put(row.status(), row.stageSecondsTotal() / 3600.0 / row.stageSamples());
+            }
+        }
+        long shortlisted = entered.getOrDefault(ApplicationStatus.SHORTLISTED.name(), 0L);
+        long rejected = entered.getOrDefault(ApplicationStatus.REJECTED.name(), 0L);
+        return FunnelBucketResponse.builder()
+                .bucketStart(bucketStart)
+                .entered(entered)
+                .exited(exited)
+                .avgHoursInStage(avgHours)
+                .screeningPassRate(shortlisted + rejected > 0 ? (double) shortlisted / (shortlisted + rejected) : null)
+                .build();
+    }
+}
@@ -1,6 +1,8 @@
 package com.hireai.service;
 
+import com.hireai.ai.dto.AnswerBatchItem;
 import com.hireai.ai.dto.AnswerEvaluation;
+import com.hireai.ai.dto.AnswerEvaluations;
 import com.hireai.ai.dto.InterviewQuestions;
 import com.hireai.ai.dto.InterviewSummary;
 import com.hireai.domain.entity.Interview;
@@ -9,6 +11,8 @@ import com.hireai.domain.entity.InterviewResponse;
 import com.hireai.domain.entity.Job;
 import com.hireai.domain.enums.InterviewType;
 import com.hireai.exception.AiProcessingException;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.bulkhead.annotation.Bulkhead;
 import io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker;
 import io.github.resilience4j.retry.annotation.Retry;
 import lombok.RequiredArgsConstructor;
@@ -20,6 +24,7 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.io.Resource;
 import org.springframework.stereotype.Service;
 
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -36,11 +41,15 @@ public class InterviewAIService {
     @Value("classpath:prompts/interview-evaluate.st")
     private Resource evaluatePrompt;
 
+    @Value("classpath:prompts/interview-evaluate-batch.st")
+    private Resource evaluateBatchPrompt;
+
     @Value("classpath:prompts/interview-summary.st")
     private Resource summaryPrompt;
 
     @CircuitBreaker(name = "aiService", fallbackMethod = "generateQuestionsFallback")
     @Retry(name = "aiService")
+    @Bulkhead(name = "aiService")
     public InterviewQuestions generateQuestions(Job job, InterviewType type) {
         log.info("AI: Generating {} questions for job '{}'", type, job.getTitle());
         try {
@@ -75,6 +84,7 @@ public class InterviewAIService {
 
     @CircuitBreaker(name = "aiService", fallbackMethod = "evaluateAnswerFallback")
     @Retry(name = "aiService")
+    @Bulkhead(name = "aiService")
     public AnswerEvaluation evaluateAnswer(InterviewQuestion question, String answer, Job job) {
         log.info("AI: Evaluating answer for question {}", question.getId());
         try {
@@ -108,8 +118,62 @@ public class InterviewAIService {
         }
     }
 
+    /**
+     * Evaluates several answers for the same job in one structured prompt.
+     * Returns evaluations keyed by response id; answers the model skipped are absent.
+     */
+    @CircuitBreaker(name = "aiService", fallbackMethod = "evaluateAnswersFallback")
+    @Retry(name = "aiService")
+    @Bulkhead(name = "aiService")
+    public Map<Long, AnswerEvaluation> evaluateAnswers(List<AnswerBatchItem> items, Job job) {
+        log.info("AI: Evaluating batch of {} answers for job '{}'", items.size(), job.getTitle());
+        try {
+            BeanOutputConverter<AnswerEvaluations> converter = new BeanOutputConverter<>(AnswerEvaluations.class);
+
+            StringBuilder answers = new StringBuilder();
+            for (AnswerBatchItem item : items) {
+                InterviewQuestion q = item.question();
+                answers.append("### Answer ").append(item.responseId()).append("\n")
+                        .append("Question: ").append(q.getQuestionText()).append("\n")
+                        .append("Category: ").append(q.getCategory() != null ? q.getCategory().name() : "GENERAL").append("\n")
+                        .append("Difficulty: ").append(q.getDifficulty() != null ? q.getDifficulty() : "MEDIUM").append("\n")
+                        .append("Candidate's Answer: ").append(item.answerText()).append("\n\n");
+            }
+
+            PromptTemplate template = PromptTemplate.builder()
+                    .resource(evaluateBatchPrompt)
+                    .build();
+
+            String prompt = template.render(Map.of(
+                    "jobTitle", job.getTitle(),
+                    "requiredSkills", job.getMustHaveSkills() != null ? job.getMustHaveSkills() : "Not specified",
+                    "answers", answers.toString(),
+                    "format", converter.getFormat()
+            ));
+
+            String response = chatClient.prompt()
+                    .user(prompt)
+                    .call()
+                    .content();
+
+            AnswerEvaluations batch = converter.convert(response);
+            Map<Long, AnswerEvaluation> results = new HashMap<>();
+            if (batch.evaluations() != null) {
+                for (AnswerEvaluations.Evaluation e : batch.evaluations()) {
+                    results.put(e.answerId(), new AnswerEvaluation(e.score(), e.feedback(), e.strengths(), e.improvements()));
+                }
+            }
+            log.info("AI: Batch evaluated {}/{} answers", results.size(), items.size());
+            return results;
+        } catch (Exception e) {
+            log.error("AI: Failed to evaluate answer batch", e);
+            throw new AiProcessingException("Failed to evaluate answer batch", e);
+        }
+    }
+
     @CircuitBreaker(name = "aiService", fallbackMethod = "generateSummaryFallback")
     @Retry(name = "aiService")
+    @Bulkhead(name = "aiService")
     public InterviewSummary generateSummary(Interview interview, Job job) {
         log.info("AI: Generating interview summary for interview {}", interview.getId());
         try {
@@ -160,12 +224,29 @@ public class InterviewAIService {
     }
 
     private AnswerEvaluation evaluateAnswerFallback(InterviewQuestion question, String answer, Job job, Throwable t) {
+        rethrowIfBusy(t);
         log.warn("AI circuit breaker: evaluateAnswer fallback triggered: {}", t.getMessage());
         return new AnswerEvaluation(0, "AI temporarily unavailable — evaluation pending", List.of(), List.of());
     }
 
+    private Map<Long, AnswerEvaluation> evaluateAnswersFallback(List<AnswerBatchItem> items, Job job, Throwable t) {
+        rethrowIfBusy(t);
+        log.warn("AI circuit breaker: evaluateAnswers fallback triggered: {}", t.getMessage());
+        return Map.of();
+    }
+
     private InterviewSummary generateSummaryFallback(Interview interview, Job job, Throwable t) {
         log.warn("AI circuit breaker: generateSummary fallback triggered: {}", t.getMessage());
         throw new AiProcessingException("AI service unavailable for interview summary — please retry later", t);
     }
+
+    /**
+     * A full bulkhead is local back-pressure, not an AI failure: the caller must retry later rather
+     * than persist a placeholder result.
+     */
+    private static void rethrowIfBusy(Throwable t) {
+        if (t instanceof BulkheadFullException busy) {
+            throw busy;
+        }
+    }
 }
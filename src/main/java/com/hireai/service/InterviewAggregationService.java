@@ -0,0 +1,208 @@
+package com.hireai.service;
+
+import com.hireai.domain.enums.InterviewStatus;
+import com.hireai.domain.enums.QuestionCategory;
+import com.hireai.repository.InterviewRepository;
+import com.hireai.repository.InterviewResponseRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Tracks in-flight answer evaluations and running per-category scores for each interview
+ * in a Redis hash, so the summary can be triggered exactly once when the last evaluation lands.
+ * The pending count is a cache of the unevaluated answers in the database: it is recounted when
+ * the hash was evicted, when it goes negative and before a summary is claimed.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class InterviewAggregationService {
+
+    private static final String KEY_PREFIX = "interview:agg:";
+    private static final String PENDING = "pending";
+    private static final String COMPLETED = "completed";
+    private static final String SUMMARY_CLAIMED = "summaryClaimed";
+    private static final String SUM_PREFIX = "sum:";
+    private static final String COUNT_PREFIX = "count:";
+    private static final Duration TTL = Duration.ofDays(7);
+
+    /**
+     * Evaluations still in flight and the average score per category evaluated so far.
+     */
+    public record Progress(long pending, Map<String, BigDecimal> categoryScores) {}
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final InterviewRepository interviewRepository;
+    private final InterviewResponseRepository responseRepository;
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * Registers an answer whose evaluation is about to be published. Inside a transaction the
+     * increment waits for the commit, so a rolled-back answer is never counted.
+     */
+    public void registerPendingEvaluation(Long interviewId) {
+        afterCommit(() -> {
+            String key = key(interviewId);
+            Long pending = hash().increment(key, PENDING, 1);
+            redisTemplate.expire(key, TTL);
+            log.debug("Interview {} pending evaluations: {}", interviewId, pending);
+        });
+    }
+
+    /**
+     * Folds an evaluated answer into the running category scores.
+     *
+     * @return number of evaluations still in flight for the interview
+     */
+    public long recordEvaluation(Long interviewId, QuestionCategory category, int score) {
+        String key = key(interviewId);
+        String cat = category != null ? category.name() : QuestionCategory.TECHNICAL.name();
+        hash().increment(key, SUM_PREFIX + cat, score);
+        hash().increment(key, COUNT_PREFIX + cat, 1);
+        Long pending = hash().increment(key, PENDING, -1);
+        redisTemplate.expire(key, TTL);
+        return pending != null && pending >= 0 ? pending : recount(interviewId);
+    }
+
+    /**
+     * Settles an in-flight evaluation that ended without a score of its own: its answer was
+     * already evaluated, or its evaluation was parked. Recounts instead of decrementing, since a
+     * duplicate delivery may already have been counted down.
+     *
+     * @return number of evaluations still in flight for the interview
+     */
+    public long settleEvaluation(Long interviewId) {
+        return recount(interviewId);
+    }
+
+    /**
+     * Marks the interview as closed for new answers.
+     *
+     * @return number of evaluations still in flight for the interview
+     */
+    public long markCompleted(Long interviewId) {
+        String key = key(interviewId);
+        hash().put(key, COMPLETED, "1");
+        redisTemplate.expire(key, TTL);
+        return pendingCount(interviewId);
+    }
+
+    /**
+     * Claims the right to generate the interview summary. Returns true for exactly one caller,
+     * and only once the interview is completed and the database has no evaluations in flight.
+     */
+    public boolean tryClaimSummary(Long interviewId) {
+        String key = key(interviewId);
+        if (!isCompleted(interviewId) || recount(interviewId) > 0) {
+            return false;
+        }
+        return Boolean.TRUE.equals(hash().putIfAbsent(key, SUMMARY_CLAIMED, "1"));
+    }
+
+    /**
+     * Releases a summary claim after a failed generation so a later attempt can retry.
+     */
+    public void releaseSummaryClaim(Long interviewId) {
+        hash().delete(key(interviewId), SUMMARY_CLAIMED);
+    }
+
+    public long pendingCount(Long interviewId) {
+        return cachedPending(interviewId, hash().get(key(interviewId), PENDING));
+    }
+
+    /**
+     * Pending count and average score per question category, read together in one round trip;
+     * the scores are empty if nothing has been evaluated yet or the hash was evicted.
+     */
+    public Progress progress(Long interviewId) {
+        Map<String, String> entries = hash().entries(key(interviewId));
+        return new Progress(cachedPending(interviewId, entries.get(PENDING)), categoryScores(entries));
+    }
+
+    /**
+     * Replaces the cached pending count with the database's, recording any difference as drift.
+     */
+    public long recount(Long interviewId) {
+        String key = key(interviewId);
+        long actual = responseRepository.countPendingEvaluations(interviewId);
+        String cached = hash().get(key, PENDING);
+        hash().put(key, PENDING, String.valueOf(actual));
+        redisTemplate.expire(key, TTL);
+        long drift = cached != null ? Long.parseLong(cached) - actual : 0;
+        if (drift != 0) {
+            log.warn("Interview {} pending evaluations drifted: cached={}, actual={}", interviewId, cached, actual);
+            meterRegistry.counter("hireai.interview.pending.drift").increment(Math.abs(drift));
+        }
+        return actual;
+    }
+
+    private long cachedPending(Long interviewId, String cached) {
+        if (cached == null || Long.parseLong(cached) < 0) {
+            // Evicted or counted down past zero: the database knows the real number
+            return recount(interviewId);
+        }
+        return Long.parseLong(cached);
+    }
+
+    private boolean isCompleted(Long interviewId) {
+        String key = key(interviewId);
+        if ("1".equals(hash().get(key, COMPLETED))) {
+            return true;
+        }
+        // The flag is lost if the hash was evicted; fall back to the interview's own status
+        boolean completed = interviewRepository.findById(interviewId)
+                .map(interview -> interview.getStatus() == InterviewStatus.COMPLETED)
+                .orElse(false);
+        if (completed) {
+            hash().put(key, COMPLETED, "1");
+            redisTemplate.expire(key, TTL);
+        }
+        return completed;
+    }
+
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    private static Map<String, BigDecimal> categoryScores(Map<String, String> entries) {
+        Map<String, BigDecimal> scores = new LinkedHashMap<>();
+        for (QuestionCategory category : QuestionCategory.values()) {
+            String sum = entries.get(SUM_PREFIX + category.name());
+            String count = entries.get(COUNT_PREFIX + category.name());
+            if (sum != null && count != null && Long.parseLong(count) > 0) {
+                scores.put(category.name(), new BigDecimal(sum)
+                        .divide(new BigDecimal(count), 1, RoundingMode.HALF_UP));
+            }
+        }
+        return scores;
+    }
+
+    private HashOperations<String, String, String> hash() {
+        return redisTemplate.opsForHash();
+    }
+
+    private String key(Long interviewId) {
+        return KEY_PREFIX + interviewId;
+    }
+}
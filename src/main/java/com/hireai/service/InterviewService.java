@@ -2,6 +2,7 @@ package com.hireai.service;
 
 import com.hireai.ai.dto.InterviewQuestions;
 import com.hireai.ai.dto.InterviewSummary;
+import com.hireai.domain.dto.projection.InterviewResultRow;
 import com.hireai.domain.dto.response.InterviewDetailResponse;
 import com.hireai.domain.dto.response.InterviewEvalResponse;
 import com.hireai.domain.dto.response.InterviewQuestionResponse;
@@ -13,6 +14,7 @@ import com.hireai.domain.entity.Job;
 import com.hireai.domain.enums.InterviewStatus;
 import com.hireai.domain.enums.InterviewType;
 import com.hireai.domain.enums.QuestionCategory;
+import com.hireai.exception.InvalidStateTransitionException;
 import com.hireai.exception.ResourceNotFoundException;
 import com.hireai.messaging.event.InterviewEvalEvent;
 import com.hireai.messaging.producer.HiringEventProducer;
@@ -20,18 +22,22 @@ import com.hireai.repository.ApplicationRepository;
 import com.hireai.repository.InterviewQuestionRepository;
 import com.hireai.repository.InterviewRepository;
 import com.hireai.repository.InterviewResponseRepository;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.math.BigDecimal;
+import java.math.RoundingMode;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 @Service
-@RequiredArgsConstructor
 @Slf4j
 public class InterviewService {
 
@@ -40,7 +46,26 @@ public class InterviewService {
     private final InterviewResponseRepository interviewResponseRepository;
     private final ApplicationRepository applicationRepository;
     private final InterviewAIService interviewAIService;
+    private final InterviewAggregationService aggregationService;
     private final HiringEventProducer eventProducer;
+    private final TransactionTemplate readOnlyTemplate;
+    private final TransactionTemplate readWriteTemplate;
+
+    public InterviewService(InterviewRepository interviewRepository, InterviewQuestionRepository interviewQuestionRepository,
+                            InterviewResponseRepository interviewResponseRepository, ApplicationRepository applicationRepository,
+                            InterviewAIService interviewAIService, InterviewAggregationService aggregationService,
+                            HiringEventProducer eventProducer, PlatformTransactionManager transactionManager) {
+        this.interviewRepository = interviewRepository;
+        this.interviewQuestionRepository = interviewQuestionRepository;
+        this.interviewResponseRepository = interviewResponseRepository;
+        this.applicationRepository = applicationRepository;
+        this.interviewAIService = interviewAIService;
+        this.aggregationService = aggregationService;
+        this.eventProducer = eventProducer;
+        this.readOnlyTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTemplate.setReadOnly(true);
+        this.readWriteTemplate = new TransactionTemplate(transactionManager);
+    }
 
     @Transactional
     public InterviewDetailResponse startInterview(Long applicationId, String interviewType) {
@@ -62,18 +87,19 @@ public class InterviewService {
         // Generate AI questions
         InterviewQuestions aiQuestions = interviewAIService.generateQuestions(job, type);
 
-        List<InterviewQuestion> savedQuestions = new ArrayList<>();
+        List<InterviewQuestion> questions = new ArrayList<>();
         for (int i = 0; i < aiQuestions.questions().size(); i++) {
             InterviewQuestions.Question q = aiQuestions.questions().get(i);
-            InterviewQuestion question = InterviewQuestion.builder()
+            questions.add(InterviewQuestion.builder()
                     .interview(interview)
                     .questionText(q.questionText())
                     .category(parseCategory(q.category()))
                     .difficulty(q.difficulty())
                     .orderIndex(i + 1)
-                    .build();
-            savedQuestions.add(interviewQuestionRepository.save(question));
+                    .build());
         }
+        // Ids come from the pooled sequence; the inserts go out as one JDBC batch at flush
+        List<InterviewQuestion> savedQuestions = interviewQuestionRepository.saveAll(questions);
 
         interview.setQuestions(savedQuestions);
         log.info("Interview started: id={}, applicationId={}, questions={}", interview.getId(), applicationId, savedQuestions.size());
@@ -83,7 +109,11 @@ public class InterviewService {
 
     @Transactional
     public InterviewEvalResponse.QuestionScore submitAnswer(Long interviewId, Long questionId, String answerText) {
-        findInterviewOrThrow(interviewId);
+        // Held until commit, so completeInterview cannot close the interview between this check and the insert
+        Interview interview = lockInterviewOrThrow(interviewId);
+        if (interview.getStatus() != InterviewStatus.IN_PROGRESS) {
+            throw new InvalidStateTransitionException("Interview " + interviewId + " is no longer accepting answers");
+        }
         InterviewQuestion question = interviewQuestionRepository.findById(questionId)
                 .orElseThrow(() -> new ResourceNotFoundException("InterviewQuestion", questionId));
 
@@ -96,10 +126,14 @@ public class InterviewService {
         interviewResponseRepository.save(response);
         log.info("Answer submitted: interviewId={}, questionId={}, evaluating async...", interviewId, questionId);
 
+        // Track the in-flight evaluation so the summary waits for it; counted once the answer commits
+        aggregationService.registerPendingEvaluation(interviewId);
+
         // Publish async evaluation event
         eventProducer.publishInterviewEval(InterviewEvalEvent.builder()
                 .interviewId(interviewId)
                 .questionId(questionId)
+                .responseId(response.getId())
                 .answerText(answerText)
                 .build());
 
@@ -110,51 +144,41 @@ public class InterviewService {
                 .build();
     }
 
-    @Transactional
+    /**
+     * Not transactional as a whole: the summary may run here, and its LLM call must not hold a
+     * connection. Completion and the result read each use a short transaction.
+     */
     public InterviewEvalResponse completeInterview(Long interviewId) {
-        Interview interview = findInterviewOrThrow(interviewId);
-        Job job = interview.getApplication().getJob();
-
-        // Reload questions with responses
-        List<InterviewQuestion> questions = interviewQuestionRepository.findByInterviewIdOrderByOrderIndex(interviewId);
-        interview.setQuestions(questions);
+        readWriteTemplate.executeWithoutResult(status -> {
+            Interview interview = lockInterviewOrThrow(interviewId);
+            if (interview.getStatus() == InterviewStatus.IN_PROGRESS) {
+                interview.setStatus(InterviewStatus.COMPLETED);
+                interview.setCompletedAt(LocalDateTime.now());
+                interviewRepository.save(interview);
+            }
+        });
 
-        // Load responses for each question
-        for (InterviewQuestion q : questions) {
-            List<InterviewResponse> responses = interviewResponseRepository.findByQuestionId(q.getId());
-            q.setResponses(responses);
+        // Summary runs here only if every evaluation has already landed; otherwise
+        // the consumer that records the last evaluation triggers it
+        long pending = aggregationService.markCompleted(interviewId);
+        if (!summarizeIfReady(interviewId)) {
+            log.info("Interview completed: id={}, awaiting {} evaluation(s) before summary", interviewId, pending);
         }
 
-        // Generate AI summary
-        InterviewSummary summary = interviewAIService.generateSummary(interview, job);
-
-        interview.setStatus(InterviewStatus.COMPLETED);
-        interview.setOverallScore(BigDecimal.valueOf(summary.overallScore()));
-        interview.setAiRecommendation(summary.recommendation() + ": " + summary.summary());
-        interview.setCompletedAt(LocalDateTime.now());
-        interviewRepository.save(interview);
-
-        // Build response
-        List<InterviewEvalResponse.QuestionScore> questionScores = questions.stream()
-                .filter(q -> q.getResponses() != null && !q.getResponses().isEmpty())
-                .map(q -> {
-                    InterviewResponse r = q.getResponses().get(0);
-                    return InterviewEvalResponse.QuestionScore.builder()
-                            .questionId(q.getId())
-                            .score(r.getAiScore())
-                            .feedback(r.getAiFeedback())
-                            .build();
-                })
-                .toList();
-
-        log.info("Interview completed: id={}, score={}, recommendation={}", interviewId, summary.overallScore(), summary.recommendation());
+        return readOnlyTemplate.execute(status -> getResult(interviewId));
+    }
 
-        return InterviewEvalResponse.builder()
-                .interviewId(interviewId)
-                .overallScore(BigDecimal.valueOf(summary.overallScore()))
-                .recommendation(summary.recommendation())
-                .questionScores(questionScores)
-                .build();
+    /**
+     * Generates the interview summary if the interview is completed and no evaluations are
+     * in flight. Safe to call from concurrent consumers; only one caller generates it. Runs in
+     * three phases like answer evaluation: a short read, the LLM call with no transaction or
+     * connection held, and a short write.
+     */
+    public boolean summarizeIfReady(Long interviewId) {
+        if (!aggregationService.tryClaimSummary(interviewId)) {
+            return false;
+        }
+        return summarize(interviewId);
     }
 
     @Transactional(readOnly = true)
@@ -172,37 +196,108 @@ public class InterviewService {
                 .toList();
     }
 
+    /**
+     * Interview, questions and latest responses come from one statement; only an interview
+     * without questions needs a second lookup.
+     */
     @Transactional(readOnly = true)
     public InterviewEvalResponse getResult(Long interviewId) {
-        Interview interview = findInterviewOrThrow(interviewId);
-        List<InterviewQuestion> questions = interviewQuestionRepository.findByInterviewIdOrderByOrderIndex(interviewId);
+        List<InterviewResultRow> rows = interviewQuestionRepository.findResultRows(interviewId);
+        if (rows.isEmpty()) {
+            Interview interview = findInterviewOrThrow(interviewId);
+            return buildResult(interviewId, interview.getStatus(), interview.getOverallScore(),
+                    interview.getAiRecommendation(), rows);
+        }
+        InterviewResultRow first = rows.get(0);
+        return buildResult(interviewId, first.interviewStatus(), first.overallScore(), first.aiRecommendation(), rows);
+    }
 
-        List<InterviewEvalResponse.QuestionScore> questionScores = new ArrayList<>();
-        for (InterviewQuestion q : questions) {
-            List<InterviewResponse> responses = interviewResponseRepository.findByQuestionId(q.getId());
-            if (!responses.isEmpty()) {
-                InterviewResponse r = responses.get(0);
-                questionScores.add(InterviewEvalResponse.QuestionScore.builder()
-                        .questionId(q.getId())
-                        .score(r.getAiScore())
-                        .feedback(r.getAiFeedback())
-                        .build());
-            }
+    /**
+     * Must be called with a summary claim held and outside any transaction; releases the claim
+     * again if generation fails.
+     */
+    private boolean summarize(Long interviewId) {
+        try {
+            // Phase 1: interview, job, questions and answers, newest response first so the
+            // summary reads the latest answer to each question
+            Interview interview = readOnlyTemplate.execute(status -> {
+                Interview loaded = interviewRepository.findWithJobById(interviewId)
+                        .orElseThrow(() -> new ResourceNotFoundException("Interview", interviewId));
+                loaded.setQuestions(interviewQuestionRepository.findWithResponsesByInterviewId(interviewId));
+                return loaded;
+            });
+
+            // Phase 2: LLM call, no transaction or connection held
+            InterviewSummary summary = interviewAIService.generateSummary(interview, interview.getApplication().getJob());
+
+            // Phase 3: persist the outcome
+            readWriteTemplate.execute(status -> {
+                Interview current = findInterviewOrThrow(interviewId);
+                current.setStatus(InterviewStatus.EVALUATED);
+                current.setOverallScore(BigDecimal.valueOf(summary.overallScore()));
+                current.setAiRecommendation(summary.recommendation() + ": " + summary.summary());
+                return interviewRepository.save(current);
+            });
+
+            log.info("Interview summarized: id={}, score={}, recommendation={}", interviewId, summary.overallScore(), summary.recommendation());
+            return true;
+        } catch (Exception e) {
+            log.error("Failed to summarize interview {}, will retry on next completion request", interviewId, e);
+            aggregationService.releaseSummaryClaim(interviewId);
+            return false;
+        }
+    }
+
+    private InterviewEvalResponse buildResult(Long interviewId, InterviewStatus status, BigDecimal overallScore,
+                                              String recommendation, List<InterviewResultRow> rows) {
+        List<InterviewResultRow> answered = rows.stream().filter(r -> r.responseId() != null).toList();
+
+        List<InterviewEvalResponse.QuestionScore> questionScores = answered.stream()
+                .map(r -> InterviewEvalResponse.QuestionScore.builder()
+                        .questionId(r.questionId())
+                        .score(r.aiScore())
+                        .feedback(r.aiFeedback())
+                        .build())
+                .toList();
+
+        InterviewAggregationService.Progress progress = aggregationService.progress(interviewId);
+        Map<String, BigDecimal> categoryScores = progress.categoryScores();
+        if (categoryScores.isEmpty()) {
+            categoryScores = averageByCategory(answered);
         }
 
         return InterviewEvalResponse.builder()
                 .interviewId(interviewId)
-                .overallScore(interview.getOverallScore())
-                .recommendation(interview.getAiRecommendation())
+                .status(status.name())
+                .overallScore(overallScore)
+                .recommendation(recommendation)
+                .pendingEvaluations(progress.pending())
+                .categoryScores(categoryScores)
                 .questionScores(questionScores)
                 .build();
     }
 
+    private Map<String, BigDecimal> averageByCategory(List<InterviewResultRow> answered) {
+        Map<String, BigDecimal> averages = new LinkedHashMap<>();
+        answered.stream()
+                .filter(r -> r.aiScore() != null && r.category() != null)
+                .collect(Collectors.groupingBy(r -> r.category().name(), LinkedHashMap::new,
+                        Collectors.averagingDouble(r -> r.aiScore().doubleValue())))
+                .forEach((category, avg) -> averages.put(category,
+                        BigDecimal.valueOf(avg).setScale(1, RoundingMode.HALF_UP)));
+        return averages;
+    }
+
     private Interview findInterviewOrThrow(Long id) {
         return interviewRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Interview", id));
     }
 
+    private Interview lockInterviewOrThrow(Long id) {
+        return interviewRepository.findForUpdateById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Interview", id));
+    }
+
     private QuestionCategory parseCategory(String category) {
         try {
             return QuestionCategory.valueOf(category.toUpperCase());
@@ -18,6 +18,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.ai.chat.client.ChatClient;
 import org.springframework.ai.chat.prompt.PromptTemplate;
 import org.springframework.ai.converter.BeanOutputConverter;
+import io.github.resilience4j.bulkhead.annotation.Bulkhead;
 import io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker;
 import io.github.resilience4j.retry.annotation.Retry;
 import org.springframework.beans.factory.annotation.Value;
@@ -30,6 +31,7 @@ import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -42,11 +44,12 @@ public class JobMatchService {
     private final ApplicationRepository applicationRepository;
     private final ChatClient chatClient;
     private final ObjectMapper objectMapper;
+    private final MatchCacheIndexService matchCacheIndexService;
 
     @Value("classpath:prompts/match-explain.st")
     private Resource matchExplainPrompt;
 
-    @Cacheable(value = "topCandidates", key = "#jobId + '-' + #limit")
+    @Cacheable(value = "topCandidates", key = "#jobId + '-' + #limit", sync = true)
     @Transactional(readOnly = true)
     public List<MatchResultResponse> getTopCandidatesForJob(Long jobId, int limit) {
         Job job = jobRepository.findById(jobId)
@@ -58,6 +61,9 @@ public class JobMatchService {
 
         List<Map<String, Object>> results = vectorSearchRepository.findMatchingCandidates(jobId, limit);
         log.info("Vector search found {} matching candidates for job {}", results.size(), jobId);
+        matchCacheIndexService.indexTopCandidates(jobId, limit,
+                results.stream().map(row -> toLong(row.get("candidate_id"))).collect(Collectors.toSet()),
+                results.stream().map(row -> toBigDecimal(row.get("similarity")).doubleValue()).toList());
 
         return results.stream().map(row -> {
             BigDecimal similarity = toBigDecimal(row.get("similarity"));
@@ -70,11 +76,14 @@ public class JobMatchService {
         }).toList();
     }
 
-    @Cacheable(value = "recommendedJobs", key = "#candidateId + '-' + #limit")
+    @Cacheable(value = "recommendedJobs", key = "#candidateId + '-' + #limit", sync = true)
     @Transactional(readOnly = true)
     public List<MatchResultResponse> getRecommendedJobsForCandidate(Long candidateId, int limit) {
         List<Map<String, Object>> results = vectorSearchRepository.findMatchingJobs(candidateId, limit);
         log.info("Vector search found {} matching jobs for candidate {}", results.size(), candidateId);
+        matchCacheIndexService.indexRecommendedJobs(candidateId, limit,
+                results.stream().map(row -> toLong(row.get("job_id"))).collect(Collectors.toSet()),
+                results.stream().map(row -> toBigDecimal(row.get("similarity")).doubleValue()).toList());
 
         return results.stream().map(row -> {
             BigDecimal similarity = toBigDecimal(row.get("similarity"));
@@ -89,6 +98,7 @@ public class JobMatchService {
 
     @CircuitBreaker(name = "aiService", fallbackMethod = "getMatchExplanationFallback")
     @Retry(name = "aiService")
+    @Bulkhead(name = "aiService")
     @Transactional(readOnly = true)
     public MatchResultResponse getMatchExplanation(Long applicationId) {
         Application application = applicationRepository.findById(applicationId)
@@ -2,6 +2,7 @@ package com.hireai.service;
 
 import com.hireai.domain.dto.request.JobCreateRequest;
 import com.hireai.domain.dto.request.JobUpdateRequest;
+import com.hireai.domain.dto.response.CursorPageResponse;
 import com.hireai.domain.dto.response.JobResponse;
 import com.hireai.domain.entity.Job;
 import com.hireai.domain.entity.User;
@@ -13,15 +14,19 @@ import com.hireai.exception.UnauthorizedException;
 import com.hireai.repository.JobRepository;
 import com.hireai.repository.VectorSearchRepository;
 import com.hireai.service.ResumeAIService;
+import com.hireai.util.KeysetCursor;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+
 @Service
 @RequiredArgsConstructor
 @Slf4j
@@ -30,6 +35,8 @@ public class JobService {
     private final JobRepository jobRepository;
     private final VectorSearchRepository vectorSearchRepository;
     private final ResumeAIService resumeAIService;
+    private final MatchCacheIndexService matchCacheIndexService;
+    private final DashboardCounterService counterService;
 
     @Transactional
     public JobResponse createJob(JobCreateRequest request, User recruiter) {
@@ -50,7 +57,9 @@ public class JobService {
                 .recruiter(recruiter)
                 .build();
 
-        Job saved = jobRepository.save(job);
+        // Flushed now so the embedding UPDATE below finds the row
+        Job saved = jobRepository.saveAndFlush(job);
+        counterService.jobCreated(saved);
         generateJobEmbeddingAsync(saved);
         return toResponse(saved);
     }
@@ -60,7 +69,23 @@ public class JobService {
                 .map(this::toResponse);
     }
 
-    @Cacheable(value = "jobById", key = "#id")
+    /**
+     * Keyset variant of {@link #getJobs}, newest first: one indexed seek per page however deep the
+     * cursor, and the total only when asked for.
+     */
+    @Transactional(readOnly = true)
+    public CursorPageResponse<JobResponse> scrollJobs(JobStatus status, String keyword, String cursor, int size,
+                                                      boolean includeTotal) {
+        KeysetCursor position = KeysetCursor.decode(cursor);
+        int pageSize = CursorPageResponse.clampSize(size);
+        List<Job> rows = jobRepository.searchJobsBefore(status, keyword, position.createdAt(), position.id(),
+                PageRequest.of(0, pageSize + 1));
+        Long total = includeTotal ? jobRepository.countJobs(status, keyword) : null;
+        return CursorPageResponse.of(rows, pageSize, job -> new KeysetCursor(job.getCreatedAt(), job.getId()),
+                this::toResponse, total);
+    }
+
+    @Cacheable(value = "jobById", key = "#id", sync = true)
     public JobResponse getJobById(Long id) {
         return toResponse(findJobOrThrow(id));
     }
@@ -94,6 +119,7 @@ public class JobService {
         verifyOwnership(job, recruiter);
         job.setStatus(JobStatus.CLOSED);
         jobRepository.save(job);
+        matchCacheIndexService.jobClosed(id);
     }
 
     private void generateJobEmbeddingAsync(Job job) {
@@ -104,6 +130,7 @@ public class JobService {
                     (job.getNiceToHaveSkills() != null ? job.getNiceToHaveSkills() : "");
             float[] embedding = resumeAIService.generateEmbedding(text);
             vectorSearchRepository.saveJobEmbedding(job.getId(), embedding);
+            matchCacheIndexService.jobEmbedded(job.getId());
             log.info("Job embedding generated: jobId={}", job.getId());
         } catch (Exception e) {
             log.warn("Failed to generate embedding for job {}: {}", job.getId(), e.getMessage());
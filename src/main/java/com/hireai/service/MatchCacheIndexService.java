@@ -0,0 +1,258 @@
+package com.hireai.service;
+
+import com.hireai.repository.VectorSearchRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Reverse index from jobs and candidates to the match-cache entries that depend on them, so a changed
+ * embedding evicts only the entries it can affect instead of clearing both caches.
+ *
+ * <p>For every cached {@code topCandidates} list the index keeps its cutoff (the lowest similarity in
+ * the list, or minus infinity when the list is shorter than its limit) and which candidates it
+ * contains; {@code recommendedJobs} lists are indexed the same way from the candidate's side. A
+ * re-embedded resume then evicts the entries that contain its candidate plus those whose cutoff its
+ * similarity reaches, and a re-embedded or closed job does the same for the other side.
+ *
+ * <p>Entries are indexed before the cache stores them, so a cached entry is never missing from the
+ * index; index keys expire with the cache TTL and stale fields only cause a no-op eviction.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class MatchCacheIndexService {
+
+    public static final String TOP_CANDIDATES = "topCandidates";
+    public static final String RECOMMENDED_JOBS = "recommendedJobs";
+
+    private static final String PREFIX = "match:index:";
+    private static final String INDEXED_JOBS = PREFIX + "jobs";
+    private static final String INDEXED_CANDIDATES = PREFIX + "candidates";
+    private static final Duration INDEX_TTL = Duration.ofMinutes(35);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final VectorSearchRepository vectorSearchRepository;
+    private final CacheManager cacheManager;
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * Records a {@code topCandidates} entry about to be cached.
+     *
+     * @param similarities the raw similarities of the returned rows, best first
+     */
+    public void indexTopCandidates(Long jobId, int limit, Collection<Long> candidateIds, List<Double> similarities) {
+        try {
+            String cacheKey = jobId + "-" + limit;
+            index(jobCutoffsKey(jobId), cacheKey, cutoff(similarities, limit), INDEXED_JOBS, jobId);
+            for (Long candidateId : candidateIds) {
+                addMember(candidateMembershipKey(candidateId), cacheKey);
+            }
+        } catch (Exception e) {
+            log.warn("Failed to index topCandidates for job {}: {}", jobId, e.getMessage());
+        }
+    }
+
+    /**
+     * Records a {@code recommendedJobs} entry about to be cached.
+     *
+     * @param similarities the raw similarities of the returned rows, best first
+     */
+    public void indexRecommendedJobs(Long candidateId, int limit, Collection<Long> jobIds, List<Double> similarities) {
+        try {
+            String cacheKey = candidateId + "-" + limit;
+            index(candidateCutoffsKey(candidateId), cacheKey, cutoff(similarities, limit), INDEXED_CANDIDATES, candidateId);
+            for (Long jobId : jobIds) {
+                addMember(jobMembershipKey(jobId), cacheKey);
+            }
+        } catch (Exception e) {
+            log.warn("Failed to index recommendedJobs for candidate {}: {}", candidateId, e.getMessage());
+        }
+    }
+
+    /**
+     * Evicts the entries a newly embedded resume can change: the candidate's own recommendations,
+     * the job lists it already appears in, and the job lists whose cutoff it now reaches.
+     */
+    public void resumeEmbedded(Long candidateId, Long resumeId) {
+        afterCommit(() -> {
+            try {
+                evictAll(RECOMMENDED_JOBS, candidateCutoffsKey(candidateId), "owner");
+                redisTemplate.opsForSet().remove(INDEXED_CANDIDATES, candidateId.toString());
+                evictMembers(TOP_CANDIDATES, candidateMembershipKey(candidateId));
+
+                Set<Long> jobIds = members(INDEXED_JOBS);
+                Map<Long, Double> similarities = vectorSearchRepository.resumeSimilarityToJobs(resumeId, jobIds);
+                for (Long jobId : jobIds) {
+                    evictReachable(TOP_CANDIDATES, jobCutoffsKey(jobId), similarities.get(jobId), INDEXED_JOBS, jobId);
+                }
+            } catch (Exception e) {
+                log.warn("Targeted match-cache eviction failed for resume {}, clearing: {}", resumeId, e.getMessage());
+                clear();
+            }
+        });
+    }
+
+    /**
+     * Evicts the entries a created or re-embedded job can change: its own candidate lists, the
+     * recommendations it already appears in, and the recommendations whose cutoff it now reaches.
+     */
+    public void jobEmbedded(Long jobId) {
+        afterCommit(() -> {
+            try {
+                evictAll(TOP_CANDIDATES, jobCutoffsKey(jobId), "owner");
+                redisTemplate.opsForSet().remove(INDEXED_JOBS, jobId.toString());
+                evictMembers(RECOMMENDED_JOBS, jobMembershipKey(jobId));
+
+                Set<Long> candidateIds = members(INDEXED_CANDIDATES);
+                Map<Long, Double> similarities = vectorSearchRepository.jobSimilarityToCandidates(jobId, candidateIds);
+                for (Long candidateId : candidateIds) {
+                    evictReachable(RECOMMENDED_JOBS, candidateCutoffsKey(candidateId),
+                            similarities.get(candidateId), INDEXED_CANDIDATES, candidateId);
+                }
+            } catch (Exception e) {
+                log.warn("Targeted match-cache eviction failed for job {}, clearing: {}", jobId, e.getMessage());
+                clear();
+            }
+        });
+    }
+
+    /**
+     * Evicts the recommendations a closed job appears in; no other entry can gain it.
+     */
+    public void jobClosed(Long jobId) {
+        afterCommit(() -> {
+            try {
+                evictMembers(RECOMMENDED_JOBS, jobMembershipKey(jobId));
+            } catch (Exception e) {
+                log.warn("Targeted match-cache eviction failed for closed job {}, clearing: {}", jobId, e.getMessage());
+                clear();
+            }
+        });
+    }
+
+    private void index(String cutoffsKey, String cacheKey, double cutoff, String ownersKey, Long ownerId) {
+        redisTemplate.opsForHash().put(cutoffsKey, cacheKey, Double.toString(cutoff));
+        redisTemplate.expire(cutoffsKey, INDEX_TTL);
+        redisTemplate.opsForSet().add(ownersKey, ownerId.toString());
+    }
+
+    private void addMember(String membershipKey, String cacheKey) {
+        redisTemplate.opsForSet().add(membershipKey, cacheKey);
+        redisTemplate.expire(membershipKey, INDEX_TTL);
+    }
+
+    /**
+     * A list that is shorter than its limit admits anything; a full one admits a score that
+     * reaches its last row. Ties count as reachable since their order is not stable.
+     */
+    private static double cutoff(List<Double> similarities, int limit) {
+        if (similarities.size() < limit) {
+            return Double.NEGATIVE_INFINITY;
+        }
+        return similarities.stream().mapToDouble(Double::doubleValue).min().orElse(Double.NEGATIVE_INFINITY);
+    }
+
+    private void evictAll(String cacheName, String cutoffsKey, String reason) {
+        Set<Object> cacheKeys = redisTemplate.opsForHash().keys(cutoffsKey);
+        redisTemplate.delete(cutoffsKey);
+        cacheKeys.forEach(cacheKey -> evict(cacheName, cacheKey.toString(), reason));
+    }
+
+    private void evictMembers(String cacheName, String membershipKey) {
+        Set<String> cacheKeys = redisTemplate.opsForSet().members(membershipKey);
+        redisTemplate.delete(membershipKey);
+        if (cacheKeys == null) {
+            return;
+        }
+        for (String cacheKey : cacheKeys) {
+            Long ownerId = Long.valueOf(cacheKey.substring(0, cacheKey.indexOf('-')));
+            String cutoffsKey = TOP_CANDIDATES.equals(cacheName) ? jobCutoffsKey(ownerId) : candidateCutoffsKey(ownerId);
+            redisTemplate.opsForHash().delete(cutoffsKey, cacheKey);
+            evict(cacheName, cacheKey, "member");
+        }
+    }
+
+    private void evictReachable(String cacheName, String cutoffsKey, Double similarity,
+                                String ownersKey, Long ownerId) {
+        Map<Object, Object> cutoffs = redisTemplate.opsForHash().entries(cutoffsKey);
+        if (cutoffs.isEmpty()) {
+            redisTemplate.opsForSet().remove(ownersKey, ownerId.toString());
+            return;
+        }
+        for (Map.Entry<Object, Object> entry : cutoffs.entrySet()) {
+            double cutoff = Double.parseDouble(entry.getValue().toString());
+            if (similarity != null && similarity >= cutoff) {
+                redisTemplate.opsForHash().delete(cutoffsKey, entry.getKey());
+                evict(cacheName, entry.getKey().toString(), "cutoff");
+            } else {
+                meterRegistry.counter("hireai.cache.match.retained", "cache", cacheName).increment();
+            }
+        }
+    }
+
+    private void evict(String cacheName, String cacheKey, String reason) {
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache != null) {
+            cache.evict(cacheKey);
+        }
+        meterRegistry.counter("hireai.cache.match.evictions", "cache", cacheName, "reason", reason).increment();
+    }
+
+    private void clear() {
+        for (String cacheName : List.of(TOP_CANDIDATES, RECOMMENDED_JOBS)) {
+            Cache cache = cacheManager.getCache(cacheName);
+            if (cache != null) {
+                cache.clear();
+            }
+        }
+        meterRegistry.counter("hireai.cache.match.evictions", "cache", "all", "reason", "fallback").increment();
+    }
+
+    private Set<Long> members(String ownersKey) {
+        Set<String> ids = redisTemplate.opsForSet().members(ownersKey);
+        return ids == null ? Set.of() : ids.stream().map(Long::valueOf).collect(Collectors.toSet());
+    }
+
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    private static String jobCutoffsKey(Long jobId) {
+        return PREFIX + "job:" + jobId;
+    }
+
+    private static String candidateCutoffsKey(Long candidateId) {
+        return PREFIX + "candidate:" + candidateId;
+    }
+
+    private static String candidateMembershipKey(Long candidateId) {
+        return PREFIX + "candidate-in:" + candidateId;
+    }
+
+    private static String jobMembershipKey(Long jobId) {
+        return PREFIX + "job-in:" + jobId;
+    }
+}
@@ -0,0 +1,121 @@
+package com.hireai.service;
+
+import com.hireai.messaging.event.HiringEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Processed-message ledger and per-entity locks for the AI consumers, both in Redis.
+ * The ledger lets a redelivered or republished event be acked without repeating its LLM calls;
+ * the lock keeps two nodes from working on the same entity at the same time.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class MessageDeduplicationService {
+
+    private static final String LEDGER_PREFIX = "processed:";
+    private static final String LOCK_PREFIX = "lock:";
+    private static final Duration LEDGER_TTL = Duration.ofDays(7);
+    // Longer than a full set of AI calls with retries, short enough to recover from a dead node
+    private static final Duration LOCK_TTL = Duration.ofMinutes(5);
+
+    private static final RedisScript<Long> UNLOCK_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('del', KEYS[1]) else return 0 end",
+            Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * True if the event (or another event for the same entity version) was already processed
+     * by this queue's consumer.
+     */
+    public boolean isDuplicate(String queue, HiringEvent event) {
+        String key = ledgerKey(queue, event);
+        if (key == null || !Boolean.TRUE.equals(redisTemplate.hasKey(key))) {
+            return false;
+        }
+        log.info("Duplicate {} event for {} (eventId={}), acking", queue, event.entityKey(), event.getEventId());
+        meterRegistry.counter("hireai.messaging.duplicates", "queue", queue).increment();
+        return true;
+    }
+
+    /**
+     * Records the event as processed, after the surrounding transaction commits if there is one.
+     */
+    public void markProcessed(String queue, HiringEvent event) {
+        String key = ledgerKey(queue, event);
+        if (key == null) return;
+        afterCommit(() -> redisTemplate.opsForValue().set(key, event.getEventId() != null ? event.getEventId() : "1", LEDGER_TTL));
+    }
+
+    /**
+     * @return a lock token, or null if another consumer holds the entity
+     */
+    public String tryLock(HiringEvent event) {
+        String token = UUID.randomUUID().toString();
+        Boolean acquired = redisTemplate.opsForValue().setIfAbsent(LOCK_PREFIX + event.entityKey(), token, LOCK_TTL);
+        if (!Boolean.TRUE.equals(acquired)) {
+            meterRegistry.counter("hireai.messaging.lock.contended").increment();
+            return null;
+        }
+        return token;
+    }
+
+    /**
+     * Releases the lock if still owned, after the surrounding transaction completes if there is one.
+     */
+    public void unlock(HiringEvent event, String token) {
+        if (token == null) return;
+        String key = LOCK_PREFIX + event.entityKey();
+        Runnable release = () -> {
+            try {
+                redisTemplate.execute(UNLOCK_SCRIPT, List.of(key), token);
+            } catch (Exception e) {
+                log.warn("Failed to release lock {}, it will expire: {}", key, e.getMessage());
+            }
+        };
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    release.run();
+                }
+            });
+        } else {
+            release.run();
+        }
+    }
+
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    private String ledgerKey(String queue, HiringEvent event) {
+        if (event.getEntityVersion() != null) {
+            return LEDGER_PREFIX + queue + ":" + event.entityKey() + ":v" + event.getEntityVersion();
+        }
+        return event.getEventId() != null ? LEDGER_PREFIX + queue + ":" + event.getEventId() : null;
+    }
+}
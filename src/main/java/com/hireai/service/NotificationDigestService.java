@@ -0,0 +1,195 @@
+package com.hireai.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hireai.config.RabbitMQConfig;
+import com.hireai.messaging.event.NotificationEvent;
+import com.hireai.messaging.trace.PipelineLatencyTracker;
+import com.hireai.repository.NotificationDigestRepository;
+import com.hireai.repository.NotificationDigestRepository.DigestItem;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.core.MessageBuilder;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Coalesces notifications per recipient and type. Each (type, recipient) pair collects events in
+ * {@code notification_digest_items}; the digest is sent once its oldest event has waited out the
+ * window or it reaches max-events, whichever comes first. Urgent types bypass the digest.
+ *
+ * <p>Flushers claim a digest's rows with a lease before sending, so every event lands in exactly
+ * one digest even with several nodes flushing, and a failed send backs off and retries until
+ * max-attempts, after which its events are parked in {@code notification.dlq}.
+ */
+@Service
+@Slf4j
+public class NotificationDigestService {
+
+    private static final int MAX_LINES = 20;
+    private static final int FLUSH_BATCH = 100;
+
+    private final NotificationService notificationService;
+    private final NotificationDigestRepository digestRepository;
+    private final RabbitTemplate rabbitTemplate;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+    private final PipelineLatencyTracker latencyTracker;
+    private final boolean enabled;
+    private final long windowMs;
+    private final int maxEvents;
+    private final Set<String> urgentTypes;
+    private final int maxAttempts;
+    private final long retryBackoffMs;
+    private final long claimLeaseMs;
+    private final long confirmTimeoutMs;
+
+    public NotificationDigestService(NotificationService notificationService,
+                                     NotificationDigestRepository digestRepository,
+                                     RabbitTemplate rabbitTemplate,
+                                     ObjectMapper objectMapper, MeterRegistry meterRegistry,
+                                     PipelineLatencyTracker latencyTracker,
+                                     @Value("${app.notification.digest.enabled:true}") boolean enabled,
+                                     @Value("${app.notification.digest.window-ms:300000}") long windowMs,
+                                     @Value("${app.notification.digest.max-events:50}") int maxEvents,
+                                     @Value("${app.notification.digest.urgent-types:}") Set<String> urgentTypes,
+                                     @Value("${app.notification.digest.max-attempts:5}") int maxAttempts,
+                                     @Value("${app.notification.digest.retry-backoff-ms:30000}") long retryBackoffMs,
+                                     @Value("${app.notification.digest.claim-lease-ms:120000}") long claimLeaseMs,
+                                     @Value("${app.notification.digest.confirm-timeout-ms:5000}") long confirmTimeoutMs) {
+        this.notificationService = notificationService;
+        this.digestRepository = digestRepository;
+        this.rabbitTemplate = rabbitTemplate;
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+        this.latencyTracker = latencyTracker;
+        this.enabled = enabled;
+        this.windowMs = windowMs;
+        this.maxEvents = maxEvents;
+        this.urgentTypes = urgentTypes;
+        this.maxAttempts = maxAttempts;
+        this.retryBackoffMs = retryBackoffMs;
+        this.claimLeaseMs = claimLeaseMs;
+        this.confirmTimeoutMs = confirmTimeoutMs;
+    }
+
+    /**
+     * Sends the notification now if it is urgent or digests are off, otherwise adds it to the
+     * recipient's open digest. The notified stage is recorded when the notification actually goes
+     * out: here for immediate sends, on flush for digested ones.
+     */
+    public void submit(NotificationEvent event, Timer.Sample stage) throws JsonProcessingException {
+        if (!enabled || event.getType() == null || urgentTypes.contains(event.getType())) {
+            notificationService.send(event);
+            meterRegistry.counter("hireai.notification.sent", "mode", "immediate").increment();
+            latencyTracker.completed(PipelineLatencyTracker.NOTIFIED, stage, event.getTrace());
+            return;
+        }
+        String key = event.getType() + ":" + event.getRecipientEmail();
+        long size = digestRepository.append(key, objectMapper.writeValueAsString(event));
+        meterRegistry.counter("hireai.notification.digest.coalesced").increment();
+        if (size >= maxEvents) {
+            flush(key, "size");
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.notification.digest.flush-interval-ms:10000}")
+    public void flushDue() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            digestRepository.findDue(windowMs, FLUSH_BATCH).forEach(key -> flush(key, "window"));
+        } catch (Exception e) {
+            log.warn("Notification digest flush failed: {}", e.getMessage());
+        }
+    }
+
+    private void flush(String key, String reason) {
+        List<DigestItem> items = digestRepository.claim(key, claimLeaseMs);
+        if (items.isEmpty()) {
+            return; // another node is flushing this digest
+        }
+        List<Long> ids = items.stream().map(DigestItem::id).toList();
+        List<NotificationEvent> events = new ArrayList<>(items.size());
+        try {
+            for (DigestItem item : items) {
+                events.add(objectMapper.readValue(item.payload(), NotificationEvent.class));
+            }
+            notificationService.send(events.size() == 1 ? events.get(0) : summarize(events));
+        } catch (Exception e) {
+            failed(key, items, ids, e);
+            return;
+        }
+        digestRepository.deleteAll(ids);
+        meterRegistry.counter("hireai.notification.sent", "mode", "digest").increment();
+        meterRegistry.counter("hireai.notification.digest.flushed", "reason", reason).increment();
+        for (int i = 0; i < items.size(); i++) {
+            latencyTracker.completed(PipelineLatencyTracker.NOTIFIED, items.get(i).createdAtMs(), events.get(i).getTrace());
+        }
+        log.info("Sent digest of {} notifications from {} ({})", events.size(), key, reason);
+    }
+
+    /**
+     * Backs the digest off for another attempt, or parks its events once attempts run out. Rows are
+     * deleted only after the broker has confirmed every parked copy.
+     */
+    private void failed(String key, List<DigestItem> items, List<Long> ids, Exception cause) {
+        int attempt = items.stream().mapToInt(DigestItem::attempts).max().orElse(0) + 1;
+        if (attempt < maxAttempts) {
+            long backoffMs = retryBackoffMs * (1L << Math.min(attempt - 1, 10));
+            log.error("Failed to send notification digest {} (attempt {} of {}), retrying in {} ms",
+                    key, attempt, maxAttempts, backoffMs, cause);
+            digestRepository.recordFailure(ids, backoffMs);
+            meterRegistry.counter("hireai.notification.digest.retried").increment();
+            return;
+        }
+        log.error("Notification digest {} failed {} times, parking {} events in {}",
+                key, attempt, items.size(), RabbitMQConfig.NOTIFICATION_DLQ, cause);
+        try {
+            rabbitTemplate.invoke(ops -> {
+                for (DigestItem item : items) {
+                    ops.send(RabbitMQConfig.HIRING_DLX, RabbitMQConfig.NOTIFICATION_QUEUE,
+                            MessageBuilder.withBody(item.payload().getBytes(StandardCharsets.UTF_8))
+                                    .setContentType(MessageProperties.CONTENT_TYPE_JSON)
+                                    .setHeader("__TypeId__", NotificationEvent.class.getName())
+                                    .build());
+                }
+                ops.waitForConfirmsOrDie(confirmTimeoutMs);
+                return null;
+            });
+            digestRepository.deleteAll(ids);
+            meterRegistry.counter("hireai.messaging.parked", "queue", RabbitMQConfig.NOTIFICATION_QUEUE)
+                    .increment(items.size());
+        } catch (Exception e) {
+            // Rows stay at the attempt cap and are parked on a later flush
+            log.error("Failed to park notification digest {}", key, e);
+            digestRepository.recordFailure(ids, retryBackoffMs);
+        }
+    }
+
+    private NotificationEvent summarize(List<NotificationEvent> events) {
+        NotificationEvent first = events.get(0);
+        StringBuilder body = new StringBuilder();
+        events.stream().limit(MAX_LINES).forEach(e -> body.append("- ").append(e.getSubject())
+                .append(": ").append(e.getBody()).append("\n"));
+        if (events.size() > MAX_LINES) {
+            body.append("... and ").append(events.size() - MAX_LINES).append(" more\n");
+        }
+        return NotificationEvent.builder()
+                .recipientEmail(first.getRecipientEmail())
+                .type(first.getType() + "_DIGEST")
+                .subject("Digest: " + events.size() + " " + first.getType() + " notifications")
+                .body(body.toString().trim())
+                .build();
+    }
+}
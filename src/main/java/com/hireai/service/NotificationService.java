@@ -0,0 +1,16 @@
+package com.hireai.service;
+
+import com.hireai.messaging.event.NotificationEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+@Service
+@Slf4j
+public class NotificationService {
+
+    public void send(NotificationEvent event) {
+        log.info("Notification sent to {}: [{}] {}", event.getRecipientEmail(), event.getType(), event.getSubject());
+        log.info("Notification body: {}", event.getBody());
+        // TODO: integrate JavaMailSender or webhook for real notifications
+    }
+}
@@ -5,6 +5,8 @@ import com.hireai.ai.dto.ParsedResume;
 import com.hireai.ai.dto.ScreeningResult;
 import com.hireai.domain.entity.Job;
 import com.hireai.exception.AiProcessingException;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.bulkhead.annotation.Bulkhead;
 import io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker;
 import io.github.resilience4j.retry.annotation.Retry;
 import lombok.RequiredArgsConstructor;
@@ -39,6 +41,7 @@ public class ResumeAIService {
 
     @CircuitBreaker(name = "aiService", fallbackMethod = "parseResumeFallback")
     @Retry(name = "aiService")
+    @Bulkhead(name = "aiService")
     public ParsedResume parseResume(String rawText) {
         log.info("AI: Parsing resume text ({} chars)", rawText.length());
         try {
@@ -69,6 +72,7 @@ public class ResumeAIService {
 
     @CircuitBreaker(name = "embeddingService", fallbackMethod = "generateEmbeddingFallback")
     @Retry(name = "embeddingService")
+    @Bulkhead(name = "embeddingService")
     public float[] generateEmbedding(String text) {
         log.info("AI: Generating embedding ({} chars)", text.length());
         try {
@@ -82,6 +86,7 @@ public class ResumeAIService {
 
     @CircuitBreaker(name = "aiService", fallbackMethod = "scoreCandidateFallback")
     @Retry(name = "aiService")
+    @Bulkhead(name = "aiService")
     public CandidateScore scoreCandidate(ParsedResume resume, Job job) {
         log.info("AI: Scoring candidate '{}' against job '{}'", resume.name(), job.getTitle());
         try {
@@ -124,6 +129,7 @@ public class ResumeAIService {
 
     @CircuitBreaker(name = "aiService", fallbackMethod = "screenCandidateFallback")
     @Retry(name = "aiService")
+    @Bulkhead(name = "aiService")
     public ScreeningResult screenCandidate(ParsedResume resume, Job job) {
         log.info("AI: Screening candidate '{}' for job '{}'", resume.name(), job.getTitle());
         try {
@@ -157,25 +163,39 @@ public class ResumeAIService {
     // --- Fallback methods ---
 
     private ParsedResume parseResumeFallback(String rawText, Throwable t) {
+        rethrowIfBusy(t);
         log.warn("AI circuit breaker: parseResume fallback triggered: {}", t.getMessage());
         return new ParsedResume("Unknown", null, null, List.of(), List.of(), List.of(),
                 "AI temporarily unavailable — queued for retry");
     }
 
     private float[] generateEmbeddingFallback(String text, Throwable t) {
+        rethrowIfBusy(t);
         log.warn("AI circuit breaker: generateEmbedding fallback triggered: {}", t.getMessage());
         return new float[0];
     }
 
     private CandidateScore scoreCandidateFallback(ParsedResume resume, Job job, Throwable t) {
+        rethrowIfBusy(t);
         log.warn("AI circuit breaker: scoreCandidate fallback triggered: {}", t.getMessage());
         return new CandidateScore(0, List.of(), List.of("AI temporarily unavailable"),
                 "Scoring deferred — AI service unavailable");
     }
 
     private ScreeningResult screenCandidateFallback(ParsedResume resume, Job job, Throwable t) {
+        rethrowIfBusy(t);
         log.warn("AI circuit breaker: screenCandidate fallback triggered: {}", t.getMessage());
         return new ScreeningResult(false, List.of(), List.of("AI temporarily unavailable"),
                 "Screening deferred — AI service unavailable");
     }
+
+    /**
+     * A full bulkhead is local back-pressure, not an AI failure: the caller must retry later rather
+     * than persist a placeholder result.
+     */
+    private static void rethrowIfBusy(Throwable t) {
+        if (t instanceof BulkheadFullException busy) {
+            throw busy;
+        }
+    }
 }
@@ -6,12 +6,16 @@ import com.hireai.domain.entity.Resume;
 import com.hireai.domain.entity.User;
 import com.hireai.domain.enums.ParseStatus;
 import com.hireai.exception.ResourceNotFoundException;
+import com.hireai.messaging.event.HiringEvent;
+import com.hireai.messaging.event.PipelineTrace;
 import com.hireai.messaging.event.ResumeParseEvent;
 import com.hireai.messaging.producer.HiringEventProducer;
+import com.hireai.messaging.trace.PipelineLatencyTracker;
 import com.hireai.repository.CandidateRepository;
 import com.hireai.repository.ResumeRepository;
 import com.hireai.util.FileStorageUtil;
 import com.hireai.util.TextExtractor;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -30,14 +34,19 @@ public class ResumeService {
     private final FileStorageUtil fileStorageUtil;
     private final TextExtractor textExtractor;
     private final HiringEventProducer eventProducer;
+    private final PipelineLatencyTracker latencyTracker;
 
     @Transactional
     public ResumeResponse uploadResume(MultipartFile file, User user) {
         Candidate candidate = candidateRepository.findByUserId(user.getId())
                 .orElseThrow(() -> new ResourceNotFoundException("Candidate profile not found"));
 
+        long uploadedAt = System.currentTimeMillis();
         String filePath = fileStorageUtil.storeFile(file);
+        Timer.Sample extraction = latencyTracker.startStage();
         String rawText = textExtractor.extract(filePath);
+        PipelineTrace trace = latencyTracker.start(PipelineLatencyTracker.RESUME_PIPELINE, PipelineLatencyTracker.UPLOADED, uploadedAt);
+        latencyTracker.completed(PipelineLatencyTracker.EXTRACTED, extraction, trace);
 
         Resume resume = Resume.builder()
                 .candidate(candidate)
@@ -55,6 +64,8 @@ public class ResumeService {
                 .resumeId(saved.getId())
                 .candidateId(candidate.getId())
                 .filePath(filePath)
+                .entityVersion(HiringEvent.versionOf(saved.getUpdatedAt()))
+                .trace(trace)
                 .build());
 
         return toResponse(saved);
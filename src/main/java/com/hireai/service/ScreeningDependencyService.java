@@ -0,0 +1,93 @@
+package com.hireai.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hireai.messaging.event.ApplicationScreenEvent;
+import com.hireai.messaging.producer.HiringEventProducer;
+import com.hireai.repository.ScreeningWaitRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+/**
+ * Holds application screenings that arrived before their resume was parsed in
+ * {@code screening_waits}, and republishes them as soon as the parse completes. If the parse is
+ * parked instead, the waiting applications are marked so they do not look in progress forever.
+ */
+@Service
+@Slf4j
+public class ScreeningDependencyService {
+
+    private final ScreeningWaitRepository waitRepository;
+    private final ObjectMapper objectMapper;
+    private final HiringEventProducer eventProducer;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+
+    public ScreeningDependencyService(ScreeningWaitRepository waitRepository, ObjectMapper objectMapper,
+                                      HiringEventProducer eventProducer, PlatformTransactionManager transactionManager,
+                                      MeterRegistry meterRegistry) {
+        this.waitRepository = waitRepository;
+        this.objectMapper = objectMapper;
+        this.eventProducer = eventProducer;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * Parks a screening until {@link #release(Long)} is called for its resume.
+     */
+    public void park(ApplicationScreenEvent event) throws JsonProcessingException {
+        waitRepository.park(event.getApplicationId(), event.getResumeId(), objectMapper.writeValueAsString(event));
+        meterRegistry.counter("hireai.screening.parked").increment();
+        log.info("Screening for application {} waits for resume {} to be parsed", event.getApplicationId(), event.getResumeId());
+    }
+
+    /**
+     * Republishes every screening parked on the resume. The waits are deleted and their events
+     * written to the outbox in one transaction, so concurrent callers never publish one twice and
+     * a failure leaves them waiting.
+     *
+     * @return number of screenings released
+     */
+    public int release(Long resumeId) {
+        Integer released = transactionTemplate.execute(status -> {
+            List<String> waiting = waitRepository.takeAll(resumeId);
+            for (String json : waiting) {
+                try {
+                    eventProducer.publishApplicationScreen(objectMapper.readValue(json, ApplicationScreenEvent.class));
+                } catch (JsonProcessingException e) {
+                    throw new IllegalStateException("Unreadable parked screening for resume " + resumeId, e);
+                }
+            }
+            return waiting.size();
+        });
+        int count = released != null ? released : 0;
+        if (count > 0) {
+            meterRegistry.counter("hireai.screening.released").increment(count);
+            log.info("Released {} parked screenings for resume {}", count, resumeId);
+        }
+        return count;
+    }
+
+    /**
+     * Called when the resume's parse is parked: the screenings waiting on it are marked failed,
+     * with the reason in the application notes. They stay in place, so a later successful parse
+     * still releases them.
+     *
+     * @return number of screenings marked failed
+     */
+    public int parseFailed(Long resumeId) {
+        int failed = waitRepository.markFailed(resumeId,
+                "Screening failed: resume " + resumeId + " could not be parsed");
+        if (failed > 0) {
+            meterRegistry.counter("hireai.screening.failed").increment(failed);
+            log.warn("Marked {} screenings waiting on resume {} failed, its parse was parked", failed, resumeId);
+        }
+        return failed;
+    }
+}
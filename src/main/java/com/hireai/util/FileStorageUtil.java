@@ -9,6 +9,8 @@ import org.springframework.stereotype.Component;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.net.MalformedURLException;
 import java.nio.file.Files;
 import java.nio.file.Path;
@@ -54,6 +56,42 @@ public class FileStorageUtil {
         }
     }
 
+    /**
+     * Stores one entry read from an archive stream. Copies at most the size limit, so an oversized
+     * entry is rejected without being held in memory; the stream is left open for the next entry.
+     */
+    public String storeStream(String originalFilename, InputStream in) {
+        String extension = getExtension(originalFilename);
+        if (!ALLOWED_EXTENSIONS.contains(extension)) {
+            throw new FileStorageException("Only PDF and DOCX files are allowed");
+        }
+        Path targetPath = uploadPath.resolve(UUID.randomUUID() + "." + extension);
+        try (OutputStream out = Files.newOutputStream(targetPath)) {
+            byte[] buffer = new byte[8192];
+            long total = 0;
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                total += read;
+                if (total > MAX_SIZE) {
+                    throw new FileStorageException("File size exceeds maximum limit of 10MB: " + originalFilename);
+                }
+                out.write(buffer, 0, read);
+            }
+            if (total == 0) {
+                throw new FileStorageException("Cannot upload empty file: " + originalFilename);
+            }
+            return targetPath.toString();
+        } catch (IOException | FileStorageException e) {
+            try {
+                Files.deleteIfExists(targetPath);
+            } catch (IOException ignored) {
+                // Best effort; the entry is reported as skipped either way
+            }
+            throw e instanceof FileStorageException fse ? fse
+                    : new FileStorageException("Failed to store file: " + originalFilename, e);
+        }
+    }
+
     public Resource loadFile(String filePath) {
         try {
             Path path = Paths.get(filePath).toAbsolutePath().normalize();
@@ -0,0 +1,38 @@
+package com.hireai.util;
+
+import com.hireai.exception.InvalidCursorException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Position in a list ordered by (created_at DESC, id DESC): the next page holds the rows strictly
+ * before it. Sent to clients as an opaque URL-safe token.
+ */
+public record KeysetCursor(LocalDateTime createdAt, long id) {
+
+    /**
+     * Sorts after every real row, so the first page uses the same query as the rest.
+     */
+    public static final KeysetCursor FIRST = new KeysetCursor(LocalDateTime.of(9999, 12, 31, 0, 0), Long.MAX_VALUE);
+
+    public String encode() {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString((createdAt + "," + id).getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodes a token from {@link #encode()}; a missing token means the first page.
+     */
+    public static KeysetCursor decode(String token) {
+        if (token == null || token.isBlank()) return FIRST;
+        try {
+            String[] parts = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8).split(",", 2);
+            return new KeysetCursor(LocalDateTime.parse(parts[0]), Long.parseLong(parts[1]));
+        } catch (IllegalArgumentException | DateTimeParseException | ArrayIndexOutOfBoundsException e) {
+            throw new InvalidCursorException(token);
+        }
+    }
+}
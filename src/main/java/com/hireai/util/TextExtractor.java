@@ -6,23 +6,44 @@ import org.apache.pdfbox.pdmodel.PDDocument;
 import org.apache.pdfbox.text.PDFTextStripper;
 import org.apache.poi.xwpf.usermodel.XWPFDocument;
 import org.apache.poi.xwpf.usermodel.XWPFParagraph;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import java.io.FileInputStream;
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.concurrent.Semaphore;
 import java.util.stream.Collectors;
 
 @Component
 public class TextExtractor {
 
+    // PDFBox and POI synchronize internally; on virtual threads every concurrent extraction
+    // can pin a carrier, so cap them below the carrier pool size.
+    private final Semaphore permits;
+
+    public TextExtractor(@Value("${app.extraction.max-concurrency:0}") int maxConcurrency) {
+        int limit = maxConcurrency > 0 ? maxConcurrency : Math.max(1, Runtime.getRuntime().availableProcessors() - 1);
+        this.permits = new Semaphore(limit, true);
+    }
+
     public String extract(String filePath) {
         String extension = filePath.substring(filePath.lastIndexOf('.') + 1).toLowerCase();
-        return switch (extension) {
-            case "pdf" -> extractFromPdf(filePath);
-            case "docx" -> extractFromDocx(filePath);
-            default -> throw new FileStorageException("Unsupported file type: " + extension);
-        };
+        try {
+            permits.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new FileStorageException("Interrupted while waiting to extract text: " + filePath, e);
+        }
+        try {
+            return switch (extension) {
+                case "pdf" -> extractFromPdf(filePath);
+                case "docx" -> extractFromDocx(filePath);
+                default -> throw new FileStorageException("Unsupported file type: " + extension);
+            };
+        } finally {
+            permits.release();
+        }
     }
 
     private String extractFromPdf(String filePath) {
@@ -0,0 +1,13 @@
+-- =============================================
+-- V10: Indexes for keyset pagination
+-- =============================================
+
+-- Lists ordered by (created_at DESC, id DESC) seek straight to the cursor instead of skipping
+-- an offset; the status variants also cover plain status lookups
+CREATE INDEX idx_applications_created ON applications (created_at, id);
+CREATE INDEX idx_applications_status_created ON applications (status, created_at, id);
+CREATE INDEX idx_jobs_created ON jobs (created_at, id);
+CREATE INDEX idx_jobs_status_created ON jobs (status, created_at, id);
+
+DROP INDEX idx_applications_status;
+DROP INDEX idx_jobs_status;
@@ -0,0 +1,8 @@
+-- =============================================
+-- V11: Track answers whose evaluation was parked
+-- =============================================
+
+-- Set when an answer's evaluation exhausts its retries and is parked in the DLQ, so it no longer
+-- counts as in flight. An interview's pending evaluations are its responses with neither a score
+-- nor this timestamp.
+ALTER TABLE interview_responses ADD COLUMN evaluation_failed_at TIMESTAMP;
@@ -0,0 +1,18 @@
+-- =============================================
+-- V12: Durable notification digests
+-- =============================================
+
+-- One row per notification waiting in a digest (digest_key = type:recipient). A digest is due when
+-- its oldest row is older than the window. Flushers claim rows by pushing next_attempt_at past
+-- the send, delete them once sent, and on failure count the attempt and back off until the rows
+-- are parked in notification.dlq.
+CREATE TABLE notification_digest_items (
+    id              BIGSERIAL PRIMARY KEY,
+    digest_key      VARCHAR(320) NOT NULL,
+    payload         TEXT NOT NULL,
+    attempts        INT NOT NULL DEFAULT 0,
+    next_attempt_at TIMESTAMP NOT NULL DEFAULT now(),
+    created_at      TIMESTAMP NOT NULL DEFAULT now()
+);
+
+CREATE INDEX idx_notification_digest_items_key ON notification_digest_items (digest_key, id);
@@ -0,0 +1,12 @@
+-- =============================================
+-- V13: Outbox retry backoff and parking
+-- =============================================
+
+-- next_attempt_at holds a row back while a relay has it claimed or while it backs off after a
+-- failed publish; failed_at parks it for good once it has used up its attempts.
+ALTER TABLE outbox_events
+    ADD COLUMN next_attempt_at TIMESTAMP NOT NULL DEFAULT now(),
+    ADD COLUMN failed_at TIMESTAMP;
+
+-- Rows the relay can pick up, oldest first
+CREATE INDEX idx_outbox_events_pending ON outbox_events (id) WHERE failed_at IS NULL;
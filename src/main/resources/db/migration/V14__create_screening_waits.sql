@@ -0,0 +1,17 @@
+-- =============================================
+-- V14: Screenings waiting for their resume parse
+-- =============================================
+
+-- A screening that arrives before its resume is parsed waits here, one row per application, and
+-- is republished in the same transaction that deletes the row once the parse completes. If the
+-- parse is parked for good, failed_at is set and the application notes say why; a later successful
+-- parse (e.g. after a DLQ replay) still releases it.
+CREATE TABLE screening_waits (
+    application_id  BIGINT PRIMARY KEY REFERENCES applications(id),
+    resume_id       BIGINT NOT NULL,
+    payload         TEXT NOT NULL,
+    failed_at       TIMESTAMP,
+    created_at      TIMESTAMP NOT NULL DEFAULT now()
+);
+
+CREATE INDEX idx_screening_waits_resume ON screening_waits (resume_id);
@@ -0,0 +1,18 @@
+-- =============================================
+-- V15: DLQ replay progress
+-- =============================================
+
+-- One row per admin-started DLQ replay. The node running it refreshes heartbeat_at while the replay
+-- is QUEUED or RUNNING, so a replay whose node died is recognisable by a stale heartbeat.
+CREATE TABLE dlq_replays (
+    id            VARCHAR(36) PRIMARY KEY,
+    queue         VARCHAR(100) NOT NULL,
+    status        VARCHAR(20) NOT NULL,
+    scanned       BIGINT NOT NULL DEFAULT 0,
+    replayed      BIGINT NOT NULL DEFAULT 0,
+    skipped       BIGINT NOT NULL DEFAULT 0,
+    error         TEXT,
+    started_at    TIMESTAMP NOT NULL,
+    finished_at   TIMESTAMP,
+    heartbeat_at  TIMESTAMP NOT NULL DEFAULT now()
+);
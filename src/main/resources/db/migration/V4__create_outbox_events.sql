@@ -0,0 +1,16 @@
+-- =============================================
+-- V4: Transactional outbox for hiring events
+-- =============================================
+
+-- Rows are written in the same transaction as the business change and
+-- deleted by the relay once the broker has confirmed the publish.
+CREATE TABLE outbox_events (
+    id              BIGSERIAL PRIMARY KEY,
+    exchange        VARCHAR(255) NOT NULL,
+    routing_key     VARCHAR(255) NOT NULL,
+    event_type      VARCHAR(255) NOT NULL,
+    payload         TEXT NOT NULL,
+    attempts        INT NOT NULL DEFAULT 0,
+    last_error      TEXT,
+    created_at      TIMESTAMP NOT NULL DEFAULT now()
+);
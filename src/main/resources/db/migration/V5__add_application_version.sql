@@ -0,0 +1,6 @@
+-- =============================================
+-- V5: Optimistic locking for applications
+-- =============================================
+
+-- Screening commits its AI results only if the application is unchanged since it was loaded
+ALTER TABLE applications ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
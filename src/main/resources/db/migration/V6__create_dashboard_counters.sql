@@ -0,0 +1,35 @@
+-- =============================================
+-- V6: Incrementally maintained dashboard counters
+-- =============================================
+
+-- One row per (scope, scope id, metric): application counts per status for the whole system
+-- (scope_id 0), each recruiter, job and candidate, plus the global JOBS / CANDIDATES totals
+-- and per-recruiter JOBS. Updated in the transaction that changes the counted rows and
+-- periodically reconciled against the source tables.
+CREATE TABLE dashboard_counters (
+    scope       VARCHAR(16) NOT NULL,
+    scope_id    BIGINT NOT NULL,
+    metric      VARCHAR(32) NOT NULL,
+    value       BIGINT NOT NULL DEFAULT 0,
+    PRIMARY KEY (scope, scope_id, metric)
+);
+
+INSERT INTO dashboard_counters (scope, scope_id, metric, value)
+SELECT 'GLOBAL', 0, status, count(*) FROM applications WHERE status IS NOT NULL GROUP BY status
+UNION ALL
+SELECT 'RECRUITER', j.recruiter_id, a.status, count(*)
+FROM applications a JOIN jobs j ON j.id = a.job_id
+WHERE a.status IS NOT NULL AND j.recruiter_id IS NOT NULL
+GROUP BY j.recruiter_id, a.status
+UNION ALL
+SELECT 'JOB', job_id, status, count(*) FROM applications
+WHERE status IS NOT NULL AND job_id IS NOT NULL GROUP BY job_id, status
+UNION ALL
+SELECT 'CANDIDATE', candidate_id, status, count(*) FROM applications
+WHERE status IS NOT NULL AND candidate_id IS NOT NULL GROUP BY candidate_id, status
+UNION ALL
+SELECT 'GLOBAL', 0, 'JOBS', count(*) FROM jobs
+UNION ALL
+SELECT 'RECRUITER', recruiter_id, 'JOBS', count(*) FROM jobs WHERE recruiter_id IS NOT NULL GROUP BY recruiter_id
+UNION ALL
+SELECT 'GLOBAL', 0, 'CANDIDATES', count(*) FROM candidates;
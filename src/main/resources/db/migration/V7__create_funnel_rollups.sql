@@ -0,0 +1,50 @@
+-- =============================================
+-- V7: Hiring funnel transition stream and rollups
+-- =============================================
+
+-- One row per application status change, written in the same transaction as the change.
+-- Rows are never updated except for the rolled_up marker set by the rollup worker.
+-- stage_seconds is the time the application spent in from_status.
+CREATE TABLE application_transitions (
+    id              BIGSERIAL PRIMARY KEY,
+    application_id  BIGINT NOT NULL,
+    job_id          BIGINT,
+    recruiter_id    BIGINT,
+    candidate_id    BIGINT,
+    from_status     VARCHAR(50),
+    to_status       VARCHAR(50) NOT NULL,
+    stage_seconds   BIGINT,
+    occurred_at     TIMESTAMP NOT NULL DEFAULT now(),
+    rolled_up       BOOLEAN NOT NULL DEFAULT FALSE
+);
+
+CREATE INDEX idx_transitions_application ON application_transitions (application_id, occurred_at);
+CREATE INDEX idx_transitions_pending ON application_transitions (id) WHERE NOT rolled_up;
+
+-- Per job and per recruiter, per hour and per day: transitions into and out of each status and
+-- the total time spent in it. Keyed for range scans over one scope's buckets.
+CREATE TABLE funnel_rollups (
+    scope               VARCHAR(16) NOT NULL,
+    scope_id            BIGINT NOT NULL,
+    granularity         VARCHAR(8) NOT NULL,
+    bucket_start        TIMESTAMP NOT NULL,
+    status              VARCHAR(50) NOT NULL,
+    entered             BIGINT NOT NULL DEFAULT 0,
+    exited              BIGINT NOT NULL DEFAULT 0,
+    stage_seconds_total BIGINT NOT NULL DEFAULT 0,
+    stage_samples       BIGINT NOT NULL DEFAULT 0,
+    PRIMARY KEY (scope, scope_id, granularity, bucket_start, status)
+);
+
+-- Seed the stream from existing applications: the application itself, and its move to the
+-- current status at the last update. Intermediate steps were never recorded.
+INSERT INTO application_transitions (application_id, job_id, recruiter_id, candidate_id, from_status, to_status, occurred_at)
+SELECT a.id, a.job_id, j.recruiter_id, a.candidate_id, NULL, 'APPLIED', a.created_at
+FROM applications a LEFT JOIN jobs j ON j.id = a.job_id;
+
+INSERT INTO application_transitions (application_id, job_id, recruiter_id, candidate_id, from_status, to_status,
+                                     stage_seconds, occurred_at)
+SELECT a.id, a.job_id, j.recruiter_id, a.candidate_id, 'APPLIED', a.status,
+       EXTRACT(EPOCH FROM a.updated_at - a.created_at)::BIGINT, a.updated_at
+FROM applications a LEFT JOIN jobs j ON j.id = a.job_id
+WHERE a.status IS NOT NULL AND a.status <> 'APPLIED';
@@ -0,0 +1,9 @@
+-- =============================================
+-- V8: Indexes for interview result assembly
+-- =============================================
+
+-- An interview's questions in order
+CREATE INDEX idx_interview_questions_interview ON interview_questions (interview_id, order_index);
+
+-- A question's responses, newest last; the latest response per question is an index lookup
+CREATE INDEX idx_interview_responses_question ON interview_responses (question_id, id);
@@ -0,0 +1,15 @@
+-- =============================================
+-- V9: Pooled id sequences for JPA entities
+-- =============================================
+
+-- Hibernate reserves 50 ids per sequence call (allocationSize = 50) and hands them out in
+-- memory, so inserts no longer need the generated key back and can be sent as JDBC batches.
+-- The column defaults keep working: each nextval claims a whole block, so ids never collide.
+ALTER SEQUENCE users_id_seq INCREMENT BY 50;
+ALTER SEQUENCE jobs_id_seq INCREMENT BY 50;
+ALTER SEQUENCE candidates_id_seq INCREMENT BY 50;
+ALTER SEQUENCE resumes_id_seq INCREMENT BY 50;
+ALTER SEQUENCE applications_id_seq INCREMENT BY 50;
+ALTER SEQUENCE interviews_id_seq INCREMENT BY 50;
+ALTER SEQUENCE interview_questions_id_seq INCREMENT BY 50;
+ALTER SEQUENCE interview_responses_id_seq INCREMENT BY 50;
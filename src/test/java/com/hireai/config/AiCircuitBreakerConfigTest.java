@@ -0,0 +1,71 @@
+package com.hireai.config;
+
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.retry.Retry;
+import io.github.resilience4j.retry.RetryRegistry;
+import io.github.resilience4j.springboot3.circuitbreaker.autoconfigure.CircuitBreakerAutoConfiguration;
+import io.github.resilience4j.springboot3.retry.autoconfigure.RetryAutoConfiguration;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.test.context.ConfigDataApplicationContextInitializer;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * A rejected call from a saturated bulkhead must not count against the AI circuit breakers or be
+ * retried in place, otherwise a burst of local back-pressure would cut off a healthy provider.
+ * Runs against the registries built from application.yml.
+ */
+class AiCircuitBreakerConfigTest {
+
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            .withInitializer(new ConfigDataApplicationContextInitializer())
+            .withConfiguration(AutoConfigurations.of(CircuitBreakerAutoConfiguration.class, RetryAutoConfiguration.class));
+
+    @ParameterizedTest
+    @ValueSource(strings = {"aiService", "embeddingService"})
+    void bulkheadRejectionsDoNotOpenTheBreaker(String instance) {
+        contextRunner.run(context -> {
+            CircuitBreaker breaker = context.getBean(CircuitBreakerRegistry.class).circuitBreaker(instance);
+            BulkheadFullException rejected = rejection(instance);
+
+            for (int i = 0; i < 20; i++) {
+                assertThatThrownBy(() -> breaker.executeRunnable(() -> {
+                    throw rejected;
+                })).isSameAs(rejected);
+            }
+
+            assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+            assertThat(breaker.getMetrics().getNumberOfFailedCalls()).isZero();
+        });
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"aiService", "embeddingService"})
+    void bulkheadRejectionsAreNotRetried(String instance) {
+        contextRunner.run(context -> {
+            Retry retry = context.getBean(RetryRegistry.class).retry(instance);
+            BulkheadFullException rejected = rejection(instance);
+            AtomicInteger calls = new AtomicInteger();
+
+            assertThatThrownBy(() -> retry.executeRunnable(() -> {
+                calls.incrementAndGet();
+                throw rejected;
+            })).isSameAs(rejected);
+
+            assertThat(calls).hasValue(1);
+        });
+    }
+
+    private static BulkheadFullException rejection(String instance) {
+        return BulkheadFullException.createBulkheadFullException(Bulkhead.ofDefaults(instance));
+    }
+}
@@ -0,0 +1,46 @@
+package com.hireai.config;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.amqp.rabbit.config.AbstractRabbitListenerContainerFactory;
+import org.springframework.amqp.rabbit.connection.ConnectionFactory;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Every custom listener factory, including the Direct one behind the partition queues, must
+ * run its consumers on virtual threads when spring.threads.virtual.enabled is set.
+ */
+class RabbitListenerExecutorTest {
+
+    private final ConnectionFactory connectionFactory = mock(ConnectionFactory.class);
+
+    @Test
+    void virtualThreadsApplyToAllListenerFactories() {
+        for (AbstractRabbitListenerContainerFactory<?> factory : factories(config(true))) {
+            assertThat(ReflectionTestUtils.getField(factory, "taskExecutor")).isInstanceOf(VirtualThreadTaskExecutor.class);
+        }
+    }
+
+    @Test
+    void platformThreadsByDefault() {
+        for (AbstractRabbitListenerContainerFactory<?> factory : factories(config(false))) {
+            assertThat(ReflectionTestUtils.getField(factory, "taskExecutor")).isNull();
+        }
+    }
+
+    private List<AbstractRabbitListenerContainerFactory<?>> factories(RabbitMQConfig config) {
+        return List.of(config.rabbitListenerContainerFactory(connectionFactory),
+                config.partitionContainerFactory(connectionFactory));
+    }
+
+    private static RabbitMQConfig config(boolean virtualThreads) {
+        RabbitMQConfig config = new RabbitMQConfig();
+        ReflectionTestUtils.setField(config, "virtualThreadsEnabled", virtualThreads);
+        return config;
+    }
+}
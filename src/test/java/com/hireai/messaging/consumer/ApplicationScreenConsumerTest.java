@@ -0,0 +1,197 @@
+package com.hireai.messaging.consumer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hireai.ai.dto.CandidateScore;
+import com.hireai.ai.dto.ParsedResume;
+import com.hireai.ai.dto.ScreeningResult;
+import com.hireai.config.RabbitMQConfig;
+import com.hireai.domain.entity.Application;
+import com.hireai.domain.entity.Job;
+import com.hireai.domain.entity.Resume;
+import com.hireai.domain.entity.User;
+import com.hireai.messaging.event.ApplicationScreenEvent;
+import com.hireai.messaging.producer.HiringEventProducer;
+import com.hireai.messaging.trace.PipelineLatencyTracker;
+import com.hireai.repository.ApplicationRepository;
+import com.hireai.repository.JobRepository;
+import com.hireai.repository.ResumeRepository;
+import com.hireai.service.DashboardCounterService;
+import com.hireai.service.FunnelService;
+import com.hireai.service.MessageDeduplicationService;
+import com.hireai.service.ResumeAIService;
+import com.hireai.service.ScreeningDependencyService;
+import com.rabbitmq.client.Channel;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.CannotCreateTransactionException;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.AbstractPlatformTransactionManager;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Screens many applications concurrently against a two-connection "pool" while each AI call is slow,
+ * and checks that no AI call runs inside a transaction and the pool is never exhausted.
+ */
+class ApplicationScreenConsumerTest {
+
+    private static final int POOL_SIZE = 2;
+    private static final int CONSUMERS = 12;
+    private static final int MESSAGES = 36;
+
+    private final PooledTransactionManager transactionManager = new PooledTransactionManager(POOL_SIZE);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AtomicInteger aiCallsInsideTransaction = new AtomicInteger();
+
+    private final ApplicationRepository applicationRepository = mock(ApplicationRepository.class);
+    private final ResumeRepository resumeRepository = mock(ResumeRepository.class);
+    private final JobRepository jobRepository = mock(JobRepository.class);
+    private final ResumeAIService resumeAIService = mock(ResumeAIService.class);
+    private final FailedMessageRouter failedMessageRouter = mock(FailedMessageRouter.class);
+    private final MessageDeduplicationService deduplicationService = mock(MessageDeduplicationService.class);
+    private final Channel channel = mock(Channel.class);
+
+    private final ApplicationScreenConsumer consumer = new ApplicationScreenConsumer(
+            applicationRepository, resumeRepository, jobRepository, resumeAIService, new ObjectMapper(),
+            mock(HiringEventProducer.class), failedMessageRouter, deduplicationService,
+            mock(ScreeningDependencyService.class), mock(DashboardCounterService.class),
+            mock(FunnelService.class), new ConsumerTransactions(transactionManager, meterRegistry),
+            meterRegistry, new PipelineLatencyTracker(meterRegistry, 300000, 900000));
+
+    @Test
+    void aiPhaseHoldsNoConnection() throws Exception {
+        String parsedData = new ObjectMapper().writeValueAsString(
+                new ParsedResume("Jane", "jane@example.com", null, List.of("Java"), List.of(), List.of(), "Engineer"));
+        Job job = Job.builder().id(1L).title("Backend Engineer")
+                .recruiter(User.builder().email("recruiter@example.com").build()).build();
+
+        when(applicationRepository.findById(any())).thenAnswer(inv ->
+                Optional.of(Application.builder().id(inv.getArgument(0)).version(0L).build()));
+        when(resumeRepository.findById(any())).thenReturn(Optional.of(Resume.builder().id(1L).parsedData(parsedData).build()));
+        when(jobRepository.findById(any())).thenReturn(Optional.of(job));
+        when(deduplicationService.tryLock(any())).thenReturn("token");
+        when(resumeAIService.screenCandidate(any(), any())).thenAnswer(inv -> {
+            slowAiCall();
+            return new ScreeningResult(true, List.of(), List.of(), "ok");
+        });
+        when(resumeAIService.scoreCandidate(any(), any())).thenAnswer(inv -> {
+            slowAiCall();
+            return new CandidateScore(75, List.of(), List.of(), "good fit");
+        });
+
+        ExecutorService executor = Executors.newFixedThreadPool(CONSUMERS);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (long i = 1; i <= MESSAGES; i++) {
+                long id = i;
+                futures.add(executor.submit(() -> {
+                    consumer.handleApplicationScreen(ApplicationScreenEvent.builder()
+                            .applicationId(id).jobId(1L).resumeId(1L).candidateId(1L).build(), channel, id, null);
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        verify(channel, times(MESSAGES)).basicAck(anyLong(), eq(false));
+        verify(failedMessageRouter, never()).retryOrPark(any(), any(), any(), any(), anyLong());
+        assertThat(aiCallsInsideTransaction).hasValue(0);
+        assertThat(transactionManager.exhausted).hasValue(0);
+        assertThat(transactionManager.maxInUse.get()).isLessThanOrEqualTo(POOL_SIZE);
+        assertThat(meterRegistry.timer("hireai.consumer.connection.hold", "consumer", "applicationScreen").count())
+                .isEqualTo(MESSAGES);
+    }
+
+    @Test
+    void lockContentionDefersWithoutUsingRetries() throws Exception {
+        ApplicationScreenEvent event = ApplicationScreenEvent.builder()
+                .applicationId(1L).jobId(1L).resumeId(1L).candidateId(1L).build();
+        when(deduplicationService.tryLock(any())).thenReturn(null);
+
+        consumer.handleApplicationScreen(event, channel, 7L, 2);
+
+        verify(failedMessageRouter).defer(RabbitMQConfig.APPLICATION_SCREEN_QUEUE, event, 2, channel, 7L);
+        verify(failedMessageRouter, never()).retryOrPark(any(), any(), any(), any(), anyLong());
+        verify(resumeAIService, never()).screenCandidate(any(), any());
+    }
+
+    private void slowAiCall() throws InterruptedException {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            aiCallsInsideTransaction.incrementAndGet();
+        }
+        Thread.sleep(50);
+    }
+
+    /**
+     * Transaction manager backed by a fixed number of permits, standing in for a Hikari pool
+     * with a short connection timeout.
+     */
+    static class PooledTransactionManager extends AbstractPlatformTransactionManager {
+
+        private final Semaphore pool;
+        private final AtomicInteger inUse = new AtomicInteger();
+        final AtomicInteger maxInUse = new AtomicInteger();
+        final AtomicInteger exhausted = new AtomicInteger();
+
+        PooledTransactionManager(int size) {
+            this.pool = new Semaphore(size);
+        }
+
+        @Override
+        protected Object doGetTransaction() {
+            return new Object();
+        }
+
+        @Override
+        protected void doBegin(Object transaction, TransactionDefinition definition) {
+            try {
+                if (!pool.tryAcquire(500, TimeUnit.MILLISECONDS)) {
+                    exhausted.incrementAndGet();
+                    throw new CannotCreateTransactionException("Connection pool exhausted");
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new CannotCreateTransactionException("Interrupted waiting for a connection");
+            }
+            maxInUse.accumulateAndGet(inUse.incrementAndGet(), Math::max);
+        }
+
+        @Override
+        protected void doCommit(DefaultTransactionStatus status) {
+        }
+
+        @Override
+        protected void doRollback(DefaultTransactionStatus status) {
+        }
+
+        @Override
+        protected void doCleanupAfterCompletion(Object transaction) {
+            inUse.decrementAndGet();
+            pool.release();
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package com.hireai.messaging.consumer;
+
+import com.hireai.config.RabbitMQConfig;
+import com.hireai.messaging.event.CandidateScoreEvent;
+import com.hireai.messaging.trace.PipelineLatencyTracker;
+import com.hireai.service.CandidateScoringService;
+import com.hireai.service.CandidateScoringService.ScoreOutcome;
+import com.hireai.service.MessageDeduplicationService;
+import com.rabbitmq.client.Channel;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.amqp.support.AmqpHeaders;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.support.MessageBuilder;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * The batch consumer must guard each message like {@link CandidateScoreConsumer}: a candidate
+ * another consumer holds the lock on is deferred, and duplicates are still timed on receipt.
+ */
+class CandidateScoreBatchConsumerTest {
+
+    private static final String QUEUE = RabbitMQConfig.CANDIDATE_SCORE_QUEUE;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final CandidateScoringService scoringService = mock(CandidateScoringService.class);
+    private final FailedMessageRouter failedMessageRouter = mock(FailedMessageRouter.class);
+    private final MessageDeduplicationService deduplicationService = mock(MessageDeduplicationService.class);
+    private final Channel channel = mock(Channel.class);
+
+    private final CandidateScoreBatchConsumer consumer = new CandidateScoreBatchConsumer(scoringService,
+            failedMessageRouter, deduplicationService, new PipelineLatencyTracker(meterRegistry, 300000, 900000));
+
+    private final CandidateScoreEvent event = CandidateScoreEvent.builder()
+            .eventId("evt-1").candidateId(7L).resumeId(70L).jobId(5L).build();
+
+    @BeforeEach
+    void setUp() throws Exception {
+        when(scoringService.score(any())).thenReturn(Optional.of(new ScoreOutcome(70L, 81, Map.of())));
+        when(deduplicationService.tryLock(any())).thenReturn("token");
+    }
+
+    @Test
+    void scoredCandidateIsSavedAckedAndUnlocked() throws Exception {
+        consumer.handleCandidateScoreBatch(List.of(message(1L)), channel);
+
+        verify(scoringService).saveAll(List.of(new ScoreOutcome(70L, 81, Map.of())));
+        verify(deduplicationService).markProcessed(QUEUE, event);
+        verify(deduplicationService).unlock(event, "token");
+        verify(channel).basicAck(1L, true);
+    }
+
+    @Test
+    void lockedCandidateIsDeferred() throws Exception {
+        when(deduplicationService.tryLock(any())).thenReturn(null);
+        Message<CandidateScoreEvent> message = message(2L);
+
+        consumer.handleCandidateScoreBatch(List.of(message), channel);
+
+        verify(failedMessageRouter).defer(QUEUE, message, channel);
+        verify(scoringService, never()).score(any());
+        verify(deduplicationService, never()).markProcessed(any(), any());
+        verify(channel, never()).basicAck(anyLong(), anyBoolean());
+    }
+
+    @Test
+    void duplicateIsAckedWithoutScoring() throws Exception {
+        when(deduplicationService.isDuplicate(QUEUE, event)).thenReturn(true);
+
+        consumer.handleCandidateScoreBatch(List.of(message(3L)), channel);
+
+        verify(scoringService, never()).score(any());
+        verify(deduplicationService, never()).tryLock(any());
+        verify(channel).basicAck(3L, true);
+        assertThat(meterRegistry.timer("hireai.pipeline.stage.duration", "stage", PipelineLatencyTracker.SCORED).count())
+                .isZero();
+    }
+
+    private Message<CandidateScoreEvent> message(long tag) {
+        return MessageBuilder.withPayload(event).setHeader(AmqpHeaders.DELIVERY_TAG, tag).build();
+    }
+}
@@ -0,0 +1,128 @@
+package com.hireai.messaging.consumer;
+
+import com.hireai.ai.dto.AnswerEvaluation;
+import com.hireai.config.RabbitMQConfig;
+import com.hireai.domain.entity.Application;
+import com.hireai.domain.entity.Interview;
+import com.hireai.domain.entity.InterviewQuestion;
+import com.hireai.domain.entity.InterviewResponse;
+import com.hireai.domain.entity.Job;
+import com.hireai.messaging.event.HiringEvent;
+import com.hireai.messaging.event.InterviewEvalEvent;
+import com.hireai.messaging.trace.PipelineLatencyTracker;
+import com.hireai.repository.InterviewQuestionRepository;
+import com.hireai.repository.InterviewResponseRepository;
+import com.hireai.service.InterviewAIService;
+import com.hireai.service.InterviewAggregationService;
+import com.hireai.service.InterviewService;
+import com.hireai.service.MessageDeduplicationService;
+import com.rabbitmq.client.Channel;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.amqp.support.AmqpHeaders;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.support.MessageBuilder;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * The batch consumer must apply the same per-message guards as {@link InterviewEvalConsumer}: a
+ * redelivered answer is acked from the processed ledger instead of being evaluated again, and an
+ * answer another consumer holds the lock on is deferred.
+ */
+class InterviewEvalBatchConsumerTest {
+
+    private static final String QUEUE = RabbitMQConfig.INTERVIEW_EVALUATE_QUEUE;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final InterviewQuestionRepository questionRepository = mock(InterviewQuestionRepository.class);
+    private final InterviewResponseRepository responseRepository = mock(InterviewResponseRepository.class);
+    private final InterviewAIService interviewAIService = mock(InterviewAIService.class);
+    private final InterviewAggregationService aggregationService = mock(InterviewAggregationService.class);
+    private final FailedMessageRouter failedMessageRouter = mock(FailedMessageRouter.class);
+    private final MessageDeduplicationService deduplicationService = mock(MessageDeduplicationService.class);
+    private final Channel channel = mock(Channel.class);
+    private final Set<String> ledger = new HashSet<>();
+
+    private final InterviewEvalBatchConsumer consumer = new InterviewEvalBatchConsumer(questionRepository,
+            responseRepository, interviewAIService, aggregationService, mock(InterviewService.class), meterRegistry,
+            failedMessageRouter, deduplicationService,
+            new ConsumerTransactions(new ApplicationScreenConsumerTest.PooledTransactionManager(2), meterRegistry),
+            new PipelineLatencyTracker(meterRegistry, 300000, 900000));
+
+    private final InterviewEvalEvent event = InterviewEvalEvent.builder()
+            .eventId("evt-1").interviewId(1L).questionId(10L).responseId(100L).answerText("Use an index").build();
+
+    @BeforeEach
+    void setUp() {
+        Job job = Job.builder().id(5L).title("Backend Engineer").build();
+        InterviewQuestion question = InterviewQuestion.builder().id(10L).questionText("How do you speed up a query?")
+                .interview(Interview.builder().id(1L).application(Application.builder().job(job).build()).build())
+                .build();
+        InterviewResponse response = InterviewResponse.builder().id(100L).question(question).answerText("Use an index").build();
+
+        when(questionRepository.findAllWithJobByIdIn(any())).thenReturn(List.of(question));
+        when(responseRepository.findByQuestionIdInAndAiScoreIsNullOrderById(any())).thenReturn(List.of(response));
+        when(responseRepository.applyEvaluation(eq(100L), any(), any())).thenReturn(1);
+        when(interviewAIService.evaluateAnswer(any(), any(), any()))
+                .thenReturn(new AnswerEvaluation(8, "Good", List.of(), List.of()));
+        when(aggregationService.recordEvaluation(eq(1L), any(), anyInt())).thenReturn(1L);
+
+        // In-memory processed ledger standing in for Redis
+        when(deduplicationService.isDuplicate(eq(QUEUE), any()))
+                .thenAnswer(inv -> ledger.contains(inv.<HiringEvent>getArgument(1).getEventId()));
+        doAnswer(inv -> ledger.add(inv.<HiringEvent>getArgument(1).getEventId()))
+                .when(deduplicationService).markProcessed(eq(QUEUE), any());
+        when(deduplicationService.tryLock(any())).thenReturn("token");
+    }
+
+    @Test
+    void redeliveredAnswerIsAckedWithoutReevaluation() throws Exception {
+        consumer.handleInterviewEvalBatch(List.of(message(1L)), channel);
+        consumer.handleInterviewEvalBatch(List.of(message(2L)), channel);
+
+        verify(interviewAIService, times(1)).evaluateAnswer(any(), any(), any());
+        verify(responseRepository, times(1)).applyEvaluation(eq(100L), any(), any());
+        verify(aggregationService, times(1)).recordEvaluation(eq(1L), any(), anyInt());
+        verify(channel).basicAck(1L, false);
+        verify(channel).basicAck(2L, false);
+        verify(deduplicationService, times(1)).unlock(event, "token");
+        verify(failedMessageRouter, never()).retryOrPark(any(), any(Message.class), any());
+        assertThat(meterRegistry.timer("hireai.consumer.connection.hold", "consumer", "interviewEvaluateBatch").count())
+                .isEqualTo(2);
+        assertThat(meterRegistry.timer("hireai.pipeline.stage.duration", "stage", PipelineLatencyTracker.EVALUATED).count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    void lockedAnswerIsDeferred() throws Exception {
+        when(deduplicationService.tryLock(any())).thenReturn(null);
+        Message<InterviewEvalEvent> message = message(3L);
+
+        consumer.handleInterviewEvalBatch(List.of(message), channel);
+
+        verify(failedMessageRouter).defer(QUEUE, message, channel);
+        verify(interviewAIService, never()).evaluateAnswer(any(), any(), any());
+        verify(responseRepository, never()).applyEvaluation(any(), any(), any());
+        verify(failedMessageRouter, never()).retryOrPark(any(), any(Message.class), any());
+    }
+
+    private Message<InterviewEvalEvent> message(long tag) {
+        return MessageBuilder.withPayload(event).setHeader(AmqpHeaders.DELIVERY_TAG, tag).build();
+    }
+}
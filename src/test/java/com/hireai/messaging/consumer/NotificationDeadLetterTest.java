@@ -0,0 +1,132 @@
+package com.hireai.messaging.consumer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hireai.config.RabbitMQConfig;
+import com.hireai.messaging.event.NotificationEvent;
+import com.hireai.messaging.trace.PipelineLatencyTracker;
+import com.hireai.repository.NotificationDigestRepository;
+import com.hireai.repository.NotificationDigestRepository.DigestItem;
+import com.hireai.service.NotificationDigestService;
+import com.hireai.service.NotificationService;
+import com.rabbitmq.client.GetResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.rabbit.connection.CachingConnectionFactory;
+import org.springframework.amqp.rabbit.core.RabbitAdmin;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.testcontainers.containers.RabbitMQContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Notifications that cannot be delivered must end up in notification.dlq, whether the consumer
+ * rejects them or their digest runs out of send attempts, rather than being dropped by the broker.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class NotificationDeadLetterTest {
+
+    @Container
+    static final RabbitMQContainer rabbit = new RabbitMQContainer(DockerImageName.parse("rabbitmq:3-management-alpine"));
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+    private CachingConnectionFactory connectionFactory;
+    private RabbitTemplate rabbitTemplate;
+
+    @BeforeEach
+    void declareTopology() {
+        connectionFactory = new CachingConnectionFactory(rabbit.getHost(), rabbit.getAmqpPort());
+        connectionFactory.setUsername(rabbit.getAdminUsername());
+        connectionFactory.setPassword(rabbit.getAdminPassword());
+        connectionFactory.setPublisherConfirmType(CachingConnectionFactory.ConfirmType.SIMPLE);
+        rabbitTemplate = new RabbitTemplate(connectionFactory);
+
+        RabbitMQConfig config = new RabbitMQConfig();
+        RabbitAdmin admin = new RabbitAdmin(connectionFactory);
+        admin.declareExchange(config.hiringExchange());
+        admin.declareExchange(config.deadLetterExchange());
+        admin.declareQueue(config.notificationQueue());
+        admin.declareQueue(config.notificationDlq());
+        admin.declareBinding(config.notificationBinding());
+        admin.declareBinding(config.notificationDlqBinding());
+        admin.purgeQueue(RabbitMQConfig.NOTIFICATION_QUEUE, false);
+        admin.purgeQueue(RabbitMQConfig.NOTIFICATION_DLQ, false);
+    }
+
+    @AfterEach
+    void close() {
+        connectionFactory.destroy();
+    }
+
+    @Test
+    void rejectedNotificationIsDeadLettered() throws Exception {
+        byte[] body = objectMapper.writeValueAsBytes(event());
+        rabbitTemplate.invoke(ops -> {
+            ops.send(RabbitMQConfig.HIRING_EXCHANGE, "notification.email", new Message(body));
+            ops.waitForConfirmsOrDie(5000);
+            return null;
+        });
+
+        rabbitTemplate.execute(channel -> {
+            GetResponse delivery = channel.basicGet(RabbitMQConfig.NOTIFICATION_QUEUE, false);
+            assertThat(delivery).isNotNull();
+            BatchAcknowledger.settle(channel, List.of(), List.of(delivery.getEnvelope().getDeliveryTag()));
+            return null;
+        });
+
+        Message parked = rabbitTemplate.receive(RabbitMQConfig.NOTIFICATION_DLQ, 5000);
+        assertThat(parked).isNotNull();
+        assertThat(parked.getBody()).isEqualTo(body);
+    }
+
+    @Test
+    void digestOutOfAttemptsIsParked() throws Exception {
+        NotificationEvent event = event();
+        String payload = objectMapper.writeValueAsString(event);
+        NotificationService notificationService = mock(NotificationService.class);
+        doThrow(new IllegalStateException("mail relay down")).when(notificationService).send(any());
+        NotificationDigestRepository digestRepository = mock(NotificationDigestRepository.class);
+        when(digestRepository.append(anyString(), anyString())).thenReturn(1L);
+        when(digestRepository.claim(anyString(), anyLong()))
+                .thenReturn(List.of(new DigestItem(11L, payload, 4, System.currentTimeMillis())));
+
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        NotificationDigestService digestService = new NotificationDigestService(notificationService, digestRepository,
+                rabbitTemplate, objectMapper, meterRegistry, new PipelineLatencyTracker(meterRegistry, 300000, 900000),
+                true, 300000, 1, Set.of(), 5, 30000, 120000, 5000);
+
+        digestService.submit(event, null);
+
+        Message parked = rabbitTemplate.receive(RabbitMQConfig.NOTIFICATION_DLQ, 5000);
+        assertThat(parked).isNotNull();
+        assertThat(new String(parked.getBody(), StandardCharsets.UTF_8)).isEqualTo(payload);
+        verify(digestRepository).deleteAll(List.of(11L));
+        verify(digestRepository, never()).recordFailure(any(), anyLong());
+    }
+
+    private static NotificationEvent event() {
+        return NotificationEvent.builder()
+                .recipientEmail("recruiter@example.com")
+                .type("APPLICATION_SCREENED")
+                .subject("New application screened")
+                .body("Candidate scored 72/100")
+                .build();
+    }
+}
@@ -0,0 +1,201 @@
+package com.hireai.service;
+
+import com.hireai.domain.dto.response.ApplicationResponse;
+import com.hireai.domain.dto.response.CandidateDashboardResponse;
+import com.hireai.domain.dto.response.CursorPageResponse;
+import com.hireai.domain.dto.response.RecruiterDashboardResponse;
+import com.hireai.domain.entity.Application;
+import com.hireai.domain.entity.Candidate;
+import com.hireai.domain.entity.Job;
+import com.hireai.domain.entity.Resume;
+import com.hireai.domain.entity.User;
+import com.hireai.domain.enums.ApplicationStatus;
+import com.hireai.domain.enums.JobStatus;
+import com.hireai.domain.enums.UserRole;
+import com.hireai.messaging.producer.HiringEventProducer;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import jakarta.persistence.EntityManagerFactory;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.when;
+
+/**
+ * Counts the JDBC statements each application list and dashboard read prepares against a real
+ * schema with several jobs, candidates and resumes, so a lazy association touched per row (an
+ * N+1) fails the build instead of surfacing as a slow endpoint.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({ApplicationService.class, DashboardService.class})
+@Testcontainers(disabledWithoutDocker = true)
+class ApplicationQueryCountTest {
+
+    private static final int JOBS = 3;
+    private static final int CANDIDATES = 4;
+
+    @Container
+    @ServiceConnection
+    static final PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>(
+            DockerImageName.parse("pgvector/pgvector:pg16").asCompatibleSubstituteFor("postgres"));
+
+    @MockitoBean
+    private HiringEventProducer eventProducer;
+    @MockitoBean
+    private DashboardCounterService counterService;
+    @MockitoBean
+    private FunnelService funnelService;
+
+    @Autowired
+    private ApplicationService applicationService;
+    @Autowired
+    private DashboardService dashboardService;
+    @Autowired
+    private TestEntityManager entityManager;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private Job job;
+    private User candidateUser;
+
+    @BeforeEach
+    void setUp() {
+        User recruiter = entityManager.persist(User.builder()
+                .email("recruiter@example.com").password("x").fullName("Recruiter").role(UserRole.RECRUITER).build());
+        List<Job> jobs = new ArrayList<>();
+        for (int j = 0; j < JOBS; j++) {
+            jobs.add(entityManager.persist(Job.builder()
+                    .title("Job " + j).recruiter(recruiter).status(JobStatus.ACTIVE).build()));
+        }
+        for (int c = 0; c < CANDIDATES; c++) {
+            User user = entityManager.persist(User.builder()
+                    .email("candidate" + c + "@example.com").password("x").fullName("Candidate " + c)
+                    .role(UserRole.CANDIDATE).build());
+            Candidate candidate = entityManager.persist(Candidate.builder().user(user).build());
+            Resume resume = entityManager.persist(Resume.builder()
+                    .candidate(candidate).fileName("cv" + c + ".pdf").filePath("/cv" + c + ".pdf").build());
+            for (Job j : jobs) {
+                entityManager.persist(Application.builder()
+                        .job(j).candidate(candidate).resume(resume).status(ApplicationStatus.SCREENING)
+                        .aiMatchScore(BigDecimal.valueOf(72.5)).aiScreeningNotes("notes").build());
+            }
+            if (c == 0) candidateUser = user;
+        }
+        job = jobs.get(0);
+        entityManager.flush();
+        entityManager.clear();
+
+        when(counterService.counters(any(), anyLong())).thenReturn(Map.of(ApplicationStatus.SCREENING.name(), 3L));
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void listApplicationsRunsPageAndCountQueries() {
+        Page<ApplicationResponse> page = applicationService.listApplications(null, PageRequest.of(0, 5));
+
+        assertThat(page.getContent()).hasSize(5);
+        assertThat(page.getTotalElements()).isEqualTo(JOBS * CANDIDATES);
+        assertThat(page.getContent()).allSatisfy(app -> assertThat(app.getResumeId()).isNotNull());
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    @Test
+    void listApplicationsByStatusRunsPageAndCountQueries() {
+        Page<ApplicationResponse> page = applicationService.listApplications("screening", PageRequest.of(0, 5));
+
+        assertThat(page.getTotalElements()).isEqualTo(JOBS * CANDIDATES);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    @Test
+    void scrollApplicationsRunsOneQueryPerPageWithoutCount() {
+        List<ApplicationResponse> seen = new ArrayList<>();
+        String cursor = null;
+        int pages = 0;
+        do {
+            statistics.clear();
+            CursorPageResponse<ApplicationResponse> page = applicationService.scrollApplications(null, cursor, 5, false);
+            assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+            assertThat(page.getTotalElements()).isNull();
+            seen.addAll(page.getContent());
+            cursor = page.getNextCursor();
+            pages++;
+        } while (cursor != null);
+
+        assertThat(pages).isEqualTo(3);
+        assertThat(seen).hasSize(JOBS * CANDIDATES);
+        assertThat(seen).extracting(ApplicationResponse::getId).doesNotHaveDuplicates();
+        assertThat(seen).isSortedAccordingTo(Comparator.comparing(ApplicationResponse::getCreatedAt)
+                .thenComparing(ApplicationResponse::getId).reversed());
+    }
+
+    @Test
+    void scrollApplicationsCountsOnlyWhenAsked() {
+        CursorPageResponse<ApplicationResponse> page = applicationService.scrollApplications("screening", null, 5, true);
+
+        assertThat(page.getTotalElements()).isEqualTo(JOBS * CANDIDATES);
+        assertThat(page.isHasNext()).isTrue();
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    @Test
+    void jobApplicationsRunsPageAndCountQueries() {
+        Page<ApplicationResponse> page = applicationService.getJobApplications(job.getId(), PageRequest.of(0, 2));
+
+        assertThat(page.getContent()).hasSize(2);
+        assertThat(page.getTotalElements()).isEqualTo(CANDIDATES);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    @Test
+    void myApplicationsLooksUpCandidateThenPages() {
+        Page<ApplicationResponse> page = applicationService.getMyApplications(candidateUser, PageRequest.of(0, 20));
+
+        assertThat(page.getContent()).hasSize(JOBS);
+        // Candidate lookup and the page; a short last page needs no count query
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    @Test
+    void recruiterDashboardReadsRecentApplicationsInOneQuery() {
+        RecruiterDashboardResponse dashboard = dashboardService.getRecruiterDashboard();
+
+        assertThat(dashboard.getRecentApplications()).hasSize(10);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    void candidateDashboardLooksUpCandidateThenRecentApplications() {
+        CandidateDashboardResponse dashboard = dashboardService.getCandidateDashboard(candidateUser);
+
+        assertThat(dashboard.getApplications()).hasSize(JOBS);
+        assertThat(dashboard.getTotalApplications()).isEqualTo(3);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+}
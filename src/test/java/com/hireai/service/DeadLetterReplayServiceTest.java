@@ -0,0 +1,106 @@
+package com.hireai.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hireai.config.RabbitMQConfig;
+import com.hireai.domain.dto.request.DlqReplayRequest;
+import com.hireai.domain.dto.response.DlqReplayResponse;
+import com.hireai.repository.DlqReplayRepository;
+import com.hireai.repository.InterviewResponseRepository;
+import com.rabbitmq.client.AMQP;
+import com.rabbitmq.client.Channel;
+import com.rabbitmq.client.Envelope;
+import com.rabbitmq.client.GetResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.amqp.core.AmqpAdmin;
+import org.springframework.amqp.core.QueueInformation;
+import org.springframework.amqp.rabbit.core.ChannelCallback;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.TimeoutException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * A replayed interview evaluation must count as pending again, and the replay's progress must be
+ * published as fresh snapshots rather than by mutating an object other threads may be reading.
+ */
+class DeadLetterReplayServiceTest {
+
+    private static final String QUEUE = RabbitMQConfig.INTERVIEW_EVALUATE_QUEUE;
+    private static final String DLQ = RabbitMQConfig.parkingQueueName(QUEUE);
+
+    private final RabbitTemplate rabbitTemplate = mock(RabbitTemplate.class);
+    private final AmqpAdmin amqpAdmin = mock(AmqpAdmin.class);
+    private final DlqReplayRepository replayRepository = mock(DlqReplayRepository.class);
+    private final InterviewResponseRepository responseRepository = mock(InterviewResponseRepository.class);
+    private final InterviewAggregationService aggregationService = mock(InterviewAggregationService.class);
+    private final Channel channel = mock(Channel.class);
+
+    private final DeadLetterReplayService replayService = new DeadLetterReplayService(rabbitTemplate, amqpAdmin,
+            new ObjectMapper(), new SimpleMeterRegistry(), replayRepository, responseRepository, aggregationService,
+            5000, 120000);
+
+    @BeforeEach
+    void setUp() throws Exception {
+        byte[] body = "{\"eventId\":\"evt-1\",\"interviewId\":1,\"responseId\":100}".getBytes(StandardCharsets.UTF_8);
+        when(amqpAdmin.getQueueInfo(DLQ)).thenReturn(new QueueInformation(DLQ, 1, 0));
+        when(channel.basicGet(DLQ, false))
+                .thenReturn(new GetResponse(new Envelope(1L, false, "", DLQ), new AMQP.BasicProperties(), body, 0))
+                .thenReturn(null);
+        when(rabbitTemplate.execute(any())).thenAnswer(inv -> inv.<ChannelCallback<?>>getArgument(0).doInRabbit(channel));
+        when(responseRepository.clearEvaluationFailed(100L)).thenReturn(1);
+    }
+
+    @AfterEach
+    void shutdown() {
+        replayService.shutdown();
+    }
+
+    @Test
+    void replayedEvaluationIsPendingAgain() throws Exception {
+        DlqReplayResponse queued = replayService.startReplay(QUEUE, new DlqReplayRequest(10, 1000, null, null));
+
+        verify(replayRepository, timeout(5000)).update(argThat(r -> "COMPLETED".equals(r.getStatus())));
+        verify(channel).basicPublish(eq(""), eq(QUEUE), any(), any());
+        verify(responseRepository).clearEvaluationFailed(100L);
+        verify(aggregationService).recount(1L);
+        verify(channel).basicAck(1L, false);
+
+        ArgumentCaptor<DlqReplayResponse> updates = ArgumentCaptor.forClass(DlqReplayResponse.class);
+        verify(replayRepository, atLeastOnce()).update(updates.capture());
+        List<DlqReplayResponse> snapshots = updates.getAllValues();
+        assertThat(snapshots.get(0).getStatus()).isEqualTo("RUNNING");
+        assertThat(snapshots.get(0).getReplayed()).isZero();
+        assertThat(snapshots.get(snapshots.size() - 1).getReplayed()).isEqualTo(1);
+        assertThat(queued.getStatus()).isEqualTo("QUEUED");
+    }
+
+    @Test
+    void unconfirmedCopyLeavesEvaluationFailed() throws Exception {
+        doThrow(new TimeoutException("no confirm")).when(channel).waitForConfirmsOrDie(anyLong());
+
+        replayService.startReplay(QUEUE, new DlqReplayRequest(10, 1000, null, null));
+
+        verify(replayRepository, timeout(5000)).update(argThat(r -> "FAILED".equals(r.getStatus())));
+        verify(responseRepository, never()).clearEvaluationFailed(any());
+        verify(channel, never()).basicAck(anyLong(), anyBoolean());
+    }
+}
@@ -0,0 +1,113 @@
+package com.hireai.service;
+
+import com.hireai.ai.dto.InterviewQuestions;
+import com.hireai.domain.entity.Application;
+import com.hireai.domain.entity.Candidate;
+import com.hireai.domain.entity.Job;
+import com.hireai.domain.entity.User;
+import com.hireai.domain.enums.ApplicationStatus;
+import com.hireai.domain.enums.JobStatus;
+import com.hireai.domain.enums.UserRole;
+import com.hireai.messaging.producer.HiringEventProducer;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import jakarta.persistence.EntityManagerFactory;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+/**
+ * Counts the JDBC round trips of creating an interview. With IDENTITY keys every question was its
+ * own INSERT (2 + questions statements); with pooled sequences the questions go out as one batch,
+ * so the count stays flat as interviews grow.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(InterviewService.class)
+@Testcontainers(disabledWithoutDocker = true)
+@Slf4j
+class InterviewCreationBatchingTest {
+
+    @Container
+    @ServiceConnection
+    static final PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>(
+            DockerImageName.parse("pgvector/pgvector:pg16").asCompatibleSubstituteFor("postgres"));
+
+    @MockitoBean
+    private InterviewAIService interviewAIService;
+    @MockitoBean
+    private InterviewAggregationService aggregationService;
+    @MockitoBean
+    private HiringEventProducer eventProducer;
+
+    @Autowired
+    private InterviewService interviewService;
+    @Autowired
+    private TestEntityManager entityManager;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private Long applicationId;
+
+    @BeforeEach
+    void setUp() {
+        User recruiter = entityManager.persist(User.builder()
+                .email("recruiter@example.com").password("x").fullName("Recruiter").role(UserRole.RECRUITER).build());
+        Job job = entityManager.persist(Job.builder().title("Engineer").recruiter(recruiter).status(JobStatus.ACTIVE).build());
+        User user = entityManager.persist(User.builder()
+                .email("candidate@example.com").password("x").fullName("Candidate").role(UserRole.CANDIDATE).build());
+        Candidate candidate = entityManager.persist(Candidate.builder().user(user).build());
+        applicationId = entityManager.persist(Application.builder()
+                .job(job).candidate(candidate).status(ApplicationStatus.INTERVIEW).build()).getId();
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    void roundTripsStayFlatAsQuestionsGrow() {
+        long small = roundTrips(10);
+        long large = roundTrips(40);
+
+        log.info("Interview creation round trips: 10 questions {} (IDENTITY: {}), 40 questions {} (IDENTITY: {})",
+                small, 2 + 10, large, 2 + 40);
+        // Application lookup, interview and question id blocks, one interview insert, one question batch
+        assertThat(small).isLessThanOrEqualTo(7);
+        // At most one more sequence call once the first block of question ids runs out
+        assertThat(large).isLessThanOrEqualTo(small + 1);
+    }
+
+    private long roundTrips(int questions) {
+        when(interviewAIService.generateQuestions(any(), any())).thenReturn(new InterviewQuestions(
+                IntStream.range(0, questions)
+                        .mapToObj(i -> new InterviewQuestions.Question("Question " + i, "TECHNICAL", "MEDIUM"))
+                        .toList()));
+        entityManager.clear();
+        statistics.clear();
+
+        interviewService.startInterview(applicationId, "TECHNICAL");
+        entityManager.flush();
+
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(1 + questions);
+        return statistics.getPrepareStatementCount();
+    }
+}
@@ -0,0 +1,176 @@
+package com.hireai.service;
+
+import com.hireai.ai.dto.InterviewSummary;
+import com.hireai.domain.dto.response.InterviewEvalResponse;
+import com.hireai.domain.entity.Application;
+import com.hireai.domain.entity.Candidate;
+import com.hireai.domain.entity.Interview;
+import com.hireai.domain.entity.InterviewQuestion;
+import com.hireai.domain.entity.InterviewResponse;
+import com.hireai.domain.entity.Job;
+import com.hireai.domain.entity.User;
+import com.hireai.domain.enums.ApplicationStatus;
+import com.hireai.domain.enums.InterviewStatus;
+import com.hireai.domain.enums.InterviewType;
+import com.hireai.domain.enums.JobStatus;
+import com.hireai.domain.enums.QuestionCategory;
+import com.hireai.domain.enums.UserRole;
+import com.hireai.messaging.producer.HiringEventProducer;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import jakarta.persistence.EntityManagerFactory;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.when;
+
+/**
+ * Assembles results for a 50-question interview, some questions answered twice, and checks the
+ * number of JDBC statements each read path prepares; also logs the median result latency.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(InterviewService.class)
+@Testcontainers(disabledWithoutDocker = true)
+@Slf4j
+class InterviewResultQueryCountTest {
+
+    private static final int QUESTIONS = 50;
+    private static final int TIMED_RUNS = 20;
+
+    @Container
+    @ServiceConnection
+    static final PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>(
+            DockerImageName.parse("pgvector/pgvector:pg16").asCompatibleSubstituteFor("postgres"));
+
+    @MockitoBean
+    private InterviewAIService interviewAIService;
+    @MockitoBean
+    private InterviewAggregationService aggregationService;
+    @MockitoBean
+    private HiringEventProducer eventProducer;
+
+    @Autowired
+    private InterviewService interviewService;
+    @Autowired
+    private TestEntityManager entityManager;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private Long interviewId;
+    private Long reansweredQuestionId;
+
+    @BeforeEach
+    void setUp() {
+        User recruiter = entityManager.persist(User.builder()
+                .email("recruiter@example.com").password("x").fullName("Recruiter").role(UserRole.RECRUITER).build());
+        Job job = entityManager.persist(Job.builder().title("Engineer").recruiter(recruiter).status(JobStatus.ACTIVE).build());
+        User user = entityManager.persist(User.builder()
+                .email("candidate@example.com").password("x").fullName("Candidate").role(UserRole.CANDIDATE).build());
+        Candidate candidate = entityManager.persist(Candidate.builder().user(user).build());
+        Application application = entityManager.persist(Application.builder()
+                .job(job).candidate(candidate).status(ApplicationStatus.INTERVIEW).build());
+        Interview interview = entityManager.persist(Interview.builder()
+                .application(application).interviewType(InterviewType.TECHNICAL).status(InterviewStatus.IN_PROGRESS).build());
+
+        QuestionCategory[] categories = QuestionCategory.values();
+        for (int i = 0; i < QUESTIONS; i++) {
+            InterviewQuestion question = entityManager.persist(InterviewQuestion.builder()
+                    .interview(interview).questionText("Question " + i).category(categories[i % categories.length])
+                    .difficulty("MEDIUM").orderIndex(i + 1).build());
+            // The last question stays unanswered; every fifth is answered twice
+            if (i == QUESTIONS - 1) continue;
+            answer(question, 6);
+            if (i % 5 == 0) {
+                answer(question, 9);
+                reansweredQuestionId = question.getId();
+            }
+        }
+        interviewId = interview.getId();
+        entityManager.flush();
+        entityManager.clear();
+
+        when(aggregationService.progress(anyLong())).thenReturn(new InterviewAggregationService.Progress(0, Map.of()));
+        when(interviewAIService.generateSummary(any(), any()))
+                .thenReturn(new InterviewSummary(7, "HIRE", "Solid", List.of(), List.of()));
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    private void answer(InterviewQuestion question, int score) {
+        entityManager.persist(InterviewResponse.builder()
+                .question(question).answerText("Answer").answeredAt(LocalDateTime.now())
+                .aiScore(BigDecimal.valueOf(score)).aiFeedback("Feedback " + score).build());
+    }
+
+    @Test
+    void getResultRunsOneStatement() {
+        InterviewEvalResponse result = interviewService.getResult(interviewId);
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(result.getQuestionScores()).hasSize(QUESTIONS - 1);
+        assertThat(result.getQuestionScores())
+                .filteredOn(score -> score.getQuestionId().equals(reansweredQuestionId))
+                .singleElement()
+                .satisfies(score -> assertThat(score.getScore()).isEqualByComparingTo("9"));
+        assertThat(result.getCategoryScores()).isNotEmpty();
+    }
+
+    @Test
+    void completeInterviewLoadsUpdatesAndReadsResult() {
+        when(aggregationService.tryClaimSummary(interviewId)).thenReturn(false);
+
+        InterviewEvalResponse result = interviewService.completeInterview(interviewId);
+
+        assertThat(result.getStatus()).isEqualTo(InterviewStatus.COMPLETED.name());
+        // Interview with job, the status update flushed ahead of the result query, the result query
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(3);
+    }
+
+    @Test
+    void summaryLoadsInterviewAndAnswersInTwoStatements() {
+        when(aggregationService.tryClaimSummary(interviewId)).thenReturn(true);
+
+        assertThat(interviewService.summarizeIfReady(interviewId)).isTrue();
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    @Test
+    void measuresResultLatency() {
+        long[] nanos = new long[TIMED_RUNS];
+        for (int run = -5; run < TIMED_RUNS; run++) {
+            entityManager.clear();
+            long start = System.nanoTime();
+            interviewService.getResult(interviewId);
+            if (run >= 0) nanos[run] = System.nanoTime() - start;
+        }
+        Arrays.sort(nanos);
+        log.info("getResult for a {}-question interview: median {} us, max {} us",
+                QUESTIONS, nanos[TIMED_RUNS / 2] / 1000, nanos[TIMED_RUNS - 1] / 1000);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(TIMED_RUNS + 5);
+    }
+}
@@ -0,0 +1,118 @@
+package com.hireai.service;
+
+import com.hireai.ai.dto.InterviewSummary;
+import com.hireai.domain.entity.Application;
+import com.hireai.domain.entity.Interview;
+import com.hireai.domain.entity.InterviewQuestion;
+import com.hireai.domain.entity.Job;
+import com.hireai.domain.enums.InterviewStatus;
+import com.hireai.messaging.producer.HiringEventProducer;
+import com.hireai.repository.ApplicationRepository;
+import com.hireai.repository.InterviewQuestionRepository;
+import com.hireai.repository.InterviewRepository;
+import com.hireai.repository.InterviewResponseRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.AbstractPlatformTransactionManager;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Checks that the interview summary's LLM call runs with no transaction, and so no pooled
+ * connection, held: loading and persisting happen in their own short transactions around it.
+ */
+class InterviewSummaryTransactionTest {
+
+    private static final long INTERVIEW_ID = 7L;
+
+    private final CountingTransactionManager transactionManager = new CountingTransactionManager();
+    private final InterviewRepository interviewRepository = mock(InterviewRepository.class);
+    private final InterviewQuestionRepository questionRepository = mock(InterviewQuestionRepository.class);
+    private final InterviewAIService interviewAIService = mock(InterviewAIService.class);
+    private final InterviewAggregationService aggregationService = mock(InterviewAggregationService.class);
+
+    private final InterviewService interviewService = new InterviewService(interviewRepository, questionRepository,
+            mock(InterviewResponseRepository.class), mock(ApplicationRepository.class), interviewAIService,
+            aggregationService, mock(HiringEventProducer.class), transactionManager);
+
+    @Test
+    void summaryCallHoldsNoTransaction() {
+        Interview interview = Interview.builder().id(INTERVIEW_ID).status(InterviewStatus.COMPLETED)
+                .application(Application.builder().job(Job.builder().id(1L).title("Engineer").build()).build())
+                .build();
+        when(aggregationService.tryClaimSummary(INTERVIEW_ID)).thenReturn(true);
+        when(interviewRepository.findWithJobById(INTERVIEW_ID)).thenReturn(Optional.of(interview));
+        when(interviewRepository.findById(INTERVIEW_ID)).thenReturn(Optional.of(interview));
+        when(interviewRepository.save(any())).thenAnswer(inv -> inv.getArgument(0));
+        when(questionRepository.findWithResponsesByInterviewId(INTERVIEW_ID))
+                .thenReturn(List.of(InterviewQuestion.builder().id(1L).questionText("Why?").build()));
+
+        AtomicBoolean transactionDuringCall = new AtomicBoolean();
+        when(interviewAIService.generateSummary(any(), any())).thenAnswer(inv -> {
+            transactionDuringCall.set(TransactionSynchronizationManager.isActualTransactionActive()
+                    || transactionManager.open.get() > 0);
+            return new InterviewSummary(8, "HIRE", "Strong answers", List.of(), List.of());
+        });
+
+        assertThat(interviewService.summarizeIfReady(INTERVIEW_ID)).isTrue();
+
+        assertThat(transactionDuringCall).isFalse();
+        assertThat(transactionManager.begun).hasValue(2);
+        assertThat(interview.getStatus()).isEqualTo(InterviewStatus.EVALUATED);
+        verify(interviewRepository).save(interview);
+    }
+
+    @Test
+    void failedSummaryReleasesClaim() {
+        when(aggregationService.tryClaimSummary(INTERVIEW_ID)).thenReturn(true);
+        when(interviewRepository.findWithJobById(INTERVIEW_ID)).thenReturn(Optional.of(Interview.builder()
+                .id(INTERVIEW_ID).application(Application.builder().job(Job.builder().id(1L).build()).build()).build()));
+        when(interviewAIService.generateSummary(any(), any())).thenThrow(new IllegalStateException("LLM down"));
+
+        assertThat(interviewService.summarizeIfReady(INTERVIEW_ID)).isFalse();
+
+        verify(aggregationService).releaseSummaryClaim(INTERVIEW_ID);
+        assertThat(transactionManager.open).hasValue(0);
+    }
+
+    static class CountingTransactionManager extends AbstractPlatformTransactionManager {
+
+        final AtomicInteger begun = new AtomicInteger();
+        final AtomicInteger open = new AtomicInteger();
+
+        @Override
+        protected Object doGetTransaction() {
+            return new Object();
+        }
+
+        @Override
+        protected void doBegin(Object transaction, TransactionDefinition definition) {
+            begun.incrementAndGet();
+            open.incrementAndGet();
+        }
+
+        @Override
+        protected void doCommit(DefaultTransactionStatus status) {
+        }
+
+        @Override
+        protected void doRollback(DefaultTransactionStatus status) {
+        }
+
+        @Override
+        protected void doCleanupAfterCompletion(Object transaction) {
+            open.decrementAndGet();
+        }
+    }
+}